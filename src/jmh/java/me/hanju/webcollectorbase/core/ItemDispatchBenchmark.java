@@ -0,0 +1,111 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.progress.LatencyHistogram;
+
+/**
+ * 아무 일도 하지 않는 아이템으로 {@link AbstractItemProcessor}의 발급/집계 오버헤드를 측정합니다.
+ * <p>
+ * {@code ./gradlew jmh}로 실행합니다. 한 번의 호출이 {@value #ITEMS}개 아이템을 처리하도록 {@link OperationsPerInvocation}을 지정했으므로
+ * 처리량과 {@code gc.alloc.rate.norm}은 이미 아이템당 값입니다.
+ * </p>
+ * <p>
+ * {@code pool}은 모든 작업 스레드가 아이템마다 같은 {@link LatencyHistogram}에 기록하므로 {@code direct}와의 차이에 기록 경합이 포함됩니다.
+ * 그 기록 비용만은 {@link LatencyHistogramBenchmark}로 따로 측정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class ItemDispatchBenchmark {
+
+  private static final int ITEMS = 100_000;
+
+  @Param({ "100", "1000" })
+  private int batchSize;
+
+  @Param({ "direct", "pool" })
+  private String executorType;
+
+  private List<Integer> items;
+  private ExecutorService pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    items = new ArrayList<>(ITEMS);
+    for (int i = 0; i < ITEMS; i++) {
+      items.add(i);
+    }
+    pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public ItemProcessedResult process() {
+    final Executor executor = "pool".equals(executorType) ? pool : Runnable::run;
+    return new NoOpProcessor(items, executor).process(batchSize);
+  }
+
+  /** 아이템 처리와 저장이 비어 있는 프로세서 */
+  private static final class NoOpProcessor extends AbstractItemProcessor<Integer> {
+    private final List<Integer> items;
+    private final Executor executor;
+    private int position;
+
+    private NoOpProcessor(final List<Integer> items, final Executor executor) {
+      this.items = items;
+      this.executor = executor;
+    }
+
+    @Override
+    protected List<Integer> fetchNextBatch(final int size) {
+      final int end = Math.min(items.size(), position + size);
+      final List<Integer> batch = items.subList(position, end);
+      position = end;
+      return batch;
+    }
+
+    @Override
+    protected void processItem(final Integer item) {
+      // 발급 오버헤드만 측정
+    }
+
+    @Override
+    protected void saveBatch() {
+      // 발급 오버헤드만 측정
+    }
+
+    @Override
+    public Executor getExecutor() {
+      return executor;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.hanju.webcollectorbase.core.progress.LatencyHistogram;
+
+/**
+ * 모든 코어의 스레드가 {@link LatencyHistogram} 하나에 동시에 기록하는 비용을 측정합니다.
+ * <p>
+ * {@link ItemDispatchBenchmark}의 {@code pool} 결과에는 작업 스레드들이 아이템마다 같은 히스토그램에 기록하는 경합이 포함되며,
+ * 이 벤치마크는 그 기록 비용만 따로 보여줍니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+public class LatencyHistogramBenchmark {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Benchmark
+  public void record() {
+    histogram.record(ThreadLocalRandom.current().nextLong(1_000L, 10_000_000L));
+  }
+}
@@ -0,0 +1,400 @@
+package me.hanju.webcollectorbase.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+import me.hanju.webcollectorbase.core.progress.RunStatistics;
+
+/**
+ * 비동기 API 기반 배치 처리를 위한 추상 클래스.
+ * <p>
+ * {@link AbstractItemProcessor}와 같은 흐름(배치 읽기 → 아이템 처리 → 비동기 flush)을 따르지만,
+ * {@link #fetchNextBatch(int)}, {@link #processItem(Object)}, {@link #saveBatch()}가 {@link CompletionStage}를 반환합니다.
+ * 엔진은 아이템마다 스레드를 점유하지 않고 완료 콜백으로 다음 단계를 이어가므로,
+ * 비동기 HTTP 클라이언트를 사용하면 적은 스레드로 수천 건의 요청을 동시에 진행할 수 있습니다.
+ * </p>
+ * <p>
+ * 동시에 진행 중인 아이템 수는 {@link #getMaxInFlightItems()}, 대기 중인 flush 수는 {@link #getMaxPendingFlushes()}로 제한되며,
+ * 한도에 걸린 작업은 스레드를 막지 않고 차례를 기다립니다.
+ * 후속 단계는 직전 단계를 완료한 스레드에서 실행되므로 {@link #getExecutor()}는 사용하지 않습니다.
+ * 완료 스레드(예: HTTP 클라이언트의 스레드)에서 블로킹 작업을 하지 마세요.
+ * </p>
+ * <p>
+ * {@link #getItemTimeout()}, {@link #getFlushTimeout()}을 지정하면 제한 시간이 지난 작업의 future를 취소하고
+ * {@link BatchTimeoutException}으로 실패 처리합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * public class ArticleProcessor extends AbstractAsyncItemProcessor<Long> {
+ *     protected CompletionStage<List<Long>> fetchNextBatch(int batchSize) {
+ *         return CompletableFuture.completedFuture(idCursor.next(batchSize));
+ *     }
+ *
+ *     protected CompletionStage<Void> processItem(Long id) {
+ *         return httpClient.sendAsync(requestFor(id), BodyHandlers.ofString())
+ *             .thenAccept(response -> buffer.add(parse(response.body())));
+ *     }
+ *
+ *     protected CompletionStage<Void> saveBatch() {
+ *         return repository.saveAllAsync(drain(buffer));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> 처리할 아이템 타입
+ */
+public abstract class AbstractAsyncItemProcessor<T> implements BatchExecutionConfig {
+
+  /**
+   * 전체 처리 대상 수를 반환합니다. (선택적)
+   *
+   * @return 전체 처리 대상 수, 모르면 null
+   */
+  protected Long getTotalCount() {
+    return null;
+  }
+
+  /**
+   * 다음 배치를 읽어옵니다.
+   * <p>
+   * 빈 리스트로 완료되면 처리가 종료됩니다.
+   * </p>
+   *
+   * @param batchSize 읽어올 배치 크기
+   * @return 읽어온 아이템 목록으로 완료되는 stage
+   */
+  protected abstract CompletionStage<List<T>> fetchNextBatch(int batchSize);
+
+  /**
+   * 개별 아이템을 처리합니다.
+   * <p>
+   * 예외로 완료되거나 메서드가 예외를 던지면 해당 아이템만 실패로 집계됩니다.
+   * </p>
+   *
+   * @param item 처리할 아이템
+   * @return 처리가 끝나면 완료되는 stage
+   */
+  protected abstract CompletionStage<Void> processItem(T item);
+
+  /**
+   * 현재까지 처리된 데이터를 저장합니다.
+   *
+   * @return 저장이 끝나면 완료되는 stage
+   */
+  protected abstract CompletionStage<Void> saveBatch();
+
+  /**
+   * 동시에 진행할 수 있는 아이템의 최대 개수를 반환합니다.
+   * <p>
+   * 배치 크기보다 작으면 배치 안에서도 한도만큼씩 진행합니다.
+   * 원격 서버의 동시 연결 한도에 맞추어 조정하세요.
+   * </p>
+   *
+   * @return 최대 동시 진행 아이템 수 (기본: 1024)
+   */
+  protected int getMaxInFlightItems() {
+    return 1024;
+  }
+
+  /**
+   * 배치의 모든 아이템 처리가 끝난 뒤, 해당 배치의 flush를 예약하기 전에 호출됩니다.
+   * 기본적으로 아무런 동작도 하지 않습니다.
+   *
+   * @param batch 배치 번호
+   */
+  protected void onBatchProcessed(int batch) {
+    // no-op by default
+  }
+
+  /**
+   * 아이템들을 배치로 처리하고 끝날 때까지 기다립니다.
+   *
+   * @param batchSize 배치 크기
+   * @return 처리 결과
+   */
+  public ItemProcessedResult process(final int batchSize) {
+    return process(batchSize, IItemProcessorLogger.noOp());
+  }
+
+  /**
+   * 아이템들을 배치로 처리하고 끝날 때까지 기다립니다.
+   *
+   * @param batchSize 배치 크기
+   * @param logger    로거
+   * @return 처리 결과
+   */
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    return processAsync(batchSize, logger).join();
+  }
+
+  /**
+   * 아이템들을 배치로 처리합니다.
+   * <p>
+   * 반환된 future는 항상 정상 완료되며, 처리 중 발생한 예외는 {@link IItemProcessorLogger#onError}와
+   * {@link TerminationReason#ERROR}로 전달됩니다.
+   * </p>
+   *
+   * @param batchSize 배치 크기
+   * @param logger    로거
+   * @return 모든 flush가 끝나면 처리 결과로 완료되는 future
+   */
+  public CompletableFuture<ItemProcessedResult> processAsync(final int batchSize, final IItemProcessorLogger logger) {
+    final Run run = new Run(batchSize, logger);
+    logger.onStart(getTotalCount());
+    drive(run);
+    return run.result;
+  }
+
+  /**
+   * 배치를 차례로 진행합니다.
+   * <p>
+   * 배치가 동기적으로 끝나면 반복문으로, 비동기로 끝나면 완료 콜백에서 다시 호출되므로
+   * 배치 수만큼 호출 스택이 쌓이지 않습니다.
+   * </p>
+   */
+  private void drive(final Run run) {
+    while (true) {
+      if (isShutdownRequested()) {
+        finish(run, null);
+        return;
+      }
+      final CompletableFuture<Boolean> step;
+      try {
+        step = runBatch(run);
+      } catch (Exception e) {
+        finish(run, e);
+        return;
+      }
+      if (!step.isDone()) {
+        step.whenComplete((hasMore, e) -> {
+          if (e != null) {
+            finish(run, unwrap(e));
+          } else if (hasMore) {
+            drive(run);
+          } else {
+            finish(run, null);
+          }
+        });
+        return;
+      }
+      final boolean hasMore;
+      try {
+        hasMore = step.join();
+      } catch (CompletionException e) {
+        finish(run, unwrap(e));
+        return;
+      }
+      if (!hasMore) {
+        finish(run, null);
+        return;
+      }
+    }
+  }
+
+  /**
+   * 배치 하나를 읽고 처리한 뒤 flush를 예약합니다.
+   *
+   * @return 다음 배치가 있을 수 있으면 true, 빈 배치를 읽었으면 false로 완료되는 future
+   */
+  private CompletableFuture<Boolean> runBatch(final Run run) {
+    return call(() -> fetchNextBatch(run.batchSize)).thenCompose(batch -> {
+      if (batch == null || batch.isEmpty()) {
+        return CompletableFuture.completedFuture(false);
+      }
+      final int batchNumber = run.batchNumber.incrementAndGet();
+      run.logger.onBatchFetched(batchNumber, batch.size());
+
+      final CompletableFuture<?>[] items = new CompletableFuture<?>[batch.size()];
+      for (int i = 0; i < items.length; i++) {
+        final T item = batch.get(i);
+        final long index = run.totalProcessed.incrementAndGet();
+        items[i] = run.itemPermits.acquire().thenCompose(ignored -> runItem(run, item, index));
+      }
+      return CompletableFuture.allOf(items)
+          .thenCompose(ignored -> {
+            onBatchProcessed(batchNumber);
+            return run.flushPermits.acquire();
+          })
+          .thenApply(ignored -> {
+            run.flushes.add(flush(run, batchNumber));
+            return true;
+          });
+    });
+  }
+
+  /**
+   * 아이템 하나를 처리하고 결과를 기록합니다.
+   *
+   * @return 결과가 기록되면 정상 완료되는 future
+   */
+  private CompletableFuture<Void> runItem(final Run run, final T item, final long index) {
+    final Duration itemTimeout = getItemTimeout();
+    final long start = System.nanoTime();
+    return bounded(call(() -> processItem(item)), itemTimeout).handle((ignored, e) -> {
+      final long elapsed = System.nanoTime() - start;
+      try {
+        if (e == null) {
+          run.successCount.incrementAndGet();
+          run.logger.onItemSuccess(index, elapsed);
+        } else if (e instanceof TimeoutException) {
+          run.failureCount.incrementAndGet();
+          run.timeoutCount.incrementAndGet();
+          run.logger.onItemFail(index,
+              new BatchTimeoutException("아이템 처리 제한 시간(" + itemTimeout + ")을 넘겼습니다."), elapsed);
+        } else {
+          run.failureCount.incrementAndGet();
+          run.logger.onItemFail(index, asException(e), elapsed);
+        }
+      } finally {
+        run.itemPermits.release();
+      }
+      return null;
+    });
+  }
+
+  private CompletableFuture<Void> flush(final Run run, final int batchNumber) {
+    final long processedCount = run.successCount.get();
+    final Duration flushTimeout = getFlushTimeout();
+    return bounded(call(this::saveBatch), flushTimeout).handle((ignored, e) -> {
+      try {
+        if (e == null) {
+          run.logger.onBatchSuccess(batchNumber, processedCount);
+        } else if (e instanceof TimeoutException) {
+          run.logger.onBatchFail(batchNumber,
+              new BatchTimeoutException("flush 제한 시간(" + flushTimeout + ")을 넘겼습니다."));
+        } else {
+          run.logger.onBatchFail(batchNumber, asException(e));
+        }
+      } finally {
+        run.flushPermits.release();
+      }
+      return null;
+    });
+  }
+
+  /**
+   * 진행 중인 flush를 모두 기다린 뒤 결과를 확정합니다.
+   */
+  private void finish(final Run run, final Throwable error) {
+    CompletableFuture.allOf(run.flushes.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, e) -> {
+      final TerminationReason reason;
+      if (error != null) {
+        reason = TerminationReason.ERROR;
+        run.logger.onError(run.totalProcessed.get(), run.successCount.get(), run.failureCount.get(),
+            asException(error));
+      } else {
+        reason = isShutdownRequested() ? TerminationReason.SHUTDOWN_REQUESTED : TerminationReason.COMPLETED;
+        run.logger.onComplete(run.totalProcessed.get(), run.successCount.get(), run.failureCount.get());
+      }
+      run.result.complete(new ItemProcessedResult(run.totalProcessed.get(), run.successCount.get(),
+          run.failureCount.get(), 0L, run.timeoutCount.get(), reason, RunStatistics.EMPTY));
+    });
+  }
+
+  /**
+   * 사용자 메서드를 호출하여 future로 변환합니다. 메서드가 던진 예외나 null 반환도 future로 전달합니다.
+   */
+  private static <V> CompletableFuture<V> call(final Supplier<? extends CompletionStage<V>> method) {
+    final CompletionStage<V> stage;
+    try {
+      stage = method.get();
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (stage == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (stage instanceof CompletableFuture<V> future) {
+      return future;
+    }
+    final CompletableFuture<V> future = new CompletableFuture<>();
+    stage.whenComplete((value, e) -> {
+      if (e != null) {
+        future.completeExceptionally(e);
+      } else {
+        future.complete(value);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * 제한 시간을 적용합니다.
+   * <p>
+   * 제한 시간이 지나면 원래 future를 취소하고(비동기 HTTP 요청 등이 중단됨) {@link TimeoutException}으로 완료합니다.
+   * 반환된 future의 예외는 {@link CompletionException}으로 감싸지 않은 원인입니다.
+   * </p>
+   */
+  private static <V> CompletableFuture<V> bounded(final CompletableFuture<V> attempt, final Duration timeout) {
+    final CompletableFuture<V> result = new CompletableFuture<>();
+    final AtomicBoolean timedOut = new AtomicBoolean(false);
+    final ScheduledFuture<?> timer = timeout == null ? null : TimeoutGuard.schedule(timeout, () -> {
+      if (!attempt.isDone()) {
+        // 취소가 결과보다 먼저 보이도록, 취소한 뒤 완료함
+        timedOut.set(true);
+        attempt.cancel(true);
+        result.completeExceptionally(new TimeoutException());
+      }
+    });
+    attempt.whenComplete((value, e) -> {
+      if (timer != null) {
+        timer.cancel(false);
+      }
+      if (e != null) {
+        result.completeExceptionally(timedOut.get() ? new TimeoutException() : unwrap(e));
+      } else {
+        result.complete(value);
+      }
+    });
+    return result;
+  }
+
+  private static Throwable unwrap(final Throwable e) {
+    Throwable cause = e;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static Exception asException(final Throwable e) {
+    final Throwable cause = unwrap(e);
+    return cause instanceof Exception exception
+        ? exception
+        : new BatchExecutionException("처리 중 오류가 발생했습니다.", cause);
+  }
+
+  /** 한 번의 {@link #processAsync(int, IItemProcessorLogger)} 실행 상태 */
+  private final class Run {
+    private final int batchSize;
+    private final IItemProcessorLogger logger;
+    private final AsyncSemaphore itemPermits = new AsyncSemaphore(getMaxInFlightItems());
+    private final AsyncSemaphore flushPermits = new AsyncSemaphore(getMaxPendingFlushes());
+    private final Queue<CompletableFuture<Void>> flushes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger batchNumber = new AtomicInteger(0);
+    private final AtomicLong totalProcessed = new AtomicLong(0);
+    private final AtomicLong successCount = new AtomicLong(0);
+    private final AtomicLong failureCount = new AtomicLong(0);
+    private final AtomicLong timeoutCount = new AtomicLong(0);
+    private final CompletableFuture<ItemProcessedResult> result = new CompletableFuture<>();
+
+    private Run(final int batchSize, final IItemProcessorLogger logger) {
+      this.batchSize = batchSize;
+      this.logger = logger;
+    }
+  }
+}
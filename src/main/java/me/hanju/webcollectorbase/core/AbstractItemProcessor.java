@@ -1,13 +1,40 @@
 package me.hanju.webcollectorbase.core;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
+import me.hanju.webcollectorbase.core.cache.CacheStats;
+import me.hanju.webcollectorbase.core.cache.SingleFlightCache;
+import me.hanju.webcollectorbase.core.circuit.CircuitBreaker;
+import me.hanju.webcollectorbase.core.circuit.CircuitBreakerPolicy;
+import me.hanju.webcollectorbase.core.circuit.CircuitBreakerPolicy.OpenAction;
+import me.hanju.webcollectorbase.core.circuit.CircuitOpenException;
+import me.hanju.webcollectorbase.core.dedup.DuplicateFilter;
 import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+import me.hanju.webcollectorbase.core.hedge.HedgePolicy;
+import me.hanju.webcollectorbase.core.hedge.HedgeStats;
+import me.hanju.webcollectorbase.core.hedge.Hedger;
+import me.hanju.webcollectorbase.core.jfr.BatchAwaitEvent;
+import me.hanju.webcollectorbase.core.jfr.BatchFetchEvent;
+import me.hanju.webcollectorbase.core.jfr.FlushEvent;
+import me.hanju.webcollectorbase.core.jfr.FlushPermitWaitEvent;
+import me.hanju.webcollectorbase.core.jfr.ItemProcessEvent;
+import me.hanju.webcollectorbase.core.jfr.MemoryAdmissionWaitEvent;
+import me.hanju.webcollectorbase.core.memory.MemoryAdmission;
+import me.hanju.webcollectorbase.core.memory.MemoryPressurePolicy;
+import me.hanju.webcollectorbase.core.progress.ProcessingProgress;
 
 /**
  * 아이템 기반 배치 처리를 위한 추상 클래스.
@@ -23,6 +50,18 @@ import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
  */
 public abstract class AbstractItemProcessor<T> implements BatchExecutionConfig {
 
+  private static final Duration CIRCUIT_POLL_INTERVAL = Duration.ofMillis(100);
+  private static final Duration MEMORY_POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final LongAdder duplicateCount = new LongAdder();
+  private volatile SingleFlightCache<Object, Boolean> itemCache;
+  private volatile DuplicateFilter duplicateFilter;
+  private volatile Hedger hedger;
+  private volatile CircuitBreaker circuitBreaker;
+  private volatile MemoryAdmission memoryAdmission;
+  private volatile BatchGate batchGate;
+  private volatile Run currentRun;
+
   /**
    * 전체 처리 대상 수를 반환합니다. (선택적)
    * <p>
@@ -59,6 +98,276 @@ public abstract class AbstractItemProcessor<T> implements BatchExecutionConfig {
    */
   protected abstract void saveBatch();
 
+  /**
+   * 아이템의 중복 판단 키를 반환합니다. (선택적)
+   * <p>
+   * null이 아닌 키를 반환하면, 같은 키의 {@link #processItem(Object)}가 동시에 호출될 때 한 번만 실행되고
+   * 나머지는 그 결과(성공 또는 예외)를 공유합니다. 성공한 키는 {@link #createItemCache()}의 TTL 동안 기억되어
+   * 다시 들어와도 처리를 생략하고 성공으로 집계됩니다.
+   * 기본적으로 null을 반환합니다. (중복 합치기 사용 안 함)
+   * </p>
+   *
+   * @param item 처리할 아이템
+   * @return 아이템 키, 사용하지 않으면 null
+   */
+  protected Object getItemKey(T item) {
+    return null;
+  }
+
+  /**
+   * {@link #getItemKey(Object)}에 사용할 캐시를 생성합니다.
+   * <p>
+   * {@link #process(int, IItemProcessorLogger)} 호출 시마다 새로 생성됩니다.
+   * 크기가 0인 캐시를 반환하면 동시 요청 합치기만 수행합니다.
+   * </p>
+   *
+   * @return 아이템 캐시 (기본: 최대 10,000건, TTL 1분)
+   */
+  protected SingleFlightCache<Object, Boolean> createItemCache() {
+    return new SingleFlightCache<>(10_000, Duration.ofMinutes(1));
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리의 아이템 캐시 통계를 반환합니다.
+   *
+   * @return 아이템 캐시 통계, 처리를 시작하지 않았으면 null
+   */
+  public CacheStats getItemCacheStats() {
+    final SingleFlightCache<Object, Boolean> cache = itemCache;
+    return cache == null ? null : cache.stats();
+  }
+
+  /**
+   * 아이템의 식별자 추출 함수를 반환합니다. (선택적)
+   * <p>
+   * null이 아닌 함수를 반환하면, 처리 중 이미 본 식별자의 아이템은 {@link #processItem(Object)}에 전달되지 않고
+   * {@link ItemProcessedResult#duplicateCount()}에 집계됩니다.
+   * 기본적으로 null을 반환합니다. (아이템 중복 제거 사용 안 함)
+   * </p>
+   *
+   * @return 아이템 식별자 추출 함수, 사용하지 않으면 null
+   */
+  protected ToLongFunction<T> getItemIdentityExtractor() {
+    return null;
+  }
+
+  /**
+   * 중복 제거에 사용할 필터를 생성합니다.
+   * <p>
+   * {@link #process(int, IItemProcessorLogger)} 호출 시마다 새로 생성되며,
+   * {@link #getItemIdentityExtractor()}와 {@link #markSeen(long)}에서 함께 사용합니다.
+   * 수천만 건 이상을 처리하여 메모리 상한이 필요하면 {@link DuplicateFilter#bloom(long, double)}을 반환하세요.
+   * </p>
+   *
+   * @return 중복 필터 (기본: {@link DuplicateFilter#hashSet(int)})
+   */
+  protected DuplicateFilter createDuplicateFilter() {
+    return DuplicateFilter.hashSet(1024);
+  }
+
+  /**
+   * 처리 중 식별자를 처음 보는지 확인하고 기록합니다.
+   * <p>
+   * 페이지 경계가 밀려 같은 레코드가 두 페이지에 나타나는 경우처럼, 아이템 내부의 레코드 중복을 걸러낼 때 사용합니다.
+   * 중복이면 {@link ItemProcessedResult#duplicateCount()}에 집계됩니다.
+   * </p>
+   *
+   * @param identity 레코드 식별자
+   * @return 처음 본 식별자면 true, 중복이면 false
+   * @throws IllegalStateException 처리 중이 아닌 경우
+   */
+  protected final boolean markSeen(final long identity) {
+    final DuplicateFilter filter = duplicateFilter;
+    if (filter == null) {
+      throw new IllegalStateException("markSeen()은 process() 실행 중에만 호출할 수 있습니다.");
+    }
+    if (filter.add(identity)) {
+      return true;
+    }
+    duplicateCount.increment();
+    return false;
+  }
+
+  /**
+   * 느린 요청을 헤징할 정책을 반환합니다. (선택적)
+   * <p>
+   * null이 아닌 정책을 반환하면 {@link #hedged(Callable)}로 감싼 요청이 최근 지연 시간의 분위 기준을 넘길 때
+   * 같은 요청을 한 번 더 보내고, 먼저 끝난 결과를 사용합니다.
+   * 기본적으로 null을 반환합니다. (헤징 사용 안 함)
+   * </p>
+   *
+   * @return 헤징 정책, 사용하지 않으면 null
+   */
+  protected HedgePolicy getHedgePolicy() {
+    return null;
+  }
+
+  /**
+   * 요청을 헤징하여 실행합니다.
+   * <p>
+   * {@link #processItem(Object)}의 부작용(버퍼 추가 등)은 두 번 실행되면 안 되므로,
+   * 그 안에서 부작용이 없는 원격 조회만 감싸서 사용하세요.
+   * {@link #getHedgePolicy()}가 null이거나 처리 중이 아니면 현재 스레드에서 그대로 실행합니다.
+   * </p>
+   *
+   * <pre>{@code
+   * protected void processItem(Long articleId) {
+   *     Article article = hedged(() -> apiClient.getArticle(articleId));
+   *     buffer.add(article);
+   * }
+   * }</pre>
+   *
+   * @param request 부작용이 없는 요청
+   * @param <R>     결과 타입
+   * @return 요청 결과
+   * @throws BatchExecutionException 요청이 checked 예외로 실패한 경우 (RuntimeException은 그대로 전달)
+   */
+  protected final <R> R hedged(final Callable<R> request) {
+    final Hedger current = hedger;
+    if (current != null && !current.isClosed()) {
+      return current.call(request);
+    }
+    try {
+      return request.call();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BatchExecutionException("요청에 실패했습니다.", e);
+    }
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리의 헤징 통계를 반환합니다.
+   *
+   * @return 헤징 통계, 헤징을 사용하지 않았으면 null
+   */
+  public HedgeStats getHedgeStats() {
+    final Hedger current = hedger;
+    return current == null ? null : current.stats();
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리의 진행 상황을 반환합니다.
+   * <p>
+   * 어느 스레드에서나 호출할 수 있고 처리를 멈추지 않으므로, 대시보드에서 주기적으로 조회하는 용도로 사용할 수 있습니다.
+   * {@link #getTotalCount()}를 알면 최근 처리량 기준의 남은 예상 시간이 포함됩니다.
+   * </p>
+   *
+   * @return 진행 상황 스냅샷, 처리를 시작한 적이 없으면 {@link ProcessingProgress#NOT_STARTED}
+   */
+  public ProcessingProgress getProgress() {
+    final Run run = currentRun;
+    if (run == null) {
+      return ProcessingProgress.NOT_STARTED;
+    }
+    return run.progress.snapshot(run.totalProcessed, run.successCount.sum(), run.failureCount.sum(),
+        run.totalCount, run.maxPendingFlushes - run.flushSlots.availablePermits());
+  }
+
+  /**
+   * 아이템 처리에 적용할 서킷 브레이커 정책을 반환합니다. (선택적)
+   * <p>
+   * null이 아닌 정책을 반환하면 {@link #processItem(Object)}의 실패율과 느린 호출 비율을 감시하여,
+   * 기준을 넘으면 서킷을 열고 아이템 발급을 멈춥니다.
+   * {@link OpenAction#PAUSE}면 대기 후 시험 호출로 회복을 확인하며, 서킷이 열린 동안 실행하지 못한 아이템은 회복 후 다시 발급됩니다.
+   * {@link OpenAction#ABORT}면 처리를 조기 종료하고 {@link ItemProcessedResult#terminationReason()}에
+   * {@link TerminationReason#CIRCUIT_OPEN}을 기록합니다.
+   * 기본적으로 null을 반환합니다. (서킷 브레이커 사용 안 함)
+   * </p>
+   *
+   * @return 서킷 브레이커 정책, 사용하지 않으면 null
+   */
+  protected CircuitBreakerPolicy getCircuitBreakerPolicy() {
+    return null;
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리의 서킷 상태를 반환합니다.
+   *
+   * @return 서킷 상태, 서킷 브레이커를 사용하지 않았으면 null
+   */
+  public CircuitBreaker.State getCircuitState() {
+    final CircuitBreaker breaker = circuitBreaker;
+    return breaker == null ? null : breaker.getState();
+  }
+
+  /**
+   * 힙 사용량에 따라 배치 발급을 늦추거나 멈출 정책을 반환합니다. (선택적)
+   * <p>
+   * null이 아닌 정책을 반환하면 배치를 읽기 전마다 힙 사용률을 확인하여, lowWatermark 이상이면 대기 중인 flush가 모두 끝난 뒤에 읽고,
+   * highWatermark 이상이면 사용률이 lowWatermark 아래로 내려갈 때까지 읽지 않습니다.
+   * 정책에 무게 한도를 두면 {@link #estimateItemWeight(Object)}의 합으로 flush를 기다리는 배치의 양도 제한합니다.
+   * 기본적으로 null을 반환합니다. (메모리 기반 제어 사용 안 함)
+   * </p>
+   *
+   * @return 메모리 압력 정책, 사용하지 않으면 null
+   */
+  protected MemoryPressurePolicy getMemoryPressurePolicy() {
+    return null;
+  }
+
+  /**
+   * 아이템을 처리한 결과가 flush 전까지 차지할 메모리를 추정합니다. (선택적)
+   * <p>
+   * {@link #getMemoryPressurePolicy()}가 null이 아닐 때 발급하는 아이템마다 호출되며, 배치의 무게는 그 배치의 flush가 끝날 때까지
+   * {@link MemoryPressurePolicy#maxPendingWeight()}에 포함됩니다. 단위는 정책의 한도와 같으면 됩니다. (예: 바이트)
+   * 페이지 크기처럼 아이템마다 크게 다른 경우에 오버라이드합니다. 기본적으로 1을 반환합니다. (아이템 수)
+   * </p>
+   *
+   * @param item 발급할 아이템
+   * @return 추정 무게
+   */
+  protected long estimateItemWeight(T item) {
+    return 1L;
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리의 메모리 기반 발급 상태를 반환합니다.
+   *
+   * @return 발급 상태, 메모리 기반 제어를 사용하지 않았으면 null
+   */
+  public MemoryAdmission.State getMemoryAdmissionState() {
+    final MemoryAdmission admission = memoryAdmission;
+    return admission == null ? null : admission.getState();
+  }
+
+  /**
+   * 배치 진행을 외부에서 제어하는 게이트를 연결합니다. null이면 연결을 해제합니다.
+   *
+   * @param gate 배치 게이트
+   */
+  void attachBatchGate(final BatchGate gate) {
+    this.batchGate = gate;
+  }
+
+  /**
+   * 배치의 모든 아이템 처리가 끝난 뒤, 해당 배치의 flush를 예약하기 전에 호출됩니다.
+   * <p>
+   * 아이템 처리 중 시작한 비동기 작업이 flush 전에 끝나야 하는 경우 오버라이드하여 완료를 기다립니다.
+   * 기본적으로 아무런 동작도 하지 않습니다.
+   * </p>
+   *
+   * @param batch 배치 번호
+   */
+  protected void onBatchProcessed(int batch) {
+    // no-op by default
+  }
+
+  /**
+   * 배치의 {@link #saveBatch()}가 끝난 뒤, 그 결과로 호출됩니다.
+   * <p>
+   * 응답 캐시처럼 저장이 성공한 뒤에만 남겨야 하는 기록을 확정하거나, 실패한 배치의 기록을 버릴 때 오버라이드합니다.
+   * flush 제한 시간을 넘긴 배치도 저장이 실제로 끝난 뒤에 호출됩니다. 예외를 던지면 그 배치는 실패로 기록됩니다.
+   * 기본적으로 아무런 동작도 하지 않습니다.
+   * </p>
+   *
+   * @param batch   배치 번호
+   * @param success 저장에 성공했으면 true
+   */
+  protected void onBatchFlushed(int batch, boolean success) {
+    // no-op by default
+  }
+
   /**
    * 아이템들을 배치로 처리합니다.
    *
@@ -77,65 +386,149 @@ public abstract class AbstractItemProcessor<T> implements BatchExecutionConfig {
    * @return 처리 결과
    */
   public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
-    final AtomicLong totalProcessed = new AtomicLong(0);
-    final AtomicLong successCount = new AtomicLong(0);
-    final AtomicLong failureCount = new AtomicLong(0);
     final AtomicInteger batchNumber = new AtomicInteger(0);
-    final Semaphore semaphore = new Semaphore(getMaxPendingFlushes());
     final List<CompletableFuture<Void>> flushFutures = new ArrayList<>();
+    final Duration flushTimeout = getFlushTimeout();
 
-    logger.onStart(getTotalCount());
+    final ToLongFunction<T> identityExtractor = getItemIdentityExtractor();
+    itemCache = createItemCache();
+    duplicateFilter = createDuplicateFilter();
+    duplicateCount.reset();
+    final HedgePolicy hedgePolicy = getHedgePolicy();
+    hedger = hedgePolicy != null ? new Hedger(hedgePolicy) : null;
+    final CircuitBreakerPolicy circuitPolicy = getCircuitBreakerPolicy();
+    final MemoryPressurePolicy memoryPolicy = getMemoryPressurePolicy();
+    final Run run = new Run(logger, getItemTimeout(), circuitPolicy, getMaxPendingFlushes(), getTotalCount());
+    final Semaphore semaphore = run.flushSlots;
+    circuitBreaker = run.circuitBreaker;
+    final MemoryAdmission admission = memoryPolicy != null ? new MemoryAdmission(memoryPolicy) : null;
+    memoryAdmission = admission;
+    if (admission != null) {
+      admission.start();
+    }
+    currentRun = run;
+    logger.onStart(run.totalCount);
 
     try {
-      while (!isShutdownRequested()) {
-        // 다음 배치 읽기
-        final List<T> batch = fetchNextBatch(batchSize);
+      while (!isShutdownRequested() && run.terminationReason == null) {
+        // 구독자 요청량이 남아 있을 때만 다음 배치 진행
+        final BatchGate gate = batchGate;
+        if (gate != null && !gate.awaitNextBatch()) {
+          run.terminationReason = TerminationReason.SHUTDOWN_REQUESTED;
+          break;
+        }
+        // 힙 사용량이 높으면 flush가 메모리를 돌려줄 때까지 발급 보류
+        if (admission != null && !awaitMemory(run, admission, batchNumber.get() + 1)) {
+          break;
+        }
+        // 서킷이 열려 미뤄진 아이템을 먼저 다시 발급하고, 없으면 다음 배치 읽기
+        final List<DeferredItem<T>> retries = drain(run.deferredItems);
+        final BatchFetchEvent fetchEvent = new BatchFetchEvent();
+        fetchEvent.begin();
+        final long fetchStart = System.nanoTime();
+        final List<T> batch = retries.isEmpty() ? fetchNextBatch(batchSize) : List.of();
+        if (retries.isEmpty()) {
+          run.progress.recordFetch(System.nanoTime() - fetchStart);
+          if (fetchEvent.shouldCommit()) {
+            fetchEvent.batch = batchNumber.get() + 1;
+            fetchEvent.itemCount = batch == null ? 0 : batch.size();
+            fetchEvent.commit();
+          }
+        }
 
         // 빈 배치면 종료
-        if (batch == null || batch.isEmpty()) {
+        if (retries.isEmpty() && (batch == null || batch.isEmpty())) {
           break;
         }
 
         final int currentBatchNumber = batchNumber.incrementAndGet();
-        logger.onBatchFetched(currentBatchNumber, batch.size());
+        logger.onBatchFetched(currentBatchNumber, retries.isEmpty() ? batch.size() : retries.size());
 
         // 배치 내 아이템 병렬 처리
-        final List<CompletableFuture<Void>> itemFutures = new ArrayList<>();
+        run.latch.reset();
+        long batchWeight = 0L;
+        for (DeferredItem<T> retry : retries) {
+          if (!awaitCircuit(run)) {
+            break;
+          }
+          if (admission != null) {
+            batchWeight += estimateItemWeight(retry.item());
+          }
+          dispatch(run, retry.item(), retry.index(), currentBatchNumber);
+        }
         for (int i = 0; i < batch.size(); i++) {
           final T item = batch.get(i);
-          final long currentIndex = totalProcessed.incrementAndGet();
-
-          itemFutures.add(CompletableFuture.runAsync(() -> {
-            try {
-              processItem(item);
-              successCount.incrementAndGet();
-              logger.onItemSuccess(currentIndex);
-            } catch (Exception e) {
-              failureCount.incrementAndGet();
-              logger.onItemFail(currentIndex, e);
-            }
-          }, getExecutor()));
+          if (!awaitCircuit(run)) {
+            break;
+          }
+          if (identityExtractor != null && !markSeen(identityExtractor.applyAsLong(item))) {
+            onItemSkipped(item);
+            continue;
+          }
+          if (admission != null) {
+            batchWeight += estimateItemWeight(item);
+          }
+          dispatch(run, item, ++run.totalProcessed, currentBatchNumber);
         }
 
         // 현재 배치의 모든 아이템 처리 대기
-        CompletableFuture.allOf(itemFutures.toArray(new CompletableFuture[0])).join();
+        final BatchAwaitEvent awaitEvent = new BatchAwaitEvent();
+        awaitEvent.begin();
+        run.latch.arriveAndAwait();
+        if (awaitEvent.shouldCommit()) {
+          awaitEvent.batch = currentBatchNumber;
+          awaitEvent.itemCount = retries.isEmpty() ? batch.size() : retries.size();
+          awaitEvent.commit();
+        }
+        onBatchProcessed(currentBatchNumber);
 
         // 동시 실행 수를 만족시킬 수 있을 때까지 대기
+        final FlushPermitWaitEvent waitEvent = new FlushPermitWaitEvent();
+        waitEvent.begin();
+        final long waitStart = System.nanoTime();
         semaphore.acquireUninterruptibly();
-        final long currentProcessedCount = successCount.get();
-        flushFutures.add(CompletableFuture.runAsync(() -> {
+        run.progress.recordFlushWait(System.nanoTime() - waitStart);
+        if (waitEvent.shouldCommit()) {
+          waitEvent.batch = currentBatchNumber;
+          waitEvent.commit();
+        }
+        final long currentProcessedCount = run.successCount.sum();
+        final long reservedWeight = batchWeight;
+        if (admission != null) {
+          admission.reserve(reservedWeight);
+        }
+        final CompletableFuture<Void> flushSettled = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+          // 제한 시간은 실패로 기록하고 인터럽트만 보냄
+          final TimeoutGuard guard = TimeoutGuard.start(flushTimeout, () -> logger.onBatchFail(currentBatchNumber,
+              new BatchTimeoutException("flush 제한 시간(" + flushTimeout + ")을 넘겼습니다.")));
+          final long flushStart = System.nanoTime();
           try {
-            flushWithLogging(currentBatchNumber, currentProcessedCount, logger);
+            flushWithLogging(currentBatchNumber, currentProcessedCount, logger, guard);
           } finally {
-            semaphore.release();
+            run.progress.recordFlush(System.nanoTime() - flushStart);
+            TimeoutGuard.finish(guard);
+          }
+        }, getExecutor()).whenComplete((ignored, e) -> {
+          // 제한 시간과 무관하게 saveBatch가 실제로 끝난 뒤에 슬롯과 메모리를 반환
+          semaphore.release();
+          if (admission != null) {
+            admission.release(reservedWeight);
           }
-        }, getExecutor()));
+          flushSettled.complete(null);
+        });
+        flushFutures.add(flushSettled);
       }
 
       // 모든 flush 완료 대기
       CompletableFuture.allOf(flushFutures.toArray(new CompletableFuture[0])).join();
 
-      logger.onComplete(totalProcessed.get(), successCount.get(), failureCount.get());
+      if (run.terminationReason == null) {
+        run.terminationReason = isShutdownRequested()
+            ? TerminationReason.SHUTDOWN_REQUESTED
+            : TerminationReason.COMPLETED;
+      }
+      logger.onComplete(run.totalProcessed, run.successCount.sum(), run.failureCount.sum());
 
     } catch (Exception e) {
       // 에러 발생 시에도 진행 중인 flush 완료 대기 (데이터 손실 방지)
@@ -144,18 +537,320 @@ public abstract class AbstractItemProcessor<T> implements BatchExecutionConfig {
       } catch (Exception ignored) {
         // 로깅은 flushWithLogging에서 이미 처리됨
       }
-      logger.onError(totalProcessed.get(), successCount.get(), failureCount.get(), e);
+      run.terminationReason = TerminationReason.ERROR;
+      logger.onError(run.totalProcessed, run.successCount.sum(), run.failureCount.sum(), e);
+    } finally {
+      run.progress.finish();
+      if (hedger != null) {
+        hedger.close();
+      }
+      if (admission != null) {
+        admission.close();
+      }
+    }
+
+    return new ItemProcessedResult(run.totalProcessed, run.successCount.sum(), run.failureCount.sum(),
+        duplicateCount.sum(), run.timeoutCount.sum(), run.terminationReason, run.progress.statistics());
+  }
+
+  /**
+   * 서킷 상태에 따라 다음 아이템을 발급할 수 있는지 확인합니다.
+   * <p>
+   * {@link OpenAction#PAUSE}면 서킷이 다시 호출을 받을 때까지 기다리고,
+   * {@link OpenAction#ABORT}면 서킷이 열린 즉시 처리를 종료합니다.
+   * </p>
+   *
+   * @return 발급할 수 있으면 true, 처리를 끝내야 하면 false
+   */
+  private boolean awaitCircuit(final Run run) {
+    final CircuitBreaker breaker = run.circuitBreaker;
+    if (breaker == null || run.terminationReason != null) {
+      return run.terminationReason == null;
+    }
+    if (run.circuitPolicy.onOpen() == OpenAction.ABORT) {
+      if (breaker.getState() == CircuitBreaker.State.CLOSED) {
+        return true;
+      }
+      run.terminationReason = TerminationReason.CIRCUIT_OPEN;
+      return false;
+    }
+    while (!breaker.awaitCallable(CIRCUIT_POLL_INTERVAL)) {
+      if (isShutdownRequested() || Thread.currentThread().isInterrupted()) {
+        run.terminationReason = TerminationReason.SHUTDOWN_REQUESTED;
+        return false;
+      }
     }
+    return true;
+  }
 
-    return new ItemProcessedResult(totalProcessed.get(), successCount.get(), failureCount.get());
+  /**
+   * 메모리 기반 발급 허가를 기다립니다.
+   *
+   * @return 발급해도 되면 true, 기다리는 중 종료 요청을 받으면 false
+   */
+  private boolean awaitMemory(final Run run, final MemoryAdmission admission, final int batch) {
+    if (admission.awaitAdmission(Duration.ZERO)) {
+      return true;
+    }
+    final MemoryAdmissionWaitEvent event = new MemoryAdmissionWaitEvent();
+    event.begin();
+    while (!admission.awaitAdmission(MEMORY_POLL_INTERVAL)) {
+      if (isShutdownRequested() || Thread.currentThread().isInterrupted()) {
+        run.terminationReason = TerminationReason.SHUTDOWN_REQUESTED;
+        return false;
+      }
+    }
+    if (event.shouldCommit()) {
+      event.batch = batch;
+      event.state = admission.getState().name();
+      event.heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+      event.pendingWeight = admission.getPendingWeight();
+      event.commit();
+    }
+    return true;
   }
 
-  private void flushWithLogging(final int batch, final long processedCount, final IItemProcessorLogger logger) {
+  /**
+   * 아이템 하나를 Executor에 제출합니다.
+   * <p>
+   * 아이템 결과가 확정되면 배치 래치에 도착합니다. 제한 시간이 지나면 작업이 끝나지 않아도 확정됩니다.
+   * </p>
+   */
+  private void dispatch(final Run run, final T item, final long index, final int batch) {
+    run.latch.register();
     try {
-      saveBatch();
-      logger.onBatchSuccess(batch, processedCount);
+      getExecutor().execute(() -> runItem(run, item, index, batch));
+    } catch (RuntimeException e) {
+      run.latch.arrive();
+      throw e;
+    }
+  }
+
+  private void runItem(final Run run, final T item, final long index, final int batch) {
+    if (skipItem(item)) {
+      run.latch.arrive();
+      return;
+    }
+    final CircuitBreaker breaker = run.circuitBreaker;
+    final long permit = breaker != null ? breaker.tryAcquire() : 0L;
+    if (permit < 0) {
+      try {
+        rejectItem(run, item, index);
+      } finally {
+        run.latch.arrive();
+      }
+      return;
+    }
+    final ItemProcessEvent event = ItemProcessEvent.recording() ? new ItemProcessEvent() : null;
+    if (event != null) {
+      event.batch = batch;
+      event.index = index;
+      event.page = pageOf(item);
+      event.begin();
+    }
+    final long start = System.nanoTime();
+    final TimeoutGuard guard = run.itemTimeout == null ? null : TimeoutGuard.start(run.itemTimeout, () -> {
+      try {
+        recordCall(breaker, permit, start, false);
+        run.failureCount.increment();
+        run.timeoutCount.increment();
+        final long elapsed = run.progress.recordProcess(start);
+        commitItemEvent(event, false, true);
+        run.logger.onItemFail(index,
+            new BatchTimeoutException("아이템 처리 제한 시간(" + run.itemTimeout + ")을 넘겼습니다."), elapsed);
+      } finally {
+        run.latch.arrive();
+      }
+    });
+    boolean settledHere = false;
+    try {
+      invokeProcessItem(item);
+      if (TimeoutGuard.settle(guard)) {
+        settledHere = true;
+        recordCall(breaker, permit, start, true);
+        run.successCount.increment();
+        final long elapsed = run.progress.recordProcess(start);
+        commitItemEvent(event, true, false);
+        run.logger.onItemSuccess(index, elapsed);
+      }
+    } catch (Exception e) {
+      if (TimeoutGuard.settle(guard)) {
+        settledHere = true;
+        recordCall(breaker, permit, start, false);
+        run.failureCount.increment();
+        final long elapsed = run.progress.recordProcess(start);
+        commitItemEvent(event, false, false);
+        run.logger.onItemFail(index, e, elapsed);
+      }
+    } finally {
+      // 제한 시간으로 먼저 확정되었다면 감시 스레드가 이미 도착함
+      if (settledHere || TimeoutGuard.settle(guard)) {
+        run.latch.arrive();
+      }
+      TimeoutGuard.finish(guard);
+    }
+  }
+
+  /**
+   * 발급된 뒤 서킷이 열려 실행하지 못한 아이템을 처리합니다.
+   * {@link OpenAction#PAUSE}면 서킷이 회복된 뒤 다시 발급하고, {@link OpenAction#ABORT}면 실패로 기록합니다.
+   */
+  private void rejectItem(final Run run, final T item, final long index) {
+    if (run.circuitPolicy.onOpen() == OpenAction.PAUSE) {
+      run.deferredItems.add(new DeferredItem<>(item, index));
+      return;
+    }
+    onItemSkipped(item);
+    run.failureCount.increment();
+    run.logger.onItemFail(index, new CircuitOpenException("서킷이 열려 있어 아이템을 처리하지 않았습니다."));
+  }
+
+  private static void commitItemEvent(final ItemProcessEvent event, final boolean success, final boolean timedOut) {
+    if (event != null && event.shouldCommit()) {
+      event.success = success;
+      event.timedOut = timedOut;
+      event.commit();
+    }
+  }
+
+  /**
+   * JFR 아이템 이벤트에 기록할 페이지 번호를 반환합니다. {@link #processItem(Object)} 호출 전에 불립니다.
+   *
+   * @return 페이지 번호, 페이지가 아니면 -1
+   */
+  int pageOf(final T item) {
+    return -1;
+  }
+
+  /**
+   * 발급된 아이템을 실행 직전에 건너뛸지 확인합니다. 건너뛴 아이템은 성공이나 실패로 집계되지 않습니다.
+   *
+   * @return 건너뛰면 true
+   */
+  boolean skipItem(final T item) {
+    return false;
+  }
+
+  /**
+   * 발급된 아이템이 {@link #processItem(Object)} 호출 없이 끝났을 때 호출됩니다.
+   * (중복 제거, 아이템 캐시 적중이나 동시 요청 합치기, 서킷 열림으로 인한 실패)
+   */
+  void onItemSkipped(final T item) {
+    // no-op by default
+  }
+
+  private static void recordCall(final CircuitBreaker breaker, final long permit, final long start,
+      final boolean success) {
+    if (breaker != null) {
+      breaker.onResult(permit, System.nanoTime() - start, success);
+    }
+  }
+
+  private static <E> List<E> drain(final Queue<E> queue) {
+    final List<E> drained = new ArrayList<>();
+    E element;
+    while ((element = queue.poll()) != null) {
+      drained.add(element);
+    }
+    return drained;
+  }
+
+  private void invokeProcessItem(final T item) {
+    final Object key = getItemKey(item);
+    if (key == null) {
+      processItem(item);
+      return;
+    }
+    final AtomicBoolean invoked = new AtomicBoolean(false);
+    try {
+      itemCache.get(key, () -> {
+        invoked.set(true);
+        processItem(item);
+        return Boolean.TRUE;
+      });
+    } finally {
+      if (!invoked.get()) {
+        onItemSkipped(item);
+      }
+    }
+  }
+
+  /**
+   * flush를 실행하고, 제한 시간으로 먼저 실패 처리되지 않았으면 결과를 기록합니다.
+   */
+  private void flushWithLogging(final int batch, final long processedCount, final IItemProcessorLogger logger,
+      final TimeoutGuard guard) {
+    final FlushEvent event = new FlushEvent();
+    event.begin();
+    Exception failure = null;
+    try {
+      final BatchGate gate = batchGate;
+      if (gate != null) {
+        gate.flush();
+      } else {
+        saveBatch();
+      }
     } catch (Exception e) {
-      logger.onBatchFail(batch, e);
+      failure = e;
     }
+    try {
+      onBatchFlushed(batch, failure == null);
+    } catch (RuntimeException e) {
+      if (failure == null) {
+        failure = e;
+      }
+    }
+    commitFlushEvent(event, batch, failure == null);
+    if (!TimeoutGuard.settle(guard)) {
+      return;
+    }
+    if (failure == null) {
+      logger.onBatchSuccess(batch, processedCount);
+    } else {
+      logger.onBatchFail(batch, failure);
+    }
+  }
+
+  private static void commitFlushEvent(final FlushEvent event, final int batch, final boolean success) {
+    if (event.shouldCommit()) {
+      event.batch = batch;
+      event.success = success;
+      event.commit();
+    }
+  }
+
+  /** 한 번의 {@link #process(int, IItemProcessorLogger)} 실행 상태 */
+  private final class Run {
+    private final IItemProcessorLogger logger;
+    private final Duration itemTimeout;
+    private final CircuitBreakerPolicy circuitPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final BatchLatch latch = new BatchLatch();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final ProgressTracker progress = new ProgressTracker(() -> successCount.sum() + failureCount.sum());
+    private final Semaphore flushSlots;
+    private final int maxPendingFlushes;
+    private final Long totalCount;
+    /** 처리 스레드에서만 갱신 */
+    private volatile long totalProcessed;
+    private final Queue<DeferredItem<T>> deferredItems = new ConcurrentLinkedQueue<>();
+    private volatile TerminationReason terminationReason;
+
+    private Run(final IItemProcessorLogger logger, final Duration itemTimeout,
+        final CircuitBreakerPolicy circuitPolicy, final int maxPendingFlushes, final Long totalCount) {
+      this.logger = logger;
+      this.itemTimeout = itemTimeout;
+      this.circuitPolicy = circuitPolicy;
+      this.circuitBreaker = circuitPolicy != null ? new CircuitBreaker(circuitPolicy) : null;
+      this.flushSlots = new Semaphore(maxPendingFlushes);
+      this.maxPendingFlushes = maxPendingFlushes;
+      this.totalCount = totalCount;
+    }
+  }
+
+  /** 서킷이 열려 다시 발급할 아이템과 원래 순번 */
+  private record DeferredItem<T>(T item, long index) {
   }
 }
@@ -0,0 +1,199 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.KeyRange;
+
+/**
+ * 정수 키 범위를 나누어 keyset 쿼리로 병렬 조회하는 배치 처리를 위한 추상 클래스.
+ * <p>
+ * OFFSET 페이지네이션은 뒤쪽 페이지일수록 앞의 행을 모두 건너뛰어야 하므로 큰 테이블에서 점점 느려집니다.
+ * 이 클래스는 {@link #findKeyRange()}로 최소/최대 키를 한 번 조회한 뒤 범위를 {@link #getRangePartitions()}개의 구간으로 나누고,
+ * 배치마다 각 구간에서 {@link #fetchAfter(long, long, int)}({@code WHERE id > ? AND id <= ? ORDER BY id LIMIT ?})를
+ * {@link #getExecutor()}로 동시에 실행합니다. 인덱스를 타는 keyset 쿼리는 위치와 관계없이 일정한 비용으로 읽습니다.
+ * </p>
+ * <p>
+ * 먼저 끝난 구간이 생기면 남은 키 범위가 가장 넓은 구간을 절반으로 나누어 넘겨받으므로(work stealing),
+ * 키가 한쪽에 몰려 있어도 끝까지 구간 수만큼 병렬로 읽습니다.
+ * 읽은 아이템은 {@link #processItem(Object)}, {@link #saveBatch()}의 기존 흐름으로 처리됩니다.
+ * 배치 안의 아이템은 구간별로 섞여 있으므로 키 순서가 보장되지 않습니다.
+ * </p>
+ *
+ * <pre>{@code
+ * public class ArticleProcessor extends AbstractKeyRangeProcessor<Article> {
+ *     protected KeyRange findKeyRange() {
+ *         return repository.findIdRange(); // SELECT MIN(id), MAX(id) FROM article
+ *     }
+ *
+ *     protected List<Article> fetchAfter(long afterKey, long maxKey, int limit) {
+ *         return repository.findByIdGreaterThanAndIdLessThanEqualOrderById(afterKey, maxKey, Limit.of(limit));
+ *     }
+ *
+ *     protected long keyOf(Article article) {
+ *         return article.getId();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> 처리할 아이템 타입
+ */
+public abstract class AbstractKeyRangeProcessor<T> extends AbstractItemProcessor<T> {
+
+  private final List<Chunk> chunks = new ArrayList<>();
+  private final AtomicLong stealCount = new AtomicLong(0);
+
+  /**
+   * 처리할 키 범위를 조회합니다.
+   *
+   * @return 최소/최대 키, 대상이 없으면 null
+   */
+  protected abstract KeyRange findKeyRange();
+
+  /**
+   * 키가 {@code afterKey}보다 크고 {@code maxKey} 이하인 아이템을 키 오름차순으로 최대 {@code limit}건 조회합니다.
+   * <p>
+   * 여러 구간에 대해 동시에 호출되므로 스레드 안전해야 합니다.
+   * </p>
+   *
+   * @param afterKey 이 키보다 큰 아이템부터 (제외)
+   * @param maxKey   이 키까지 (포함)
+   * @param limit    최대 조회 건수
+   * @return 키 오름차순 아이템 목록
+   */
+  protected abstract List<T> fetchAfter(long afterKey, long maxKey, int limit);
+
+  /**
+   * 아이템의 키를 반환합니다.
+   *
+   * @param item 아이템
+   * @return 키
+   */
+  protected abstract long keyOf(T item);
+
+  /**
+   * 키 범위를 나눌 구간 수를 반환합니다.
+   * <p>
+   * 동시에 실행되는 조회 수이므로 DB 커넥션 풀 크기를 넘지 않게 정하세요.
+   * 구간을 동시에 조회하려면 {@link #getExecutor()}가 병렬 Executor여야 합니다.
+   * </p>
+   *
+   * @return 구간 수 (기본: 4)
+   */
+  protected int getRangePartitions() {
+    return 4;
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막 실행에서 다른 구간의 남은 범위를 나누어 받은 횟수를 반환합니다.
+   *
+   * @return 구간 재분배 횟수
+   */
+  public long getStealCount() {
+    return stealCount.get();
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    stealCount.set(0);
+    synchronized (chunks) {
+      chunks.clear();
+      final KeyRange range = findKeyRange();
+      if (range != null) {
+        chunks.addAll(split(range, Math.max(1, getRangePartitions())));
+      }
+    }
+    return super.process(batchSize, logger);
+  }
+
+  @Override
+  protected final List<T> fetchNextBatch(final int batchSize) {
+    final List<Chunk> active;
+    synchronized (chunks) {
+      rebalance();
+      active = new ArrayList<>(chunks);
+    }
+    if (active.isEmpty()) {
+      return List.of();
+    }
+
+    final int share = Math.max(1, (batchSize + active.size() - 1) / active.size());
+    final List<CompletableFuture<List<T>>> scans = new ArrayList<>(active.size());
+    for (Chunk chunk : active) {
+      scans.add(CompletableFuture.supplyAsync(() -> fetchAfter(chunk.afterKey, chunk.maxKey, share), getExecutor()));
+    }
+
+    final List<T> batch = new ArrayList<>(share * active.size());
+    synchronized (chunks) {
+      for (int i = 0; i < active.size(); i++) {
+        final Chunk chunk = active.get(i);
+        final List<T> scanned = scans.get(i).join();
+        if (scanned.size() < share) {
+          // 구간 끝까지 읽음
+          chunks.remove(chunk);
+        } else {
+          chunk.afterKey = keyOf(scanned.get(scanned.size() - 1));
+        }
+        batch.addAll(scanned);
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * 끝난 구간이 있으면 남은 범위가 가장 넓은 구간을 절반으로 나누어 구간 수를 채웁니다.
+   */
+  private void rebalance() {
+    final int target = Math.max(1, getRangePartitions());
+    while (!chunks.isEmpty() && chunks.size() < target) {
+      Chunk widest = chunks.get(0);
+      for (Chunk chunk : chunks) {
+        if (Long.compareUnsigned(chunk.remaining(), widest.remaining()) > 0) {
+          widest = chunk;
+        }
+      }
+      if (Long.compareUnsigned(widest.remaining(), 2) < 0) {
+        return;
+      }
+      final long mid = widest.afterKey + (widest.remaining() >>> 1);
+      chunks.add(new Chunk(mid, widest.maxKey));
+      widest.maxKey = mid;
+      stealCount.incrementAndGet();
+    }
+  }
+
+  private static List<Chunk> split(final KeyRange range, final int partitions) {
+    final List<Chunk> split = new ArrayList<>(partitions);
+    // 키 범위 폭이 long을 넘을 수 있으므로 부호 없는 값으로 계산
+    final long span = range.maxKey() - (range.minKey() - 1);
+    final long quotient = Long.divideUnsigned(span, partitions);
+    final long step = quotient == 0 ? 1 : quotient;
+    long afterKey = range.minKey() - 1;
+    for (int i = 0; i < partitions && afterKey < range.maxKey(); i++) {
+      final boolean last = i == partitions - 1 || Long.compareUnsigned(range.maxKey() - afterKey, step) <= 0;
+      final long maxKey = last ? range.maxKey() : afterKey + step;
+      split.add(new Chunk(afterKey, maxKey));
+      afterKey = maxKey;
+    }
+    return split;
+  }
+
+  /** 조회 중인 구간 ({@code afterKey} 제외, {@code maxKey} 포함) */
+  private static final class Chunk {
+    private long afterKey;
+    private long maxKey;
+
+    private Chunk(final long afterKey, final long maxKey) {
+      this.afterKey = afterKey;
+      this.maxKey = maxKey;
+    }
+
+    /** 남은 키 범위 폭 (부호 없는 값) */
+    private long remaining() {
+      return maxKey - afterKey;
+    }
+  }
+}
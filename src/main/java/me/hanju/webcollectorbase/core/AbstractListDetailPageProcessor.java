@@ -0,0 +1,186 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * 목록 페이지에서 상세 항목을 뽑아 상세 페이지를 수집하는 2단계 처리를 위한 추상 클래스.
+ * <p>
+ * {@link #processListPage(PageCriteria, Consumer)}에서 목록 페이지를 처리하며 상세 항목을 내보내면,
+ * 각 상세 항목은 같은 {@link #getExecutor()}에 제출되어 {@link #processDetail(Object)}로 처리됩니다.
+ * 여러 페이지의 상세 처리가 서로 섞여 실행되므로, 한 페이지의 상세 수집이 작업 스레드를 붙잡지 않습니다.
+ * </p>
+ * <p>
+ * 동시에 실행되는 상세 처리 수는 {@link #getMaxConcurrentDetails()}로 제한되며,
+ * 배치의 모든 상세 처리가 끝난 뒤에 해당 배치의 {@link #saveBatch()}가 예약됩니다.
+ * </p>
+ *
+ * @param <C> 검색 조건 타입 ({@link PageCriteria} 구현체)
+ * @param <D> 상세 항목 타입 (예: 상세 페이지 ID)
+ */
+public abstract class AbstractListDetailPageProcessor<C extends PageCriteria<C>, D> extends AbstractPageProcessor<C> {
+
+  private static final ThreadLocal<Boolean> DISPATCHING = ThreadLocal.withInitial(() -> false);
+
+  private final Queue<DetailTask<D>> pendingDetails = new ConcurrentLinkedQueue<>();
+  private final Queue<CompletableFuture<Void>> batchDetails = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger runningDetails = new AtomicInteger(0);
+  private final AtomicLong detailSuccessCount = new AtomicLong(0);
+  private final AtomicLong detailFailureCount = new AtomicLong(0);
+
+  /**
+   * 목록 페이지를 처리하고, 상세 처리가 필요한 항목을 내보냅니다.
+   *
+   * @param criteria      검색 조건
+   * @param detailEmitter 상세 항목을 상세 처리 대기열로 보내는 함수
+   * @return 페이지 처리 결과 정보
+   */
+  protected abstract PageInfo processListPage(C criteria, Consumer<D> detailEmitter);
+
+  /**
+   * 상세 항목을 처리합니다.
+   *
+   * @param detail 목록 페이지에서 내보낸 상세 항목
+   */
+  protected abstract void processDetail(D detail);
+
+  /**
+   * 상세 처리 실패 시 호출됩니다.
+   * Executor가 상세 처리를 거부한 경우에도 {@link RejectedExecutionException}과 함께 호출됩니다.
+   * 기본적으로 아무런 동작도 하지 않습니다.
+   *
+   * @param detail 실패한 상세 항목
+   * @param e      발생한 예외
+   */
+  protected void onDetailFail(D detail, Exception e) {
+    // no-op by default
+  }
+
+  /**
+   * 동시에 실행할 수 있는 상세 처리의 최대 개수를 반환합니다.
+   *
+   * @return 최대 동시 상세 처리 수 (기본: 8)
+   */
+  public int getMaxConcurrentDetails() {
+    return 8;
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리에서 성공한 상세 처리 수를 반환합니다.
+   *
+   * @return 상세 처리 성공 수
+   */
+  public long getDetailSuccessCount() {
+    return detailSuccessCount.get();
+  }
+
+  /**
+   * 현재 실행 중이거나 마지막으로 실행한 처리에서 실패한 상세 처리 수를 반환합니다.
+   *
+   * @return 상세 처리 실패 수
+   */
+  public long getDetailFailureCount() {
+    return detailFailureCount.get();
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    detailSuccessCount.set(0);
+    detailFailureCount.set(0);
+    return super.process(batchSize, logger);
+  }
+
+  @Override
+  protected final PageInfo processPage(final C criteria) {
+    return processListPage(criteria, this::submitDetail);
+  }
+
+  @Override
+  protected final void onBatchProcessed(final int batch) {
+    final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    CompletableFuture<Void> future;
+    while ((future = batchDetails.poll()) != null) {
+      futures.add(future);
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+  }
+
+  private void submitDetail(final D detail) {
+    final DetailTask<D> task = new DetailTask<>(detail, new CompletableFuture<>());
+    batchDetails.add(task.done());
+    pendingDetails.add(task);
+    dispatchDetails();
+  }
+
+  /**
+   * 동시 실행 한도 안에서 대기 중인 상세 처리를 실행합니다.
+   * 동기 Executor에서 재귀 호출이 깊어지지 않도록, 이미 분배 중인 스레드에서는 바깥 루프에 맡깁니다.
+   */
+  private void dispatchDetails() {
+    if (DISPATCHING.get()) {
+      return;
+    }
+    DISPATCHING.set(true);
+    try {
+      while (!pendingDetails.isEmpty()) {
+        final int running = runningDetails.get();
+        if (running >= getMaxConcurrentDetails()) {
+          return;
+        }
+        if (!runningDetails.compareAndSet(running, running + 1)) {
+          continue;
+        }
+        final DetailTask<D> task = pendingDetails.poll();
+        if (task == null) {
+          runningDetails.decrementAndGet();
+          continue;
+        }
+        try {
+          getExecutor().execute(() -> runDetail(task));
+        } catch (RejectedExecutionException e) {
+          // 배치 대기가 끝나도록 실패로 확정
+          runningDetails.decrementAndGet();
+          failDetail(task, e);
+          task.done().complete(null);
+        }
+      }
+    } finally {
+      DISPATCHING.set(false);
+    }
+  }
+
+  private void runDetail(final DetailTask<D> task) {
+    try {
+      processDetail(task.detail());
+      detailSuccessCount.incrementAndGet();
+    } catch (Exception e) {
+      failDetail(task, e);
+    } finally {
+      runningDetails.decrementAndGet();
+      task.done().complete(null);
+      dispatchDetails();
+    }
+  }
+
+  private void failDetail(final DetailTask<D> task, final Exception e) {
+    detailFailureCount.incrementAndGet();
+    try {
+      onDetailFail(task.detail(), e);
+    } catch (RuntimeException ignored) {
+      // 콜백 실패가 배치 대기를 막지 않도록 무시
+    }
+  }
+
+  private record DetailTask<D>(D detail, CompletableFuture<Void> done) {
+  }
+}
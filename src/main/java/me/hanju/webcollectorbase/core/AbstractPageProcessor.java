@@ -1,12 +1,21 @@
 package me.hanju.webcollectorbase.core;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import me.hanju.webcollectorbase.core.dto.PageInfo;
 import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+import me.hanju.webcollectorbase.core.jfr.ItemProcessEvent;
+import me.hanju.webcollectorbase.core.jfr.TotalPageFetchEvent;
+import me.hanju.webcollectorbase.core.watermark.WatermarkStore;
 
 /**
  * 페이지 기반 배치 처리를 위한 추상 클래스.
@@ -15,6 +24,12 @@ import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
  * {@link #setBaseCriteria(PageCriteria)}로 검색 조건을 설정하고,
  * {@link #processPage(PageCriteria)}, {@link #saveBatch()}를 구현하여 사용합니다.
  * </p>
+ * <p>
+ * 최신순으로 정렬된 소스는 {@link #getWatermarkStore()}를 지정하여 증분 수집할 수 있습니다.
+ * {@link PageInfo#maxWatermark()}가 이전 성공 실행의 워터마크 이하인 페이지를 만나면 그 뒤 페이지는 더 이상 발급하지 않으며,
+ * 이미 발급되었지만 시작하지 않은 뒤쪽 페이지는 {@link #processPage(PageCriteria)} 호출 없이 건너뛰며, 성공이나 실패로 집계하지 않습니다.
+ * 실패 없이 끝난 실행에서 본 최대 워터마크가 다음 실행의 기준으로 저장됩니다.
+ * </p>
  *
  * @param <C> 검색 조건 타입 ({@link PageCriteria} 구현체)
  */
@@ -22,6 +37,12 @@ public abstract class AbstractPageProcessor<C extends PageCriteria<C>> extends A
 
   private final AtomicInteger currentPage = new AtomicInteger(0);
   private final AtomicInteger totalPage = new AtomicInteger(-1);
+  private final AtomicInteger stopPage = new AtomicInteger(Integer.MAX_VALUE);
+  private final AtomicLong runMaxWatermark = new AtomicLong(Long.MIN_VALUE);
+  private final Map<C, Integer> dispatchedPages = Collections.synchronizedMap(new IdentityHashMap<>());
+  private volatile Long previousWatermark;
+  private volatile boolean trackPages;
+  private volatile boolean registerPages;
   private C baseCriteria;
 
   /**
@@ -69,6 +90,19 @@ public abstract class AbstractPageProcessor<C extends PageCriteria<C>> extends A
    */
   protected abstract PageInfo processPage(C criteria);
 
+  /**
+   * 증분 수집에 사용할 워터마크 저장소를 반환합니다. (선택적)
+   * <p>
+   * null이 아니면 {@link #processPage(PageCriteria)}가 반환한 {@link PageInfo#maxWatermark()}로 수집 중단 지점을 판단합니다.
+   * 최신순으로 정렬된 소스에서만 사용하세요.
+   * </p>
+   *
+   * @return 워터마크 저장소 (기본: null, 증분 수집 사용 안 함)
+   */
+  protected WatermarkStore getWatermarkStore() {
+    return null;
+  }
+
   @Override
   protected final Long getTotalCount() {
     return totalPage.get() > 0 ? (long) totalPage.get() : null;
@@ -76,49 +110,180 @@ public abstract class AbstractPageProcessor<C extends PageCriteria<C>> extends A
 
   @Override
   public ItemProcessedResult process(int batchSize) {
-    initTotalPage();
-    return super.process(batchSize);
+    return process(batchSize, IItemProcessorLogger.noOp());
   }
 
   @Override
   public ItemProcessedResult process(int batchSize, IItemProcessorLogger logger) {
     initTotalPage();
-    return super.process(batchSize, logger);
+    final WatermarkStore watermarkStore = getWatermarkStore();
+    initWatermark(watermarkStore);
+    final ItemProcessedResult result = super.process(batchSize, logger);
+    commitWatermark(watermarkStore, result);
+    return result;
   }
 
   private void initTotalPage() {
     if (totalPage.get() < 0) {
+      final TotalPageFetchEvent event = new TotalPageFetchEvent();
+      event.begin();
       totalPage.set(fetchTotalPage(getBaseCriteria().ofPage(1)));
+      if (event.shouldCommit()) {
+        event.totalPage = totalPage.get();
+        event.commit();
+      }
     }
   }
 
+  private void initWatermark(final WatermarkStore watermarkStore) {
+    trackPages = watermarkStore != null;
+    dispatchedPages.clear();
+    previousWatermark = watermarkStore != null ? watermarkStore.load() : null;
+    runMaxWatermark.set(Long.MIN_VALUE);
+    stopPage.set(Integer.MAX_VALUE);
+  }
+
+  private void commitWatermark(final WatermarkStore watermarkStore, final ItemProcessedResult result) {
+    if (watermarkStore == null || result.failureCount() > 0
+        || result.terminationReason() != TerminationReason.COMPLETED) {
+      return;
+    }
+    final long maxWatermark = runMaxWatermark.get();
+    final Long previous = previousWatermark;
+    if (maxWatermark != Long.MIN_VALUE && (previous == null || maxWatermark > previous)) {
+      watermarkStore.save(maxWatermark);
+    }
+  }
+
+  private int lastPage() {
+    return Math.min(totalPage.get(), stopPage.get());
+  }
+
+  private C createCriteria(C base, int page) {
+    final C criteria = base.ofPage(page);
+    dispatchedPages.put(criteria, page);
+    return criteria;
+  }
+
+  /**
+   * 다음 batchSize개 페이지를 한 번의 CAS로 예약하고, 검색 조건을 읽을 때 생성하는 범위 뷰로 반환합니다.
+   */
   @Override
   protected final List<C> fetchNextBatch(int batchSize) {
-    C base = getBaseCriteria();
+    int reserved;
+    int last;
+    do {
+      reserved = currentPage.get();
+      final int limit = lastPage();
+      if (reserved >= limit) {
+        return Collections.emptyList();
+      }
+      last = (int) Math.min((long) reserved + Math.max(1, batchSize), limit);
+    } while (!currentPage.compareAndSet(reserved, last));
 
-    int nextPage = currentPage.incrementAndGet();
+    // 워터마크를 추적하거나 JFR 아이템 이벤트를 기록 중인 배치만 페이지 번호를 등록
+    registerPages = trackPages || ItemProcessEvent.recording();
+    return new PageRange(getBaseCriteria(), reserved + 1, last, registerPages);
+  }
 
-    if (nextPage > totalPage.get()) {
-      return Collections.emptyList();
+  @Override
+  int pageOf(final C criteria) {
+    if (!registerPages) {
+      return -1;
     }
+    final Integer page = dispatchedPages.get(criteria);
+    return page != null ? page : -1;
+  }
 
-    // 다음 batchSize개 페이지에 대한 검색 조건 생성
-    List<C> criteria = new ArrayList<>();
-    criteria.add(base.ofPage(nextPage));
-
-    for (int i = 1; i < batchSize; i++) {
-      nextPage = currentPage.incrementAndGet();
-      if (nextPage > totalPage.get()) {
-        break;
-      }
-      criteria.add(base.ofPage(nextPage));
+  /**
+   * 워터마크 도달 이후 페이지는 요청하지 않고, 성공으로도 집계하지 않습니다.
+   */
+  @Override
+  boolean skipItem(final C criteria) {
+    if (!trackPages) {
+      return false;
     }
+    final Integer page = dispatchedPages.get(criteria);
+    if (page == null || page <= stopPage.get()) {
+      return false;
+    }
+    dispatchedPages.remove(criteria);
+    return true;
+  }
 
-    return criteria;
+  @Override
+  void onItemSkipped(final C criteria) {
+    dispatchedPages.remove(criteria);
   }
 
   @Override
   protected final void processItem(C criteria) {
-    processPage(criteria);
+    if (!registerPages) {
+      processPage(criteria);
+      return;
+    }
+
+    final Integer page = dispatchedPages.remove(criteria);
+    if (!trackPages) {
+      processPage(criteria);
+      return;
+    }
+
+    final PageInfo pageInfo = processPage(criteria);
+    final Long maxWatermark = pageInfo != null ? pageInfo.maxWatermark() : null;
+    if (maxWatermark == null) {
+      return;
+    }
+    runMaxWatermark.accumulateAndGet(maxWatermark, Math::max);
+    final Long previous = previousWatermark;
+    if (page != null && previous != null && maxWatermark <= previous) {
+      stopPage.accumulateAndGet(page, Math::min);
+    }
+  }
+
+  /**
+   * 예약한 페이지 범위 ({@code first}~{@code last}, 양끝 포함)의 검색 조건 목록.
+   * <p>
+   * 검색 조건은 인덱스를 읽을 때 생성합니다. 워터마크 추적이나 JFR 기록 중이면 처음 읽을 때 페이지 번호를 등록하고
+   * 다시 읽으면 같은 인스턴스를 반환하며, 등록하지 않는 배치는 범위 외에 아무것도 할당하지 않습니다.
+   * 처리 루프 한 스레드에서만 읽습니다.
+   * </p>
+   */
+  private final class PageRange extends AbstractList<C> implements RandomAccess {
+    private final C base;
+    private final int first;
+    private final int size;
+    private final boolean register;
+    /** 등록하는 배치에서만 생성한 검색 조건을 보관 */
+    private final List<C> created;
+
+    private PageRange(final C base, final int first, final int last, final boolean register) {
+      this.base = base;
+      this.first = first;
+      this.size = last - first + 1;
+      this.register = register;
+      this.created = register ? new ArrayList<>(Collections.nCopies(size, null)) : null;
+    }
+
+    @Override
+    public C get(final int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+      }
+      if (!register) {
+        return base.ofPage(first + index);
+      }
+      C criteria = created.get(index);
+      if (criteria == null) {
+        criteria = createCriteria(base, first + index);
+        created.set(index, criteria);
+      }
+      return criteria;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
   }
 }
@@ -0,0 +1,276 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.index.ContentHashIndex;
+import me.hanju.webcollectorbase.core.index.ContentHashTracking;
+import me.hanju.webcollectorbase.core.index.ContentHashes;
+
+/**
+ * 처리 결과를 키 기준으로 분할하여 여러 flush 레인에서 병렬 저장하는 추상 클래스.
+ * <p>
+ * {@link #processItemToResult(Object)}가 반환한 결과는 {@link #getPartitionKey(Object)}의 해시에 따라
+ * {@link #getFlushLanes()}개의 레인 중 하나로 배정됩니다.
+ * 각 레인은 전용 스레드에서 배치 순서대로 {@link #saveLane(int, List)}를 호출하고, 레인끼리는 병렬로 실행됩니다.
+ * 따라서 같은 키의 결과는 항상 같은 레인에서 순서대로 저장되어 서로 경합하지 않습니다.
+ * </p>
+ * <p>
+ * 같은 배치 안에서 같은 키를 가진 아이템들은 병렬로 처리되므로 배치 내 순서는 보장되지 않습니다.
+ * {@link #saveBatch()}는 이 클래스가 구현하므로 {@link #saveLane(int, List)}를 구현하세요.
+ * {@link ProcessorPublisher}로 감싸는 경우 {@code saveBatch()}가 호출되지 않으므로, drain 함수로 {@link #drainResults()}를 지정하세요.
+ * </p>
+ * <p>
+ * {@link #getContentHashTracking()}으로 {@link ContentHashIndex}와 해시 함수를 지정하면, 이전 실행에서 저장한 내용과
+ * 콘텐츠 해시가 같은 결과는 레인에 배정되기 전에 걸러집니다. 해시는 레인 저장이 성공한 뒤에 기록되므로
+ * 저장에 실패한 결과는 다음 실행에서 다시 저장됩니다.
+ * </p>
+ *
+ * @param <T> 처리할 아이템 타입
+ * @param <R> 저장할 결과 타입
+ */
+public abstract class AbstractPartitionedItemProcessor<T, R> extends AbstractItemProcessor<T> {
+
+  private final Object drainLock = new Object();
+  private final LongAdder unchangedCount = new LongAdder();
+  private volatile List<Queue<PendingResult<R>>> pendingResults = List.of();
+  private volatile List<ExecutorService> lanes = List.of();
+  private volatile ContentHashTracking<R> contentHashTracking;
+
+  /**
+   * 개별 아이템을 처리하고 저장할 결과를 반환합니다.
+   *
+   * @param item 처리할 아이템
+   * @return 저장할 결과, 저장할 것이 없으면 null
+   */
+  protected abstract R processItemToResult(T item);
+
+  /**
+   * 결과를 배정할 레인을 결정하는 키를 반환합니다.
+   * <p>
+   * 같은 키(equals/hashCode 기준)를 가진 결과는 항상 같은 레인으로 배정됩니다.
+   * </p>
+   *
+   * @param result 처리 결과
+   * @return 파티션 키 (예: 게시글 ID)
+   */
+  protected abstract Object getPartitionKey(R result);
+
+  /**
+   * 한 레인에 모인 결과를 저장합니다.
+   * <p>
+   * 같은 레인에 대한 호출은 하나의 스레드에서 순서대로 이루어지며, 서로 다른 레인은 동시에 호출될 수 있습니다.
+   * </p>
+   *
+   * @param lane    레인 번호 (0부터 시작)
+   * @param results 저장할 결과 목록 (처리 완료 순서)
+   */
+  protected abstract void saveLane(int lane, List<R> results);
+
+  /**
+   * 병렬로 저장할 flush 레인 수를 반환합니다.
+   *
+   * @return flush 레인 수 (기본: 4)
+   */
+  public int getFlushLanes() {
+    return 4;
+  }
+
+  /**
+   * 변경 감지에 사용할 콘텐츠 해시 인덱스와 해시 함수를 반환합니다. (선택적)
+   * <p>
+   * 인덱스의 생명주기(열기/닫기)는 구현 클래스가 관리하며, 각 처리가 끝날 때 {@link ContentHashIndex#force()}가 호출됩니다.
+   * 처리를 시작할 때 한 번 호출됩니다.
+   * </p>
+   *
+   * <pre>{@code
+   * private final ContentHashTracking<Article> hashes = new ContentHashTracking<>(
+   *     ContentHashIndex.open(Path.of("article-hashes.idx"), 10_000_000),
+   *     article -> ContentHashes.hash64(article.getBody()));
+   *
+   * protected ContentHashTracking<Article> getContentHashTracking() {
+   *     return hashes;
+   * }
+   * }</pre>
+   *
+   * @return 콘텐츠 해시 인덱스와 해시 함수 (기본: null, 변경 감지 사용 안 함)
+   */
+  protected ContentHashTracking<R> getContentHashTracking() {
+    return null;
+  }
+
+  /**
+   * 변경 감지에 사용할 결과의 키를 반환합니다.
+   *
+   * @param result 처리 결과
+   * @return 64비트 키 (기본: {@link #getPartitionKey(Object)} 문자열의 해시)
+   */
+  protected long getContentKey(R result) {
+    return ContentHashes.hash64(String.valueOf(getPartitionKey(result)));
+  }
+
+  /**
+   * 변경 감지로 저장을 생략한 결과 수를 반환합니다.
+   *
+   * @return 현재 실행 중이거나 마지막 실행에서 생략한 결과 수
+   */
+  public long getUnchangedCount() {
+    return unchangedCount.sum();
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    unchangedCount.reset();
+    final ContentHashTracking<R> tracking = getContentHashTracking();
+    contentHashTracking = tracking;
+    openLanes();
+    try {
+      return super.process(batchSize, logger);
+    } finally {
+      closeLanes();
+      if (tracking != null) {
+        tracking.index().force();
+      }
+    }
+  }
+
+  @Override
+  protected final void processItem(final T item) {
+    final R result = processItemToResult(item);
+    if (result == null) {
+      return;
+    }
+    final PendingResult<R> pending;
+    final ContentHashTracking<R> tracking = contentHashTracking;
+    if (tracking == null) {
+      pending = new PendingResult<>(result, 0L, 0L);
+    } else {
+      final long key = getContentKey(result);
+      final long hash = tracking.contentHash().applyAsLong(result);
+      if (tracking.index().isUnchanged(key, hash)) {
+        unchangedCount.increment();
+        return;
+      }
+      pending = new PendingResult<>(result, key, hash);
+    }
+    final List<Queue<PendingResult<R>>> queues = pendingResults;
+    queues.get(Math.floorMod(getPartitionKey(result).hashCode(), queues.size())).add(pending);
+  }
+
+  @Override
+  protected final void saveBatch() {
+    final List<CompletableFuture<Void>> laneFutures = new ArrayList<>();
+
+    // 레인별 대기 결과를 꺼내고 제출하는 과정을 직렬화하여 레인 내 순서를 보장
+    synchronized (drainLock) {
+      for (int lane = 0; lane < lanes.size(); lane++) {
+        final List<PendingResult<R>> results = drain(pendingResults.get(lane));
+        if (!results.isEmpty()) {
+          final int currentLane = lane;
+          laneFutures.add(CompletableFuture.runAsync(() -> saveAndRecord(currentLane, results), lanes.get(lane)));
+        }
+      }
+    }
+
+    BatchExecutionException failure = null;
+    for (CompletableFuture<Void> future : laneFutures) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = new BatchExecutionException("flush 레인 저장에 실패했습니다.", e.getCause());
+        } else {
+          failure.addSuppressed(e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * 레인에 배정된 결과를 저장하지 않고 꺼냅니다.
+   * <p>
+   * {@link ProcessorPublisher}의 drain 함수로 사용합니다. 저장하지 않으므로 콘텐츠 해시도 기록하지 않습니다.
+   * </p>
+   *
+   * <pre>{@code
+   * Flow.Publisher<Update> updates = ProcessorPublisher.of(processor, 100, processor::drainResults);
+   * }</pre>
+   *
+   * @return 레인 번호 순, 레인 안에서는 처리 완료 순으로 모은 결과 목록
+   */
+  public final List<R> drainResults() {
+    final List<R> results = new ArrayList<>();
+    synchronized (drainLock) {
+      for (Queue<PendingResult<R>> queue : pendingResults) {
+        PendingResult<R> pending;
+        while ((pending = queue.poll()) != null) {
+          results.add(pending.result());
+        }
+      }
+    }
+    return results;
+  }
+
+  private void saveAndRecord(final int lane, final List<PendingResult<R>> pending) {
+    final List<R> results = new ArrayList<>(pending.size());
+    for (PendingResult<R> result : pending) {
+      results.add(result.result());
+    }
+    saveLane(lane, results);
+
+    final ContentHashTracking<R> tracking = contentHashTracking;
+    if (tracking != null) {
+      for (PendingResult<R> result : pending) {
+        tracking.index().put(result.contentKey(), result.contentHash());
+      }
+    }
+  }
+
+  private void openLanes() {
+    final int laneCount = getFlushLanes();
+    if (laneCount < 1) {
+      throw new IllegalStateException("flush 레인 수는 1 이상이어야 합니다: " + laneCount);
+    }
+    final List<Queue<PendingResult<R>>> queues = new ArrayList<>(laneCount);
+    final List<ExecutorService> executors = new ArrayList<>(laneCount);
+    for (int lane = 0; lane < laneCount; lane++) {
+      final String threadName = "flush-lane-" + lane;
+      queues.add(new ConcurrentLinkedQueue<>());
+      executors.add(Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+      }));
+    }
+    pendingResults = List.copyOf(queues);
+    lanes = List.copyOf(executors);
+  }
+
+  private void closeLanes() {
+    lanes.forEach(ExecutorService::shutdown);
+  }
+
+  private static <E> List<E> drain(final Queue<E> queue) {
+    final List<E> results = new ArrayList<>();
+    E result;
+    while ((result = queue.poll()) != null) {
+      results.add(result);
+    }
+    return results;
+  }
+
+  /** 레인 저장 대기 중인 결과와 저장 후 기록할 콘텐츠 해시 */
+  private record PendingResult<R>(R result, long contentKey, long contentHash) {
+  }
+}
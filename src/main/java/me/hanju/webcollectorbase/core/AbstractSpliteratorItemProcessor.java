@@ -0,0 +1,184 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+
+/**
+ * {@link Spliterator}를 소스로 하는 배치 처리를 위한 추상 클래스.
+ * <p>
+ * {@link #openSource()}로 소스를 열면 {@link #fetchNextBatch(int)}는 이 클래스가 구현합니다.
+ * {@code Stream}은 {@code stream.spliterator()}, {@code Iterator}는
+ * {@code Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED)}로 전달하세요.
+ * </p>
+ * <p>
+ * 크기를 아는 소스({@link Spliterator#SIZED}와 {@link Spliterator#SUBSIZED})는 {@link Spliterator#trySplit()}으로
+ * 최대 {@link #getSourceParallelism()}개의 파티션으로 나누고, 배치마다 각 파티션에서 {@link #getExecutor()}로 동시에 읽습니다.
+ * 이때 배치 안의 아이템 순서는 소스 순서와 다를 수 있으며, 전체 크기는 {@link #getTotalCount()}로 보고됩니다.
+ * 그 밖의 소스는 하나의 파티션에서 배치 크기만큼 차례로 읽습니다.
+ * </p>
+ * <p>
+ * 아이템 처리, flush, 로깅은 {@link AbstractItemProcessor}와 같습니다.
+ * </p>
+ *
+ * <pre>{@code
+ * public class LineProcessor extends AbstractSpliteratorItemProcessor<String> {
+ *     protected Spliterator<String> openSource() {
+ *         return Files.readAllLines(path).spliterator(); // 크기를 아는 소스: 병렬로 분할
+ *     }
+ *
+ *     protected void processItem(String line) {
+ *         buffer.add(parse(line));
+ *     }
+ *
+ *     protected void saveBatch() {
+ *         repository.saveAll(drain(buffer));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> 처리할 아이템 타입
+ */
+public abstract class AbstractSpliteratorItemProcessor<T> extends AbstractItemProcessor<T> {
+
+  private final List<Spliterator<T>> partitions = new ArrayList<>();
+  private volatile Long sourceSize;
+
+  /**
+   * 처리할 소스를 엽니다.
+   * <p>
+   * {@link #process(int, IItemProcessorLogger)} 호출 시마다 한 번 호출됩니다.
+   * 닫아야 하는 소스(파일, DB 커서 등)는 {@link #closeSource()}에서 닫으세요.
+   * </p>
+   *
+   * @return 소스 Spliterator
+   */
+  protected abstract Spliterator<T> openSource();
+
+  /**
+   * 처리가 끝난 뒤 호출됩니다. 기본적으로 아무런 동작도 하지 않습니다.
+   */
+  protected void closeSource() {
+    // no-op by default
+  }
+
+  /**
+   * 크기를 아는 소스를 나눌 최대 파티션 수를 반환합니다.
+   * <p>
+   * 파티션을 동시에 읽으려면 {@link #getExecutor()}가 병렬 Executor여야 합니다.
+   * </p>
+   *
+   * @return 최대 파티션 수 (기본: 사용 가능한 프로세서 수)
+   */
+  protected int getSourceParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * 크기를 아는 소스면 그 크기를 반환합니다.
+   *
+   * @return 소스 크기, 모르면 null
+   */
+  @Override
+  protected Long getTotalCount() {
+    return sourceSize;
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    openPartitions(openSource());
+    try {
+      return super.process(batchSize, logger);
+    } finally {
+      synchronized (partitions) {
+        partitions.clear();
+      }
+      closeSource();
+    }
+  }
+
+  @Override
+  protected final List<T> fetchNextBatch(final int batchSize) {
+    final List<Spliterator<T>> active;
+    synchronized (partitions) {
+      active = new ArrayList<>(partitions);
+    }
+    if (active.isEmpty()) {
+      return List.of();
+    }
+    if (active.size() == 1) {
+      final List<T> batch = pull(active.get(0), batchSize);
+      if (batch.size() < batchSize) {
+        retire(active.get(0));
+      }
+      return batch;
+    }
+
+    // 파티션마다 몫을 나누어 동시에 읽음
+    final int share = Math.max(1, (batchSize + active.size() - 1) / active.size());
+    final List<CompletableFuture<List<T>>> pulls = new ArrayList<>(active.size());
+    for (Spliterator<T> partition : active) {
+      pulls.add(CompletableFuture.supplyAsync(() -> pull(partition, share), getExecutor()));
+    }
+    final List<T> batch = new ArrayList<>(share * active.size());
+    for (int i = 0; i < active.size(); i++) {
+      final List<T> pulled = pulls.get(i).join();
+      if (pulled.size() < share) {
+        retire(active.get(i));
+      }
+      batch.addAll(pulled);
+    }
+    return batch;
+  }
+
+  private void openPartitions(final Spliterator<T> source) {
+    final boolean sized = source.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED);
+    sourceSize = sized ? source.getExactSizeIfKnown() : null;
+    final List<Spliterator<T>> opened = new ArrayList<>();
+    opened.add(source);
+    if (sized) {
+      split(opened, Math.max(1, getSourceParallelism()));
+    }
+    synchronized (partitions) {
+      partitions.clear();
+      partitions.addAll(opened);
+    }
+  }
+
+  /**
+   * 가장 큰 파티션부터 나누어 파티션 수를 늘립니다. 더 나눌 수 없으면 멈춥니다.
+   */
+  private static <T> void split(final List<Spliterator<T>> parts, final int target) {
+    final Comparator<Spliterator<T>> bySize = Comparator.comparingLong(Spliterator::estimateSize);
+    final List<Spliterator<T>> unsplittable = new ArrayList<>();
+    while (parts.size() + unsplittable.size() < target && !parts.isEmpty()) {
+      final Spliterator<T> largest = parts.stream().max(bySize).orElseThrow();
+      final Spliterator<T> prefix = largest.trySplit();
+      if (prefix == null) {
+        parts.remove(largest);
+        unsplittable.add(largest);
+      } else {
+        parts.add(prefix);
+      }
+    }
+    parts.addAll(unsplittable);
+  }
+
+  private List<T> pull(final Spliterator<T> partition, final int count) {
+    final List<T> pulled = new ArrayList<>(Math.min(count, 1024));
+    while (pulled.size() < count && partition.tryAdvance(pulled::add)) {
+      // tryAdvance가 아이템을 추가함
+    }
+    return pulled;
+  }
+
+  private void retire(final Spliterator<T> partition) {
+    synchronized (partitions) {
+      partitions.remove(partition);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * 페이지 처리를 I/O 단계(조회)와 CPU 단계(파싱)로 나누어 서로 다른 스레드 풀에서 실행하는 추상 클래스.
+ * <p>
+ * {@link #fetchPage(PageCriteria)}는 {@link #getExecutor()}(기본: 필요한 만큼 스레드를 늘리는 공유 I/O 풀)에서,
+ * {@link #parsePage(PageCriteria, Object)}는 {@link #getParseExecutor()}(기본: 코어 수 크기의 공유 ForkJoinPool)에서 실행됩니다.
+ * 조회 대기는 코어를 점유하지 않고, 파싱은 코어 수를 넘겨 실행되지 않습니다.
+ * Java 21 이상에서는 {@link #getExecutor()}가 {@code Executors.newVirtualThreadPerTaskExecutor()}를 반환하도록 오버라이드할 수 있습니다.
+ * </p>
+ * <p>
+ * 두 단계는 분리된 파이프라인이 아닙니다. {@link #processPage(PageCriteria)}는 반환한 {@link PageInfo}와 예외로 아이템의
+ * 성공·실패, 제한 시간, 워터마크를 확정하는 동기 계약이므로, 조회를 마친 스레드는 자기 페이지의 파싱이 끝날 때까지 기다립니다.
+ * 따라서 조회 스레드가 파싱을 기다리는 동안 다음 페이지를 조회하지는 않으며, 동시에 진행되는 페이지 수는 여전히 아이템 동시 실행 수로 정해집니다.
+ * 이 대기는 코어를 쓰지 않지만 조회 스레드 하나를 붙잡으므로 기본 조회 풀은 스레드 수를 제한하지 않으며,
+ * 스레드 비용이 문제라면 가상 스레드 Executor를 사용하세요.
+ * </p>
+ * <p>
+ * {@link #getMaxPendingParses()}는 파싱을 기다리거나 파싱 중인 페이지 수의 상한일 뿐입니다.
+ * 한도가 차면 조회를 마친 스레드가 파싱을 맡기기 전에 기다리므로, 파싱 풀 큐에 쌓이는 원문의 양이 제한됩니다.
+ * </p>
+ *
+ * <pre>{@code
+ * public class ArticleProcessor extends AbstractStagedPageProcessor<ArticleCriteria, String> {
+ *     protected String fetchPage(ArticleCriteria criteria) {
+ *         return httpClient.send(requestFor(criteria), BodyHandlers.ofString()).body();
+ *     }
+ *
+ *     protected int parseTotalPage(String html) {
+ *         return Jsoup.parse(html).select(".page").size();
+ *     }
+ *
+ *     protected PageInfo parsePage(ArticleCriteria criteria, String html) {
+ *         List<Article> articles = parseArticles(Jsoup.parse(html));
+ *         buffer.addAll(articles);
+ *         return new PageInfo(null, null, articles.size());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <C> 검색 조건 타입 ({@link PageCriteria} 구현체)
+ * @param <D> 조회한 원문 타입 (HTML 문자열, 바이트 배열 등)
+ */
+public abstract class AbstractStagedPageProcessor<C extends PageCriteria<C>, D> extends AbstractPageProcessor<C> {
+
+  private static final ExecutorService SHARED_FETCH_EXECUTOR = Executors.newCachedThreadPool(daemonThreads("page-fetch-"));
+  private static final ForkJoinPool SHARED_PARSE_EXECUTOR = new ForkJoinPool(
+      Runtime.getRuntime().availableProcessors(), pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("page-parse-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+      }, null, false);
+
+  private volatile Semaphore parsePermits = new Semaphore(Integer.MAX_VALUE);
+
+  /**
+   * 페이지 원문을 조회합니다. (I/O 단계)
+   *
+   * @param criteria 검색 조건
+   * @return 페이지 원문
+   */
+  protected abstract D fetchPage(C criteria);
+
+  /**
+   * 첫 페이지 원문에서 전체 페이지 수를 읽습니다. (CPU 단계)
+   *
+   * @param document 첫 페이지 원문
+   * @return 전체 페이지 수
+   */
+  protected abstract int parseTotalPage(D document);
+
+  /**
+   * 페이지 원문을 파싱하여 처리하고 결과 정보를 반환합니다. (CPU 단계)
+   *
+   * @param criteria 검색 조건
+   * @param document 페이지 원문
+   * @return 페이지 처리 결과 정보
+   */
+  protected abstract PageInfo parsePage(C criteria, D document);
+
+  /**
+   * 조회 단계와 flush에 사용할 Executor를 반환합니다.
+   *
+   * @return Executor (기본: 필요한 만큼 스레드를 늘리는 공유 데몬 스레드 풀)
+   */
+  @Override
+  public Executor getExecutor() {
+    return SHARED_FETCH_EXECUTOR;
+  }
+
+  /**
+   * 파싱 단계에 사용할 Executor를 반환합니다.
+   *
+   * @return Executor (기본: 코어 수 크기의 공유 ForkJoinPool)
+   */
+  protected Executor getParseExecutor() {
+    return SHARED_PARSE_EXECUTOR;
+  }
+
+  /**
+   * 조회를 마치고 파싱을 기다리거나 파싱 중인 페이지의 최대 개수를 반환합니다.
+   *
+   * @return 파싱 대기 또는 파싱 중인 페이지의 최대 개수 (기본: 코어 수의 2배)
+   */
+  protected int getMaxPendingParses() {
+    return Runtime.getRuntime().availableProcessors() * 2;
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    parsePermits = new Semaphore(getMaxPendingParses());
+    return super.process(batchSize, logger);
+  }
+
+  @Override
+  protected final int fetchTotalPage(final C criteria) {
+    final D document = fetchPage(criteria);
+    return parse(() -> parseTotalPage(document));
+  }
+
+  @Override
+  protected final PageInfo processPage(final C criteria) {
+    final D document = fetchPage(criteria);
+    return parse(() -> parsePage(criteria, document));
+  }
+
+  /**
+   * 파싱 허가를 얻어 파싱 단계에서 실행하고 결과를 기다립니다.
+   * <p>
+   * 페이지 결과를 반환해야 하므로 기다리지 않고 돌아갈 수 없습니다. 파싱을 조회 스레드에서 직접 실행하지 않는 것은
+   * 파싱이 코어 수를 넘겨 동시에 실행되지 않도록 하기 위함입니다.
+   * </p>
+   */
+  private <V> V parse(final Supplier<V> parser) {
+    final Semaphore permits = parsePermits;
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BatchExecutionException("파싱 허가를 기다리는 중 인터럽트되었습니다.", e);
+    }
+    final CompletableFuture<V> parsed;
+    try {
+      parsed = CompletableFuture.supplyAsync(parser, getParseExecutor());
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    // 조회 스레드가 제한 시간으로 중단되어도 허가는 파싱이 끝난 뒤 반환
+    parsed.whenComplete((value, e) -> permits.release());
+    try {
+      return parsed.get();
+    } catch (InterruptedException e) {
+      parsed.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new BatchExecutionException("파싱을 기다리는 중 인터럽트되었습니다.", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new BatchExecutionException("파싱에 실패했습니다.", cause);
+    }
+  }
+
+  private static ThreadFactory daemonThreads(final String prefix) {
+    final AtomicInteger sequence = new AtomicInteger(0);
+    return runnable -> {
+      final Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,482 @@
+package me.hanju.webcollectorbase.core;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import me.hanju.webcollectorbase.core.progress.LatencyHistogram;
+
+/**
+ * 아이템 이벤트를 모아 배치/구간 단위 요약만 남기는 {@link IItemProcessorLogger}.
+ * <p>
+ * 아이템마다 동기 appender로 로그를 남기면 작업 스레드가 로깅에 묶입니다. 이 로거는 아이템 이벤트를 잠금 없는 원형 버퍼에
+ * 기록만 하고, 백그라운드 스레드가 버퍼를 비우며 다음과 같은 요약을 남깁니다.
+ * </p>
+ * <ul>
+ * <li>배치마다: {@code 배치 42: 성공 100건, 실패 3건, p50 120.0ms, p95 820.0ms, max 1530.2ms}</li>
+ * <li>{@link #withInterval(Duration)}마다: 누적 건수, 구간 처리량, 구간 p95</li>
+ * </ul>
+ * <p>
+ * 실패는 구간마다 {@link #withFailureSamples(int)}건까지만 스택 트레이스와 함께 남기고, 나머지는 예외 유형별 건수로 요약합니다.
+ * 버퍼가 가득 차면 작업 스레드는 기다리지 않고 지연 시간 표본만 버리며, 건수는 그대로 집계됩니다.
+ * </p>
+ * <p>
+ * 처리가 끝나면 버퍼를 봉인하여 더 이상 칸을 예약할 수 없게 한 뒤, 백그라운드 스레드가 봉인 전에 예약된 칸까지 모두 요약하고 종료합니다.
+ * 같은 로거로 다시 {@link #onStart(Long)}를 호출하면 이전 스레드가 종료될 때까지 기다린 뒤 집계 상태를 초기화합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * try (AggregatingItemProcessorLogger logger = AggregatingItemProcessorLogger.of(log::info, log::warn)) {
+ *     processor.process(100, logger);
+ * }
+ * }</pre>
+ */
+public final class AggregatingItemProcessorLogger implements IItemProcessorLogger, AutoCloseable {
+
+  private static final byte SUCCESS = 1;
+  private static final byte FAILURE = 2;
+  private static final byte BATCH = 3;
+  private static final long POLL_NANOS = Duration.ofMillis(50).toNanos();
+  /** tail의 봉인 비트. 봉인된 동안에는 칸을 예약할 수 없음 */
+  private static final long SEALED = Long.MIN_VALUE;
+
+  private final Consumer<String> summaryLog;
+  private final BiConsumer<String, Throwable> errorLog;
+  private final Duration interval;
+  private final int failureSamples;
+  private final int capacity;
+
+  // 원형 버퍼: 생산자는 tail을 CAS로 예약하고, 칸을 채운 뒤 published에 순번을 기록
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong(SEALED);
+  private final AtomicLongArray published;
+  private final byte[] kinds;
+  private final long[] values;
+  private final long[] nanos;
+  private final Exception[] errors;
+  private final LongAdder overflowSuccess = new LongAdder();
+  private final LongAdder overflowFailure = new LongAdder();
+  private volatile long head;
+
+  private volatile Thread drainer;
+
+  // 아래 집계 상태는 drainer 스레드에서만 접근
+  private Long totalCount;
+  private int currentBatch;
+  private Window batchWindow = new Window();
+  private Window intervalWindow = new Window();
+  private long intervalStartNanos;
+  private long successTotal;
+  private long failureTotal;
+  private long droppedSamples;
+  private int samplesLeft;
+  private final Map<String, Long> suppressedFailures = new LinkedHashMap<>();
+
+  private AggregatingItemProcessorLogger(final Consumer<String> summaryLog, final BiConsumer<String, Throwable> errorLog,
+      final Duration interval, final int failureSamples, final int bufferSize) {
+    if (interval == null || interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("interval은 0보다 커야 합니다: " + interval);
+    }
+    if (failureSamples < 0) {
+      throw new IllegalArgumentException("failureSamples는 0 이상이어야 합니다: " + failureSamples);
+    }
+    if (bufferSize < 2) {
+      throw new IllegalArgumentException("bufferSize는 2 이상이어야 합니다: " + bufferSize);
+    }
+    this.summaryLog = summaryLog;
+    this.errorLog = errorLog;
+    this.interval = interval;
+    this.failureSamples = failureSamples;
+    this.capacity = Integer.highestOneBit(bufferSize - 1) << 1;
+    this.mask = capacity - 1;
+    this.published = new AtomicLongArray(capacity);
+    this.kinds = new byte[capacity];
+    this.values = new long[capacity];
+    this.nanos = new long[capacity];
+    this.errors = new Exception[capacity];
+    for (int i = 0; i < capacity; i++) {
+      published.set(i, -1);
+    }
+  }
+
+  /**
+   * 요약 로그와 오류 로그를 남길 대상을 지정하여 생성합니다.
+   * <p>
+   * 기본값: 구간 10초, 구간당 실패 표본 3건, 버퍼 8192건
+   * </p>
+   *
+   * @param summaryLog 요약 한 줄을 받는 대상 (예: {@code log::info})
+   * @param errorLog   실패 표본과 저장 실패를 받는 대상 (예: {@code log::warn})
+   * @return 로거
+   */
+  public static AggregatingItemProcessorLogger of(final Consumer<String> summaryLog,
+      final BiConsumer<String, Throwable> errorLog) {
+    return new AggregatingItemProcessorLogger(summaryLog, errorLog, Duration.ofSeconds(10), 3, 8192);
+  }
+
+  /**
+   * 구간 요약 주기를 변경한 새 로거를 반환합니다.
+   *
+   * @param interval 구간 요약 주기
+   * @return 새 로거
+   */
+  public AggregatingItemProcessorLogger withInterval(final Duration interval) {
+    return new AggregatingItemProcessorLogger(summaryLog, errorLog, interval, failureSamples, capacity);
+  }
+
+  /**
+   * 구간마다 스택 트레이스와 함께 남길 실패 표본 수를 변경한 새 로거를 반환합니다.
+   *
+   * @param failureSamples 구간당 실패 표본 수 (0이면 유형별 건수만 남김)
+   * @return 새 로거
+   */
+  public AggregatingItemProcessorLogger withFailureSamples(final int failureSamples) {
+    return new AggregatingItemProcessorLogger(summaryLog, errorLog, interval, failureSamples, capacity);
+  }
+
+  /**
+   * 원형 버퍼 크기를 변경한 새 로거를 반환합니다.
+   *
+   * @param bufferSize 버퍼 크기 (2의 거듭제곱으로 올림)
+   * @return 새 로거
+   */
+  public AggregatingItemProcessorLogger withBufferSize(final int bufferSize) {
+    return new AggregatingItemProcessorLogger(summaryLog, errorLog, interval, failureSamples, bufferSize);
+  }
+
+  @Override
+  public void onStart(final Long totalCount) {
+    // 이전 스레드가 종료된 뒤에만 집계 상태를 초기화
+    stop();
+    this.totalCount = totalCount;
+    currentBatch = 0;
+    batchWindow = new Window();
+    intervalWindow = new Window();
+    intervalStartNanos = System.nanoTime();
+    successTotal = 0;
+    failureTotal = 0;
+    droppedSamples = 0;
+    samplesLeft = failureSamples;
+    suppressedFailures.clear();
+    overflowSuccess.reset();
+    overflowFailure.reset();
+    summaryLog.accept(totalCount != null ? "처리 시작: 총 " + totalCount + "건" : "처리 시작");
+
+    final Thread thread = new Thread(this::drainLoop, "item-logger-aggregator");
+    thread.setDaemon(true);
+    drainer = thread;
+    // 이전 순번에 이어서 봉인을 풀어, 이전 실행의 published 기록과 겹치지 않도록 함
+    final long end = tail.get() & ~SEALED;
+    head = end;
+    tail.set(end);
+    thread.start();
+  }
+
+  @Override
+  public void onItemSuccess(final Long index) {
+    onItemSuccess(index, -1L);
+  }
+
+  @Override
+  public void onItemFail(final Long index, final Exception e) {
+    onItemFail(index, e, -1L);
+  }
+
+  @Override
+  public void onItemSuccess(final Long index, final long elapsedNanos) {
+    if (!offer(SUCCESS, index != null ? index : -1L, elapsedNanos, null, false)) {
+      overflowSuccess.increment();
+    }
+  }
+
+  @Override
+  public void onItemFail(final Long index, final Exception e, final long elapsedNanos) {
+    if (!offer(FAILURE, index != null ? index : -1L, elapsedNanos, e, false)) {
+      overflowFailure.increment();
+    }
+  }
+
+  @Override
+  public void onBatchFetched(final Integer batch, final Integer itemCount) {
+    // 배치 경계는 아이템 이벤트와 순서가 맞아야 하므로 버퍼에 자리가 날 때까지 기다림
+    offer(BATCH, batch != null ? batch : 0, -1L, null, true);
+  }
+
+  @Override
+  public void onBatchSuccess(final Integer batch, final Long processedCount) {
+    // 배치 요약에 포함됨
+  }
+
+  @Override
+  public void onBatchFail(final Integer batch, final Exception e) {
+    errorLog.accept("배치 " + batch + " 저장 실패", e);
+  }
+
+  @Override
+  public void onComplete(final Long totalProcessed, final Long successCount, final Long failureCount) {
+    stop();
+    summaryLog.accept("처리 완료: 전체 " + totalProcessed + "건, 성공 " + successCount + "건, 실패 " + failureCount + "건");
+  }
+
+  @Override
+  public void onError(final Long totalProcessed, final Long successCount, final Long failureCount, final Exception e) {
+    stop();
+    errorLog.accept("처리 중단: 전체 " + totalProcessed + "건, 성공 " + successCount + "건, 실패 " + failureCount + "건", e);
+  }
+
+  /**
+   * 백그라운드 스레드를 멈춥니다. 버퍼에 남은 이벤트는 요약한 뒤 멈춥니다.
+   */
+  @Override
+  public void close() {
+    stop();
+  }
+
+  /**
+   * 버퍼에 이벤트 하나를 기록합니다.
+   *
+   * @param wait 버퍼가 가득 차면 자리가 날 때까지 기다릴지 여부
+   * @return 기록했으면 true
+   */
+  private boolean offer(final byte kind, final long value, final long elapsedNanos, final Exception error,
+      final boolean wait) {
+    long sequence;
+    do {
+      sequence = tail.get();
+      if ((sequence & SEALED) != 0) {
+        return false;
+      }
+      if (sequence - head >= capacity) {
+        if (!wait) {
+          return false;
+        }
+        LockSupport.parkNanos(POLL_NANOS / 10);
+        continue;
+      }
+      if (tail.compareAndSet(sequence, sequence + 1)) {
+        break;
+      }
+    } while (true);
+    final int slot = (int) (sequence & mask);
+    kinds[slot] = kind;
+    values[slot] = value;
+    nanos[slot] = elapsedNanos;
+    errors[slot] = error;
+    published.set(slot, sequence);
+    return true;
+  }
+
+  /**
+   * 버퍼를 봉인하고 백그라운드 스레드가 남은 이벤트를 요약한 뒤 종료할 때까지 기다립니다.
+   */
+  private void stop() {
+    seal();
+    final Thread thread = drainer;
+    if (thread == null) {
+      return;
+    }
+    LockSupport.unpark(thread);
+    boolean interrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (drainer == thread) {
+      drainer = null;
+    }
+  }
+
+  private void seal() {
+    tail.getAndUpdate(sequence -> sequence | SEALED);
+  }
+
+  /**
+   * 봉인될 때까지 버퍼를 비우고, 봉인 전에 예약된 칸을 모두 요약한 뒤 종료합니다.
+   * 집계 상태를 읽고 쓰는 것은 이 스레드뿐이며, 종료하는 것도 이 루프뿐입니다.
+   */
+  private void drainLoop() {
+    try {
+      long sealed;
+      while (((sealed = tail.get()) & SEALED) == 0) {
+        if (drain() == 0) {
+          LockSupport.parkNanos(this, POLL_NANOS);
+        }
+        if (System.nanoTime() - intervalStartNanos >= interval.toNanos()) {
+          emitInterval();
+        }
+      }
+      // 봉인 전에 예약되었지만 아직 채워지지 않은 칸까지 비움
+      final long end = sealed & ~SEALED;
+      while (head < end) {
+        if (drain() == 0) {
+          Thread.onSpinWait();
+        }
+      }
+      drain();
+      emitBatch();
+      emitInterval();
+    } catch (RuntimeException e) {
+      errorLog.accept("요약 로그 스레드가 중단되었습니다.", e);
+    } finally {
+      // 비정상 종료여도 배치 경계를 기다리는 작업 스레드가 멈추지 않도록 봉인
+      seal();
+    }
+  }
+
+  /**
+   * 채워진 칸을 순서대로 읽어 집계합니다.
+   *
+   * @return 읽은 이벤트 수
+   */
+  private int drain() {
+    int drained = 0;
+    long sequence = head;
+    while (published.get((int) (sequence & mask)) == sequence) {
+      final int slot = (int) (sequence & mask);
+      final byte kind = kinds[slot];
+      final long value = values[slot];
+      final long elapsed = nanos[slot];
+      final Exception error = errors[slot];
+      errors[slot] = null;
+      sequence++;
+      head = sequence;
+      drained++;
+      switch (kind) {
+        case SUCCESS -> record(true, elapsed, value, null);
+        case FAILURE -> record(false, elapsed, value, error);
+        case BATCH -> {
+          emitBatch();
+          currentBatch = (int) value;
+        }
+        default -> {
+          // 알 수 없는 종류는 무시
+        }
+      }
+    }
+    // 버퍼가 가득 차서 버린 이벤트는 건수만 반영
+    final long lostSuccess = overflowSuccess.sumThenReset();
+    final long lostFailure = overflowFailure.sumThenReset();
+    if (lostSuccess + lostFailure > 0) {
+      batchWindow.success += lostSuccess;
+      batchWindow.failure += lostFailure;
+      intervalWindow.success += lostSuccess;
+      intervalWindow.failure += lostFailure;
+      successTotal += lostSuccess;
+      failureTotal += lostFailure;
+      droppedSamples += lostSuccess + lostFailure;
+      if (lostFailure > 0) {
+        suppressedFailures.merge("버퍼 초과", lostFailure, Long::sum);
+      }
+    }
+    return drained;
+  }
+
+  private void record(final boolean success, final long elapsed, final long index, final Exception error) {
+    if (success) {
+      batchWindow.success++;
+      intervalWindow.success++;
+      successTotal++;
+    } else {
+      batchWindow.failure++;
+      intervalWindow.failure++;
+      failureTotal++;
+      sampleFailure(index, error);
+    }
+    if (elapsed >= 0) {
+      batchWindow.latency.record(elapsed);
+      intervalWindow.latency.record(elapsed);
+    }
+  }
+
+  private void sampleFailure(final long index, final Exception error) {
+    if (samplesLeft > 0) {
+      samplesLeft--;
+      errorLog.accept("아이템 " + index + " 처리 실패 (구간 표본 " + (failureSamples - samplesLeft) + "/" + failureSamples + ")",
+          error);
+      return;
+    }
+    final String type = error != null ? error.getClass().getSimpleName() : "unknown";
+    suppressedFailures.merge(type, 1L, Long::sum);
+  }
+
+  private void emitBatch() {
+    if (currentBatch <= 0 || batchWindow.count() == 0) {
+      batchWindow = new Window();
+      return;
+    }
+    summaryLog.accept("배치 " + currentBatch + ": " + batchWindow.describe());
+    batchWindow = new Window();
+  }
+
+  private void emitInterval() {
+    final long now = System.nanoTime();
+    final long elapsed = now - intervalStartNanos;
+    if (intervalWindow.count() > 0 || !suppressedFailures.isEmpty()) {
+      final StringBuilder line = new StringBuilder("진행: 누적 ").append(successTotal + failureTotal).append("건");
+      if (totalCount != null && totalCount > 0) {
+        line.append('/').append(totalCount).append("건 (")
+            .append(String.format(Locale.ROOT, "%.1f", 100.0 * (successTotal + failureTotal) / totalCount))
+            .append("%)");
+      }
+      line.append(", 성공 ").append(successTotal).append("건, 실패 ").append(failureTotal).append("건, 최근 ")
+          .append(String.format(Locale.ROOT, "%.1f", intervalWindow.count() * 1e9 / Math.max(1L, elapsed)))
+          .append("건/s");
+      if (intervalWindow.latency.snapshot().count() > 0) {
+        line.append(", p95 ").append(millis(intervalWindow.latency.percentile(0.95)));
+      }
+      if (droppedSamples > 0) {
+        line.append(", 버퍼 초과로 누락된 지연 시간 표본 ").append(droppedSamples).append("건");
+      }
+      summaryLog.accept(line.toString());
+    }
+    if (!suppressedFailures.isEmpty()) {
+      summaryLog.accept("표본 외 실패: " + suppressedFailures.entrySet().stream()
+          .map(entry -> entry.getKey() + " " + entry.getValue() + "건")
+          .collect(Collectors.joining(", ")));
+      suppressedFailures.clear();
+    }
+    intervalWindow = new Window();
+    intervalStartNanos = now;
+    samplesLeft = failureSamples;
+  }
+
+  private static String millis(final Duration duration) {
+    return String.format(Locale.ROOT, "%.1fms", duration.toNanos() / 1_000_000.0);
+  }
+
+  /** 배치 또는 구간 하나의 집계 */
+  private static final class Window {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private long success;
+    private long failure;
+
+    private long count() {
+      return success + failure;
+    }
+
+    private String describe() {
+      final StringBuilder line = new StringBuilder()
+          .append("성공 ").append(success).append("건, 실패 ").append(failure).append("건");
+      if (latency.snapshot().count() > 0) {
+        line.append(", p50 ").append(millis(latency.percentile(0.50)))
+            .append(", p95 ").append(millis(latency.percentile(0.95)))
+            .append(", max ").append(millis(latency.snapshot().max()));
+      }
+      return line.toString();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 스레드를 막지 않는 세마포어.
+ * <p>
+ * {@link #acquire()}는 허가를 얻으면 완료되는 future를 반환하므로, 대기하는 동안 스레드를 점유하지 않습니다.
+ * 대기 순서대로 허가를 넘겨주며, 다음 대기자의 future는 {@link #release()}를 호출한 스레드에서 완료됩니다.
+ * </p>
+ * <p>
+ * 대기자의 후속 작업이 동기로 끝나며 다시 {@link #release()}를 호출해도 재귀로 깊어지지 않도록,
+ * 이미 넘겨주는 중인 스레드에서는 바깥 루프가 이어서 완료합니다.
+ * </p>
+ */
+final class AsyncSemaphore {
+
+  /** 현재 스레드에서 완료를 기다리는 대기자, 넘겨주는 중이 아니면 null */
+  private static final ThreadLocal<Queue<CompletableFuture<Void>>> HANDOFFS = new ThreadLocal<>();
+
+  private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+  private int available;
+
+  AsyncSemaphore(final int permits) {
+    if (permits < 1) {
+      throw new IllegalArgumentException("permits는 1 이상이어야 합니다: " + permits);
+    }
+    this.available = permits;
+  }
+
+  /**
+   * 허가를 요청합니다.
+   *
+   * @return 허가를 얻으면 완료되는 future
+   */
+  CompletableFuture<Void> acquire() {
+    synchronized (this) {
+      if (available > 0) {
+        available--;
+        return CompletableFuture.completedFuture(null);
+      }
+      final CompletableFuture<Void> waiter = new CompletableFuture<>();
+      waiters.add(waiter);
+      return waiter;
+    }
+  }
+
+  /**
+   * 허가를 반환합니다. 대기자가 있으면 가장 먼저 기다린 대기자에게 넘겨줍니다.
+   */
+  void release() {
+    final CompletableFuture<Void> next;
+    synchronized (this) {
+      next = waiters.poll();
+      if (next == null) {
+        available++;
+        return;
+      }
+    }
+    final Queue<CompletableFuture<Void>> pending = HANDOFFS.get();
+    if (pending != null) {
+      pending.add(next);
+      return;
+    }
+    // 대기자의 후속 작업이 락 밖에서 실행되도록 함
+    final Queue<CompletableFuture<Void>> handoffs = new ArrayDeque<>();
+    HANDOFFS.set(handoffs);
+    try {
+      CompletableFuture<Void> current = next;
+      while (current != null) {
+        current.complete(null);
+        current = handoffs.poll();
+      }
+    } finally {
+      HANDOFFS.remove();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package me.hanju.webcollectorbase.core;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 /**
@@ -30,6 +31,36 @@ public interface BatchExecutionConfig {
     return 3;
   }
 
+  /**
+   * 아이템 하나의 처리 제한 시간을 반환합니다.
+   * <p>
+   * 처리가 시작된 뒤 제한 시간이 지나면 작업 스레드를 인터럽트하고 {@link BatchTimeoutException}으로 실패 처리한 뒤
+   * 배치의 나머지 진행을 계속합니다. 인터럽트에 반응하지 않는 작업은 계속 실행될 수 있으며, 그 결과는 집계되지 않습니다.
+   * 동기 Executor({@code Runnable::run})에서는 작업이 호출 스레드를 붙잡으므로, 인터럽트에 반응하지 않는 작업까지
+   * 끊어내려면 별도 스레드 풀을 사용하세요.
+   * </p>
+   *
+   * @return 아이템 처리 제한 시간 (기본: null, 제한 없음)
+   */
+  default Duration getItemTimeout() {
+    return null;
+  }
+
+  /**
+   * flush 하나의 제한 시간을 반환합니다.
+   * <p>
+   * 제한 시간이 지나면 작업 스레드를 인터럽트하고 {@link BatchTimeoutException}으로 배치 실패를 기록합니다.
+   * flush 슬롯은 {@link AbstractItemProcessor#saveBatch()}가 실제로 끝난 뒤에 반환되고 처리도 그때까지 기다리므로,
+   * 동시에 실행되는 flush 수는 {@link #getMaxPendingFlushes()}를 넘지 않으며 진행 중인 저장이 처리 종료 뒤에 남지 않습니다.
+   * 인터럽트에 반응하지 않는 저장이 오래 걸리면 그동안 다음 배치는 flush 슬롯을 기다립니다.
+   * </p>
+   *
+   * @return flush 제한 시간 (기본: null, 제한 없음)
+   */
+  default Duration getFlushTimeout() {
+    return null;
+  }
+
   /**
    * Graceful shutdown이 요청된 이후에는 true를 반환시키십시오.
    * 기본적으론 항상 false를 반환합니다.
@@ -60,4 +91,13 @@ public interface BatchExecutionConfig {
       super(message, cause);
     }
   }
+
+  /**
+   * 아이템 처리나 flush가 제한 시간을 넘겼을 때 사용합니다.
+   */
+  public static class BatchTimeoutException extends BatchExecutionException {
+    public BatchTimeoutException(String message) {
+      super(message);
+    }
+  }
 }
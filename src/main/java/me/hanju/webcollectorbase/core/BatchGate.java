@@ -0,0 +1,25 @@
+package me.hanju.webcollectorbase.core;
+
+/**
+ * {@link AbstractItemProcessor}의 배치 진행을 외부에서 제어합니다.
+ * <p>
+ * 연결되어 있으면 엔진은 배치를 읽기 전에 {@link #awaitNextBatch()}로 진행 여부를 묻고,
+ * {@link AbstractItemProcessor#saveBatch()} 대신 {@link #flush()}를 호출합니다.
+ * </p>
+ *
+ * @see ProcessorPublisher
+ */
+interface BatchGate {
+
+  /**
+   * 다음 배치를 진행해도 될 때까지 기다립니다.
+   *
+   * @return 진행하면 true, 처리를 끝내야 하면 false
+   */
+  boolean awaitNextBatch();
+
+  /**
+   * 처리된 배치의 결과를 내보냅니다.
+   */
+  void flush();
+}
@@ -0,0 +1,67 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 배치 안의 아이템이 모두 확정될 때까지 처리 스레드를 기다리게 하는 재사용 래치.
+ * <p>
+ * 아이템마다 future를 만들지 않도록, 처리 스레드가 배치마다 {@link #reset()}으로 다시 무장하고
+ * 발급할 때마다 {@link #register()}, 아이템 결과가 확정되면 {@link #arrive()}를 호출합니다.
+ * 처리 스레드 자신도 한 자리를 차지하므로, 발급 중에 모든 아이템이 먼저 끝나도 {@link #arriveAndAwait()} 전에는 열리지 않습니다.
+ * </p>
+ * <p>
+ * {@link #reset()}과 {@link #arriveAndAwait()}는 같은 처리 스레드에서만 호출합니다.
+ * </p>
+ */
+final class BatchLatch {
+
+  private final AtomicInteger pending = new AtomicInteger(0);
+  private volatile Thread waiter;
+
+  /**
+   * 다음 배치를 위해 래치를 다시 무장합니다.
+   */
+  void reset() {
+    waiter = Thread.currentThread();
+    pending.set(1);
+  }
+
+  /**
+   * 확정을 기다릴 아이템 하나를 등록합니다. 아이템을 Executor에 제출하기 전에 호출합니다.
+   */
+  void register() {
+    pending.incrementAndGet();
+  }
+
+  /**
+   * 등록한 아이템 하나의 결과가 확정되었음을 알립니다. 아이템마다 정확히 한 번 호출해야 합니다.
+   */
+  void arrive() {
+    if (pending.decrementAndGet() == 0) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  /**
+   * 처리 스레드의 자리를 반납하고 등록한 아이템이 모두 확정될 때까지 기다립니다.
+   * <p>
+   * {@code CompletableFuture.join()}처럼 인터럽트로 대기를 멈추지 않으며, 인터럽트 상태는 반환 전에 복원됩니다.
+   * </p>
+   */
+  void arriveAndAwait() {
+    if (pending.decrementAndGet() == 0) {
+      return;
+    }
+    boolean interrupted = false;
+    while (pending.get() != 0) {
+      LockSupport.park(this);
+      if (Thread.interrupted()) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
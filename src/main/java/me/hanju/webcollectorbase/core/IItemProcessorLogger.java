@@ -22,6 +22,33 @@ public interface IItemProcessorLogger {
   /** 개별 아이템 처리 실패 시 호출 */
   void onItemFail(Long index, Exception e);
 
+  /**
+   * 개별 아이템 처리 성공 시 처리 시간과 함께 호출됩니다.
+   * <p>
+   * 기본 구현은 {@link #onItemSuccess(Long)}를 호출합니다. 지연 시간을 집계하려면 오버라이드하세요.
+   * </p>
+   *
+   * @param index        아이템 순번
+   * @param elapsedNanos 처리 시간 (나노초)
+   */
+  default void onItemSuccess(Long index, long elapsedNanos) {
+    onItemSuccess(index);
+  }
+
+  /**
+   * 개별 아이템 처리 실패 시 처리 시간과 함께 호출됩니다.
+   * <p>
+   * 기본 구현은 {@link #onItemFail(Long, Exception)}를 호출합니다.
+   * </p>
+   *
+   * @param index        아이템 순번
+   * @param e            실패 원인
+   * @param elapsedNanos 실패까지 걸린 시간 (나노초)
+   */
+  default void onItemFail(Long index, Exception e, long elapsedNanos) {
+    onItemFail(index, e);
+  }
+
   /** 배치 읽기 완료 시 호출 */
   void onBatchFetched(Integer batch, Integer itemCount);
 
@@ -0,0 +1,341 @@
+package me.hanju.webcollectorbase.core;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import me.hanju.webcollectorbase.core.circuit.CircuitOpenException;
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+
+/**
+ * 프로세서의 처리 결과를 {@link Flow.Publisher}로 내보내는 어댑터.
+ * <p>
+ * 구독하면 별도 스레드에서 {@link AbstractItemProcessor#process(int, IItemProcessorLogger)}를 실행하고,
+ * 배치마다 {@link AbstractItemProcessor#saveBatch()} 대신 {@code drain}으로 버퍼에 쌓인 결과를 꺼내 구독자에게 전달합니다.
+ * 다음 배치는 이전 배치의 결과가 모두 꺼내졌고 아직 전달되지 않은 결과보다 구독자의 요청량이 많을 때만 읽으므로,
+ * {@code request(n)}이 읽는 배치(페이지 프로세서에서는 페이지) 수를 결정하며 요청량을 넘어 쌓이는 결과는 최대 한 배치 분량입니다.
+ * </p>
+ * <p>
+ * 처리가 끝나면 {@code onComplete}, 처리 중 예외로 끝나면 그 예외로, 서킷이 열려 끝나면 {@link CircuitOpenException}으로
+ * {@code onError}를 호출합니다. 구독을 취소하면 진행 중인 배치까지만 처리하고 종료합니다.
+ * 프로세서 실행은 한 번이므로 구독자도 하나만 허용합니다.
+ * </p>
+ * <p>
+ * {@link AbstractPartitionedItemProcessor}나 {@code AbstractStreamingHttpPageProcessor}처럼 배치 버퍼를 직접 관리하는 프로세서는
+ * 그 버퍼를 꺼내는 {@code drainResults()}/{@code drainItems()}를 drain 함수로 지정해야 합니다.
+ * 다른 함수를 지정하면 버퍼가 비워지지 않고 계속 쌓입니다.
+ * </p>
+ *
+ * <pre>{@code
+ * Flow.Publisher<Article> articles = ProcessorPublisher.of(processor, 10, processor::drainBuffer);
+ * articles.subscribe(subscriber);
+ * }</pre>
+ *
+ * @param <R> 내보낼 결과 타입
+ */
+public final class ProcessorPublisher<R> implements Flow.Publisher<R> {
+
+  private final AbstractItemProcessor<?> processor;
+  private final int batchSize;
+  private final Supplier<? extends List<? extends R>> drain;
+  private final IItemProcessorLogger logger;
+  private final AtomicBoolean subscribed = new AtomicBoolean(false);
+  private final CompletableFuture<ItemProcessedResult> result = new CompletableFuture<>();
+
+  private ProcessorPublisher(final AbstractItemProcessor<?> processor, final int batchSize,
+      final Supplier<? extends List<? extends R>> drain, final IItemProcessorLogger logger) {
+    this.processor = processor;
+    this.batchSize = batchSize;
+    this.drain = drain;
+    this.logger = logger;
+  }
+
+  /**
+   * 프로세서의 Publisher를 생성합니다.
+   *
+   * @param processor 실행할 프로세서
+   * @param batchSize 배치 크기
+   * @param drain     배치 처리 후 버퍼에 쌓인 결과를 꺼내는 함수 ({@code saveBatch()} 대신 호출됨)
+   * @param <R>       내보낼 결과 타입
+   * @return Publisher
+   */
+  public static <R> ProcessorPublisher<R> of(final AbstractItemProcessor<?> processor, final int batchSize,
+      final Supplier<? extends List<? extends R>> drain) {
+    return of(processor, batchSize, drain, IItemProcessorLogger.noOp());
+  }
+
+  /**
+   * 프로세서의 Publisher를 생성합니다.
+   *
+   * @param processor 실행할 프로세서
+   * @param batchSize 배치 크기
+   * @param drain     배치 처리 후 버퍼에 쌓인 결과를 꺼내는 함수 ({@code saveBatch()} 대신 호출됨)
+   * @param logger    로거
+   * @param <R>       내보낼 결과 타입
+   * @return Publisher
+   */
+  public static <R> ProcessorPublisher<R> of(final AbstractItemProcessor<?> processor, final int batchSize,
+      final Supplier<? extends List<? extends R>> drain, final IItemProcessorLogger logger) {
+    return new ProcessorPublisher<>(processor, batchSize, drain, logger);
+  }
+
+  /**
+   * 처리 결과를 반환합니다.
+   *
+   * @return 처리가 끝나면 처리 결과로 완료되는 future
+   */
+  public CompletableFuture<ItemProcessedResult> result() {
+    return result;
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super R> subscriber) {
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+          // no-op
+        }
+
+        @Override
+        public void cancel() {
+          // no-op
+        }
+      });
+      subscriber.onError(new IllegalStateException("ProcessorPublisher는 구독자를 하나만 허용합니다."));
+      return;
+    }
+    final Emitter emitter = new Emitter(subscriber);
+    subscriber.onSubscribe(emitter);
+    final Thread runner = new Thread(emitter::run, "processor-publisher");
+    runner.setDaemon(true);
+    runner.start();
+  }
+
+  /**
+   * 구독 하나의 요청량과 전달 대기 결과를 관리하며, 프로세서의 배치 게이트 역할을 합니다.
+   */
+  private final class Emitter implements Flow.Subscription, BatchGate {
+
+    private final Flow.Subscriber<? super R> subscriber;
+    private final Queue<R> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queued = new AtomicLong(0);
+    private final AtomicLong requested = new AtomicLong(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final Object lock = new Object();
+    private int pendingBatches;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private boolean terminated;
+
+    private Emitter(final Flow.Subscriber<? super R> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("request는 양수여야 합니다: " + n);
+        done = true;
+        cancel();
+        deliver();
+        return;
+      }
+      requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      deliver();
+      signal();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      signal();
+    }
+
+    @Override
+    public boolean awaitNextBatch() {
+      synchronized (lock) {
+        while (!cancelled && (pendingBatches > 0 || requested.get() <= queued.get())) {
+          if (processor.isShutdownRequested()) {
+            return false;
+          }
+          try {
+            lock.wait(100);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+          }
+        }
+        if (cancelled) {
+          return false;
+        }
+        pendingBatches++;
+        return true;
+      }
+    }
+
+    @Override
+    public void flush() {
+      try {
+        final List<? extends R> results = drain.get();
+        if (results != null) {
+          for (R value : results) {
+            queue.add(value);
+          }
+          queued.addAndGet(results.size());
+        }
+      } finally {
+        synchronized (lock) {
+          pendingBatches--;
+          lock.notifyAll();
+        }
+        deliver();
+      }
+    }
+
+    private void run() {
+      processor.attachBatchGate(this);
+      ItemProcessedResult processed = null;
+      final ErrorCapturingLogger capturing = new ErrorCapturingLogger(logger);
+      try {
+        processed = processor.process(batchSize, capturing);
+      } catch (RuntimeException e) {
+        capturing.error = e;
+      } finally {
+        processor.attachBatchGate(null);
+      }
+      if (capturing.error != null) {
+        error = capturing.error;
+      } else if (processed != null && processed.terminationReason() == TerminationReason.CIRCUIT_OPEN) {
+        error = new CircuitOpenException("서킷이 열려 처리를 종료했습니다.");
+      }
+      if (processed != null) {
+        result.complete(processed);
+      } else {
+        result.completeExceptionally(error);
+      }
+      done = true;
+      deliver();
+    }
+
+    /**
+     * 요청량만큼 결과를 전달합니다. 여러 스레드에서 호출되어도 한 번에 한 스레드만 전달합니다.
+     */
+    private void deliver() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        long emitted = 0;
+        final long limit = requested.get();
+        while (emitted != limit && !cancelled) {
+          final R value = queue.poll();
+          if (value == null) {
+            break;
+          }
+          subscriber.onNext(value);
+          emitted++;
+        }
+        if (emitted > 0) {
+          queued.addAndGet(-emitted);
+          if (limit != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+          }
+          signal();
+        }
+        if (cancelled && !done) {
+          queue.clear();
+        } else if (done && !terminated && (queue.isEmpty() || error != null || cancelled)) {
+          terminated = true;
+          queue.clear();
+          if (!cancelled || error != null) {
+            if (error != null) {
+              subscriber.onError(error);
+            } else {
+              subscriber.onComplete();
+            }
+          }
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void signal() {
+      synchronized (lock) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /** 프로세서가 {@code onError}로 보고한 예외를 보관하는 로거 */
+  private static final class ErrorCapturingLogger implements IItemProcessorLogger {
+
+    private final IItemProcessorLogger delegate;
+    private volatile Exception error;
+
+    private ErrorCapturingLogger(final IItemProcessorLogger delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onStart(final Long totalCount) {
+      delegate.onStart(totalCount);
+    }
+
+    @Override
+    public void onItemSuccess(final Long index) {
+      delegate.onItemSuccess(index);
+    }
+
+    @Override
+    public void onItemFail(final Long index, final Exception e) {
+      delegate.onItemFail(index, e);
+    }
+
+    @Override
+    public void onItemSuccess(final Long index, final long elapsedNanos) {
+      delegate.onItemSuccess(index, elapsedNanos);
+    }
+
+    @Override
+    public void onItemFail(final Long index, final Exception e, final long elapsedNanos) {
+      delegate.onItemFail(index, e, elapsedNanos);
+    }
+
+    @Override
+    public void onBatchFetched(final Integer batch, final Integer itemCount) {
+      delegate.onBatchFetched(batch, itemCount);
+    }
+
+    @Override
+    public void onBatchSuccess(final Integer batch, final Long processedCount) {
+      delegate.onBatchSuccess(batch, processedCount);
+    }
+
+    @Override
+    public void onBatchFail(final Integer batch, final Exception e) {
+      delegate.onBatchFail(batch, e);
+    }
+
+    @Override
+    public void onComplete(final Long totalProcessed, final Long successCount, final Long failureCount) {
+      delegate.onComplete(totalProcessed, successCount, failureCount);
+    }
+
+    @Override
+    public void onError(final Long totalProcessed, final Long successCount, final Long failureCount,
+        final Exception e) {
+      error = e;
+      delegate.onError(totalProcessed, successCount, failureCount, e);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package me.hanju.webcollectorbase.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import me.hanju.webcollectorbase.core.progress.LatencyHistogram;
+import me.hanju.webcollectorbase.core.progress.LatencySnapshot;
+import me.hanju.webcollectorbase.core.progress.ProcessingProgress;
+import me.hanju.webcollectorbase.core.progress.RunStatistics;
+
+/**
+ * 한 번의 처리 실행에 대한 단계별 지연 시간과 처리량을 기록합니다.
+ * <p>
+ * 모든 기록은 잠금 없이 카운터와 히스토그램 구간을 증가시키며, 집계는 조회할 때만 합니다.
+ * </p>
+ * <p>
+ * 처리량은 초마다 한 번, 그 초에 처음 확정된 아이템이 누적 확정 수를 원형 버퍼에 남기는 방식으로 기록하므로
+ * 아이템당 비용은 시각 비교 한 번입니다. 최근 구간 처리량은 구간 시작 무렵의 기록과 현재 누적 수의 차이로 계산합니다.
+ * </p>
+ */
+final class ProgressTracker {
+
+  private static final long SECOND_NANOS = 1_000_000_000L;
+  private static final int SLOTS = 64;
+  private static final int SHORT_WINDOW_SECONDS = 10;
+  private static final int LONG_WINDOW_SECONDS = 60;
+
+  private final long startNanos = System.nanoTime();
+  private final LongSupplier completedCount;
+  private final LatencyHistogram fetchLatency = new LatencyHistogram();
+  private final LatencyHistogram processLatency = new LatencyHistogram();
+  private final LatencyHistogram flushLatency = new LatencyHistogram();
+  private final LatencyHistogram flushWait = new LatencyHistogram();
+  private final AtomicLong lastTickSecond = new AtomicLong(0);
+  private final AtomicLongArray tickNanos = new AtomicLongArray(SLOTS);
+  private final AtomicLongArray tickCounts = new AtomicLongArray(SLOTS);
+  private volatile long endNanos = -1;
+
+  /**
+   * @param completedCount 결과가 확정된 아이템 누적 수
+   */
+  ProgressTracker(final LongSupplier completedCount) {
+    this.completedCount = completedCount;
+    for (int i = 1; i < SLOTS; i++) {
+      tickNanos.set(i, -1);
+    }
+  }
+
+  void recordFetch(final long nanos) {
+    fetchLatency.record(nanos);
+  }
+
+  /**
+   * 아이템 하나의 결과가 확정되었을 때 처리 시간을 기록합니다.
+   *
+   * @param start 처리 시작 시각 ({@link System#nanoTime()})
+   * @return 처리 시간 (나노초)
+   */
+  long recordProcess(final long start) {
+    final long now = System.nanoTime();
+    processLatency.record(now - start);
+    final long elapsed = now - startNanos;
+    final long second = elapsed / SECOND_NANOS;
+    final long last = lastTickSecond.get();
+    if (second != last && lastTickSecond.compareAndSet(last, second)) {
+      final int slot = (int) (second % SLOTS);
+      tickNanos.set(slot, -1);
+      tickCounts.set(slot, completedCount.getAsLong());
+      tickNanos.set(slot, elapsed);
+    }
+    return now - start;
+  }
+
+  void recordFlush(final long nanos) {
+    flushLatency.record(nanos);
+  }
+
+  void recordFlushWait(final long nanos) {
+    flushWait.record(nanos);
+  }
+
+  void finish() {
+    endNanos = System.nanoTime();
+  }
+
+  ProcessingProgress snapshot(final long totalProcessed, final long successCount, final long failureCount,
+      final Long totalCount, final int pendingFlushes) {
+    final long end = endNanos;
+    final boolean running = end < 0;
+    final long elapsed = (running ? System.nanoTime() : end) - startNanos;
+    final long completed = successCount + failureCount;
+    final double overall = perSecond(completed, elapsed);
+    final double shortWindow = windowRate(SHORT_WINDOW_SECONDS, elapsed, completed);
+    final double longWindow = windowRate(LONG_WINDOW_SECONDS, elapsed, completed);
+
+    Duration eta = null;
+    final double rate = longWindow > 0 ? longWindow : overall;
+    if (running && totalCount != null && rate > 0) {
+      final long remaining = Math.max(0L, totalCount - completed);
+      eta = Duration.ofNanos((long) (remaining / rate * SECOND_NANOS));
+    }
+    return new ProcessingProgress(running, totalProcessed, successCount, failureCount, totalCount,
+        Duration.ofNanos(elapsed), overall, shortWindow, longWindow, eta, pendingFlushes,
+        fetchLatency.snapshot(), processLatency.snapshot(), flushLatency.snapshot());
+  }
+
+  RunStatistics statistics() {
+    final long end = endNanos;
+    final long wall = (end < 0 ? System.nanoTime() : end) - startNanos;
+    final LatencySnapshot fetch = fetchLatency.snapshot();
+    final LatencySnapshot process = processLatency.snapshot();
+    final LatencySnapshot flush = flushLatency.snapshot();
+    final Duration busy = fetch.total().plus(process.total()).plus(flush.total());
+    return new RunStatistics(Duration.ofNanos(wall), busy, fetch, process, flush, flushWait.snapshot());
+  }
+
+  /**
+   * 최근 {@code windowSeconds}초 안에서 가장 오래된 기록을 기준으로 처리량을 계산합니다.
+   */
+  private double windowRate(final int windowSeconds, final long elapsed, final long completed) {
+    final long from = elapsed - windowSeconds * SECOND_NANOS;
+    long baseNanos = Long.MAX_VALUE;
+    long baseCount = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      final long at = tickNanos.get(i);
+      final long count = tickCounts.get(i);
+      // 기록 중인 칸은 건너뜀
+      if (at < 0 || at != tickNanos.get(i) || at < from || at > elapsed || at >= baseNanos) {
+        continue;
+      }
+      baseNanos = at;
+      baseCount = count;
+    }
+    if (baseNanos == Long.MAX_VALUE) {
+      return 0.0;
+    }
+    return perSecond(completed - baseCount, elapsed - baseNanos);
+  }
+
+  private static double perSecond(final long count, final long nanos) {
+    return nanos <= 0 ? 0.0 : (double) count * SECOND_NANOS / nanos;
+  }
+}
@@ -0,0 +1,127 @@
+package me.hanju.webcollectorbase.core;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작업 하나의 제한 시간을 감시합니다.
+ * <p>
+ * 작업 스레드에서 {@link #start(Duration, Runnable)}로 시작하면, 제한 시간이 지날 때까지 {@link #settle()}이 호출되지 않은 경우
+ * 감시 스레드가 먼저 결과를 확정하고 {@code onTimeout}을 실행한 뒤 작업 스레드를 인터럽트합니다.
+ * 작업과 감시 중 {@link #settle()}에 먼저 성공한 쪽만 결과를 기록하므로, 한 작업은 정확히 한 번 집계됩니다.
+ * </p>
+ */
+final class TimeoutGuard {
+
+  private static final ScheduledThreadPoolExecutor WATCHDOG = createWatchdog();
+
+  private final AtomicBoolean settled = new AtomicBoolean(false);
+  private final Thread runner;
+  private ScheduledFuture<?> timer;
+  private boolean finished;
+  private volatile boolean timedOut;
+
+  private TimeoutGuard(final Thread runner) {
+    this.runner = runner;
+  }
+
+  /**
+   * 현재 스레드에서 실행하는 작업의 감시를 시작합니다.
+   *
+   * @param timeout   제한 시간 (null이면 감시하지 않음)
+   * @param onTimeout 제한 시간이 지나 결과를 확정했을 때 감시 스레드에서 실행할 작업
+   * @return 감시 객체, timeout이 null이면 null
+   */
+  static TimeoutGuard start(final Duration timeout, final Runnable onTimeout) {
+    if (timeout == null) {
+      return null;
+    }
+    final TimeoutGuard guard = new TimeoutGuard(Thread.currentThread());
+    final ScheduledFuture<?> timer = WATCHDOG.schedule(() -> guard.expire(onTimeout),
+        timeout.toNanos(), TimeUnit.NANOSECONDS);
+    synchronized (guard) {
+      guard.timer = timer;
+    }
+    return guard;
+  }
+
+  /**
+   * 작업 결과를 확정합니다.
+   *
+   * @param guard 감시 객체 (null이면 감시하지 않는 작업)
+   * @return 작업 쪽에서 확정했으면 true, 이미 제한 시간으로 확정되었으면 false
+   */
+  static boolean settle(final TimeoutGuard guard) {
+    return guard == null || guard.settle();
+  }
+
+  /**
+   * 작업이 끝났음을 알리고 감시를 멈춥니다. 작업 스레드에서 finally 블록으로 호출합니다.
+   * <p>
+   * 제한 시간으로 인터럽트된 경우 스레드의 인터럽트 상태를 지워, 풀 스레드의 다음 작업에 영향을 주지 않게 합니다.
+   * </p>
+   *
+   * @param guard 감시 객체 (null이면 무시)
+   */
+  static void finish(final TimeoutGuard guard) {
+    if (guard == null) {
+      return;
+    }
+    synchronized (guard) {
+      guard.finished = true;
+      if (guard.timer != null) {
+        guard.timer.cancel(false);
+      }
+    }
+    if (guard.timedOut) {
+      Thread.interrupted();
+    }
+  }
+
+  /**
+   * 제한 시간 후 감시 스레드에서 작업을 실행합니다.
+   * <p>
+   * 스레드를 점유하지 않는 비동기 작업의 제한 시간에 사용합니다. 작업이 먼저 끝나면 반환된 future를 취소하세요.
+   * </p>
+   *
+   * @param timeout 제한 시간
+   * @param task    제한 시간이 지나면 실행할 작업
+   * @return 예약된 작업
+   */
+  static ScheduledFuture<?> schedule(final Duration timeout, final Runnable task) {
+    return WATCHDOG.schedule(task, timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private boolean settle() {
+    return settled.compareAndSet(false, true);
+  }
+
+  private void expire(final Runnable onTimeout) {
+    if (!settle()) {
+      return;
+    }
+    timedOut = true;
+    try {
+      onTimeout.run();
+    } finally {
+      synchronized (this) {
+        if (!finished) {
+          runner.interrupt();
+        }
+      }
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createWatchdog() {
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "batch-timeout-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+}
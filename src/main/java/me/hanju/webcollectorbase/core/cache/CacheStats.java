@@ -0,0 +1,37 @@
+package me.hanju.webcollectorbase.core.cache;
+
+/**
+ * {@link SingleFlightCache} 통계.
+ *
+ * @param hitCount       캐시에서 바로 반환한 요청 수
+ * @param missCount      로더를 직접 실행한 요청 수
+ * @param coalescedCount 진행 중인 실행 결과를 공유받은 요청 수
+ * @param evictionCount  크기 제한 또는 만료로 제거된 항목 수
+ * @param size           현재 캐시된 항목 수
+ */
+public record CacheStats(
+    long hitCount,
+    long missCount,
+    long coalescedCount,
+    long evictionCount,
+    long size) {
+
+  /**
+   * 전체 요청 수를 반환합니다.
+   *
+   * @return hit + miss + coalesced
+   */
+  public long requestCount() {
+    return hitCount + missCount + coalescedCount;
+  }
+
+  /**
+   * 로더 실행을 생략한 요청 비율을 반환합니다.
+   *
+   * @return (hit + coalesced) / 전체 요청 수, 요청이 없으면 0
+   */
+  public double hitRate() {
+    final long requests = requestCount();
+    return requests == 0 ? 0.0 : (double) (hitCount + coalescedCount) / requests;
+  }
+}
@@ -0,0 +1,217 @@
+package me.hanju.webcollectorbase.core.cache;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 요청을 하나의 실행으로 합치고, 결과를 일정 시간 보관하는 캐시.
+ * <p>
+ * 같은 키로 동시에 {@link #get(Object, Supplier)}를 호출하면 먼저 들어온 요청만 로더를 실행하고,
+ * 나머지 요청은 그 결과(또는 예외)를 공유합니다. 성공한 결과는 TTL 동안 캐시되며, 실패는 캐시하지 않습니다.
+ * </p>
+ * <p>
+ * 크기가 {@code maximumSize}를 넘으면 빈도 기반 CLOCK 방식으로 항목을 제거합니다.
+ * 조회될 때마다 항목의 빈도가 올라가고, 제거 후보가 될 때마다 빈도가 절반으로 줄어들어
+ * 자주 조회되는 항목은 오래 남고 한 번만 조회된 항목이 먼저 제거됩니다.
+ * </p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlightCache<K, V> {
+
+  private static final int MAX_FREQUENCY = 15;
+
+  private final int maximumSize;
+  private final long ttlNanos;
+  private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Queue<Entry<K, V>> clock = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger clockSize = new AtomicInteger(0);
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * @param maximumSize 최대 캐시 항목 수 (0이면 결과를 캐시하지 않고 동시 요청 합치기만 수행)
+   * @param ttl         결과 보관 시간
+   */
+  public SingleFlightCache(final int maximumSize, final Duration ttl) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize는 0 이상이어야 합니다: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /**
+   * 키에 해당하는 값을 반환합니다.
+   * <p>
+   * 캐시에 유효한 값이 있으면 바로 반환하고, 같은 키의 로더가 실행 중이면 그 결과를 기다립니다.
+   * 둘 다 아니면 현재 스레드에서 로더를 실행합니다.
+   * </p>
+   *
+   * @param key    키
+   * @param loader 값이 없을 때 실행할 로더 (null을 반환하면 안 됩니다)
+   * @return 값
+   */
+  public V get(final K key, final Supplier<? extends V> loader) {
+    final V cached = getIfPresent(key);
+    if (cached != null) {
+      hitCount.increment();
+      return cached;
+    }
+
+    final CompletableFuture<V> flight = new CompletableFuture<>();
+    final CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      coalescedCount.increment();
+      return await(existing);
+    }
+
+    try {
+      // 직전에 끝난 실행이 캐시에 넣었을 수 있으므로 다시 확인
+      final V stored = getIfPresent(key);
+      if (stored != null) {
+        hitCount.increment();
+        flight.complete(stored);
+        return stored;
+      }
+      missCount.increment();
+      final V value = loader.get();
+      store(key, value);
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * 캐시된 값을 반환합니다. 통계에는 반영되지 않습니다.
+   *
+   * @param key 키
+   * @return 유효한 값, 없거나 만료되었으면 null
+   */
+  public V getIfPresent(final K key) {
+    final Entry<K, V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      if (entries.remove(key, entry)) {
+        evictionCount.increment();
+      }
+      return null;
+    }
+    entry.touch();
+    return entry.value;
+  }
+
+  /**
+   * 캐시된 항목을 모두 제거합니다.
+   */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * 현재까지의 통계를 반환합니다.
+   *
+   * @return 캐시 통계
+   */
+  public CacheStats stats() {
+    return new CacheStats(hitCount.sum(), missCount.sum(), coalescedCount.sum(), evictionCount.sum(), entries.size());
+  }
+
+  private void store(final K key, final V value) {
+    if (maximumSize == 0 || ttlNanos <= 0) {
+      return;
+    }
+    final Entry<K, V> entry = new Entry<>(key, value, System.nanoTime() + ttlNanos);
+    entries.put(key, entry);
+    clock.add(entry);
+    clockSize.incrementAndGet();
+    if (entries.size() > maximumSize || clockSize.get() > maximumSize * 2) {
+      evict();
+    }
+  }
+
+  /**
+   * CLOCK 큐를 돌며 크기 제한을 맞춥니다.
+   * 만료되었거나 빈도가 0인 항목은 제거하고, 빈도가 남은 항목은 빈도를 절반으로 줄여 큐 끝으로 보냅니다.
+   * 이미 교체되거나 제거된 항목은 큐에서만 정리합니다.
+   */
+  private synchronized void evict() {
+    final long now = System.nanoTime();
+    while (entries.size() > maximumSize || clockSize.get() > maximumSize * 2) {
+      final Entry<K, V> candidate = clock.poll();
+      if (candidate == null) {
+        return;
+      }
+      clockSize.decrementAndGet();
+      if (entries.get(candidate.key) != candidate) {
+        continue;
+      }
+      if (entries.size() > maximumSize && (candidate.frequency == 0 || candidate.isExpired(now))) {
+        if (entries.remove(candidate.key, candidate)) {
+          evictionCount.increment();
+        }
+        continue;
+      }
+      candidate.frequency >>= 1;
+      clock.add(candidate);
+      clockSize.incrementAndGet();
+    }
+  }
+
+  private static <V> V await(final CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class Entry<K, V> {
+    private final K key;
+    private final V value;
+    private final long expiresAt;
+    private volatile int frequency;
+
+    private Entry(final K key, final V value, final long expiresAt) {
+      this.key = key;
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(final long now) {
+      return now - expiresAt >= 0;
+    }
+
+    private void touch() {
+      // 경합 시 일부 증가가 누락될 수 있으나 근사 빈도로 충분
+      final int current = frequency;
+      if (current < MAX_FREQUENCY) {
+        frequency = current + 1;
+      }
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package me.hanju.webcollectorbase.core.circuit;
+
+import java.time.Duration;
+
+/**
+ * 최근 호출의 실패율과 느린 호출 비율로 호출을 차단하는 서킷 브레이커.
+ * <p>
+ * 닫힘(CLOSED) 상태에서는 모든 호출을 허용하며 결과를 크기 고정 슬라이딩 윈도우에 기록합니다.
+ * 기준을 넘으면 열림(OPEN) 상태가 되어 호출을 거부하고, {@link CircuitBreakerPolicy.OpenAction#PAUSE} 정책이면
+ * openDuration 후 반개방(HALF_OPEN) 상태에서 halfOpenProbes개의 시험 호출만 허용합니다.
+ * 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하거나 느리면 다시 열립니다.
+ * </p>
+ * <p>
+ * 호출은 {@link #tryAcquire()}로 허가 번호를 받고, 끝나면 같은 번호로 {@link #onResult(long, long, boolean)}를 호출합니다.
+ * 허가 이후 상태가 바뀌었다면 그 결과는 무시되므로, 서킷이 열리기 전에 시작한 호출이 시험 호출 판정에 섞이지 않습니다.
+ * </p>
+ */
+public final class CircuitBreaker {
+
+  /**
+   * 서킷 상태.
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final CircuitBreakerPolicy policy;
+  private final byte[] window;
+  private int windowIndex;
+  private int windowCount;
+  private int failures;
+  private int slowCalls;
+
+  private State state = State.CLOSED;
+  private long generation;
+  private long openedAt;
+  private int probePermits;
+  private int probeSuccesses;
+  private long openCount;
+  private long rejectedCount;
+
+  public CircuitBreaker(final CircuitBreakerPolicy policy) {
+    this.policy = policy;
+    this.window = new byte[policy.windowSize()];
+  }
+
+  /**
+   * 호출 허가를 요청합니다.
+   *
+   * @return 허가 번호, 거부되면 -1
+   */
+  public synchronized long tryAcquire() {
+    refreshState();
+    if (state == State.CLOSED) {
+      return generation;
+    }
+    if (state == State.HALF_OPEN && probePermits > 0) {
+      probePermits--;
+      return generation;
+    }
+    rejectedCount++;
+    return -1;
+  }
+
+  /**
+   * 허가받은 호출의 결과를 기록합니다.
+   *
+   * @param permit        {@link #tryAcquire()}가 반환한 허가 번호
+   * @param durationNanos 호출 소요 시간 (나노초)
+   * @param success       성공 여부
+   */
+  public synchronized void onResult(final long permit, final long durationNanos, final boolean success) {
+    if (permit != generation) {
+      return;
+    }
+    final Duration slowCallDuration = policy.slowCallDuration();
+    final boolean slow = slowCallDuration != null && durationNanos >= slowCallDuration.toNanos();
+    if (state == State.CLOSED) {
+      record(success, slow);
+      if (windowCount >= policy.minCalls()
+          && (failureRate() >= policy.failureRateThreshold()
+              || (slowCallDuration != null && slowCallRate() >= policy.slowCallRateThreshold()))) {
+        open();
+      }
+    } else if (state == State.HALF_OPEN) {
+      if (!success || slow) {
+        open();
+      } else if (++probeSuccesses >= policy.halfOpenProbes()) {
+        close();
+      }
+    }
+  }
+
+  /**
+   * 새 호출을 보낼 수 있을 때까지 기다립니다.
+   * <p>
+   * 닫힘 상태이거나 반개방 상태에서 남은 시험 호출 허가가 있으면 바로 반환합니다.
+   * 허가를 소비하지는 않습니다.
+   * </p>
+   *
+   * @param maxWait 최대 대기 시간
+   * @return 보낼 수 있으면 true, 대기 시간이 지났거나 인터럽트되었으면 false
+   */
+  public synchronized boolean awaitCallable(final Duration maxWait) {
+    final long deadline = System.nanoTime() + maxWait.toNanos();
+    while (true) {
+      refreshState();
+      if (state == State.CLOSED || (state == State.HALF_OPEN && probePermits > 0)) {
+        return true;
+      }
+      final long now = System.nanoTime();
+      long waitNanos = deadline - now;
+      if (state == State.OPEN && policy.onOpen() == CircuitBreakerPolicy.OpenAction.PAUSE) {
+        waitNanos = Math.min(waitNanos, openedAt + policy.openDuration().toNanos() - now);
+      }
+      if (deadline - now <= 0) {
+        return false;
+      }
+      try {
+        final long waitMillis = Math.max(1, waitNanos / 1_000_000);
+        wait(waitMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+
+  /**
+   * 현재 상태를 반환합니다.
+   *
+   * @return 서킷 상태
+   */
+  public synchronized State getState() {
+    refreshState();
+    return state;
+  }
+
+  /**
+   * 서킷이 열린 횟수를 반환합니다.
+   *
+   * @return 열린 횟수
+   */
+  public synchronized long getOpenCount() {
+    return openCount;
+  }
+
+  /**
+   * 서킷이 열려 있어 거부한 호출 수를 반환합니다.
+   *
+   * @return 거부한 호출 수
+   */
+  public synchronized long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  /**
+   * 슬라이딩 윈도우의 실패율을 반환합니다.
+   *
+   * @return 실패율, 기록이 없으면 0
+   */
+  public synchronized double failureRate() {
+    return windowCount == 0 ? 0.0 : (double) failures / windowCount;
+  }
+
+  /**
+   * 슬라이딩 윈도우의 느린 호출 비율을 반환합니다.
+   *
+   * @return 느린 호출 비율, 기록이 없으면 0
+   */
+  public synchronized double slowCallRate() {
+    return windowCount == 0 ? 0.0 : (double) slowCalls / windowCount;
+  }
+
+  private void record(final boolean success, final boolean slow) {
+    if (windowCount == window.length) {
+      final byte evicted = window[windowIndex];
+      failures -= evicted & FAILURE;
+      slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      windowCount++;
+    }
+    final byte outcome = (byte) ((success ? 0 : FAILURE) | (slow ? SLOW : 0));
+    window[windowIndex] = outcome;
+    failures += outcome & FAILURE;
+    slowCalls += (outcome & SLOW) >> 1;
+    windowIndex = (windowIndex + 1) % window.length;
+  }
+
+  private void refreshState() {
+    if (state == State.OPEN && policy.onOpen() == CircuitBreakerPolicy.OpenAction.PAUSE
+        && System.nanoTime() - openedAt >= policy.openDuration().toNanos()) {
+      state = State.HALF_OPEN;
+      generation++;
+      probePermits = policy.halfOpenProbes();
+      probeSuccesses = 0;
+      notifyAll();
+    }
+  }
+
+  private void open() {
+    state = State.OPEN;
+    generation++;
+    openedAt = System.nanoTime();
+    openCount++;
+    notifyAll();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    generation++;
+    windowIndex = 0;
+    windowCount = 0;
+    failures = 0;
+    slowCalls = 0;
+    notifyAll();
+  }
+}
@@ -0,0 +1,117 @@
+package me.hanju.webcollectorbase.core.circuit;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커 정책.
+ * <p>
+ * 최근 {@code windowSize}건 중 {@code minCalls}건 이상이 기록된 상태에서 실패율이 {@code failureRateThreshold} 이상이거나,
+ * {@code slowCallDuration} 이상 걸린 호출의 비율이 {@code slowCallRateThreshold} 이상이면 서킷이 열립니다.
+ * </p>
+ *
+ * @param windowSize            실패율을 계산할 최근 호출 수
+ * @param minCalls              판정에 필요한 최소 호출 수
+ * @param failureRateThreshold  서킷을 여는 실패율 (0 초과 1 이하)
+ * @param slowCallDuration      느린 호출로 판정할 소요 시간 (null이면 판정하지 않음)
+ * @param slowCallRateThreshold 서킷을 여는 느린 호출 비율 (0 초과 1 이하)
+ * @param openDuration          {@link OpenAction#PAUSE}에서 시험 호출을 보내기 전까지 대기할 시간
+ * @param halfOpenProbes        반개방 상태에서 보낼 시험 호출 수 (모두 성공하면 서킷이 닫힘)
+ * @param onOpen                서킷이 열렸을 때의 동작
+ */
+public record CircuitBreakerPolicy(
+    int windowSize,
+    int minCalls,
+    double failureRateThreshold,
+    Duration slowCallDuration,
+    double slowCallRateThreshold,
+    Duration openDuration,
+    int halfOpenProbes,
+    OpenAction onOpen) {
+
+  /**
+   * 서킷이 열렸을 때의 동작.
+   */
+  public enum OpenAction {
+    /** 발급을 멈추고, openDuration 후 시험 호출로 회복 여부를 확인합니다. */
+    PAUSE,
+    /** 처리를 조기 종료합니다. */
+    ABORT
+  }
+
+  public CircuitBreakerPolicy {
+    if (windowSize < 1 || minCalls < 1 || minCalls > windowSize) {
+      throw new IllegalArgumentException("1 <= minCalls <= windowSize 여야 합니다: " + minCalls + ", " + windowSize);
+    }
+    if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+      throw new IllegalArgumentException("failureRateThreshold는 0 초과 1 이하여야 합니다: " + failureRateThreshold);
+    }
+    if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+      throw new IllegalArgumentException("slowCallRateThreshold는 0 초과 1 이하여야 합니다: " + slowCallRateThreshold);
+    }
+    if (openDuration == null || openDuration.isNegative()) {
+      throw new IllegalArgumentException("openDuration은 0 이상이어야 합니다: " + openDuration);
+    }
+    if (halfOpenProbes < 1) {
+      throw new IllegalArgumentException("halfOpenProbes는 1 이상이어야 합니다: " + halfOpenProbes);
+    }
+    if (onOpen == null) {
+      throw new IllegalArgumentException("onOpen은 null일 수 없습니다.");
+    }
+  }
+
+  /**
+   * 실패율 기준으로 서킷을 여는 기본 정책을 생성합니다.
+   *
+   * @param failureRateThreshold 서킷을 여는 실패율 (예: 0.5)
+   * @return 최근 50건 중 20건 이상 기록 시 판정, 30초 대기 후 시험 호출 3건으로 회복을 확인하는 정책 ({@link OpenAction#PAUSE})
+   */
+  public static CircuitBreakerPolicy ofFailureRate(final double failureRateThreshold) {
+    return new CircuitBreakerPolicy(50, 20, failureRateThreshold, null, 1.0, Duration.ofSeconds(30), 3,
+        OpenAction.PAUSE);
+  }
+
+  /**
+   * 느린 호출 기준을 추가한 정책을 반환합니다.
+   *
+   * @param duration      느린 호출로 판정할 소요 시간
+   * @param rateThreshold 서킷을 여는 느린 호출 비율
+   * @return 새 정책
+   */
+  public CircuitBreakerPolicy withSlowCalls(final Duration duration, final double rateThreshold) {
+    return new CircuitBreakerPolicy(windowSize, minCalls, failureRateThreshold, duration, rateThreshold,
+        openDuration, halfOpenProbes, onOpen);
+  }
+
+  /**
+   * 서킷이 열린 뒤 시험 호출까지의 대기 시간을 바꾼 정책을 반환합니다.
+   *
+   * @param duration 대기 시간
+   * @return 새 정책
+   */
+  public CircuitBreakerPolicy withOpenDuration(final Duration duration) {
+    return new CircuitBreakerPolicy(windowSize, minCalls, failureRateThreshold, slowCallDuration,
+        slowCallRateThreshold, duration, halfOpenProbes, onOpen);
+  }
+
+  /**
+   * 판정 구간을 바꾼 정책을 반환합니다.
+   *
+   * @param windowSize 실패율을 계산할 최근 호출 수
+   * @param minCalls   판정에 필요한 최소 호출 수
+   * @return 새 정책
+   */
+  public CircuitBreakerPolicy withWindow(final int windowSize, final int minCalls) {
+    return new CircuitBreakerPolicy(windowSize, minCalls, failureRateThreshold, slowCallDuration,
+        slowCallRateThreshold, openDuration, halfOpenProbes, onOpen);
+  }
+
+  /**
+   * 서킷이 열리면 처리를 조기 종료하는 정책을 반환합니다.
+   *
+   * @return 새 정책 ({@link OpenAction#ABORT})
+   */
+  public CircuitBreakerPolicy abortOnOpen() {
+    return new CircuitBreakerPolicy(windowSize, minCalls, failureRateThreshold, slowCallDuration,
+        slowCallRateThreshold, openDuration, halfOpenProbes, OpenAction.ABORT);
+  }
+}
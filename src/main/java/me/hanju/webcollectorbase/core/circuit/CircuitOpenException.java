@@ -0,0 +1,13 @@
+package me.hanju.webcollectorbase.core.circuit;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+/**
+ * 서킷이 열려 있어 아이템을 처리하지 않았을 때 발생하는 예외.
+ */
+public class CircuitOpenException extends BatchExecutionException {
+
+  public CircuitOpenException(String message) {
+    super(message);
+  }
+}
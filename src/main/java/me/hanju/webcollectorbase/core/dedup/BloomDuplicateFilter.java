@@ -0,0 +1,64 @@
+package me.hanju.webcollectorbase.core.dedup;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 비트 배열을 사용하는 lock-free Bloom 필터.
+ * <p>
+ * 예상 식별자 수와 오탐률로 비트 수와 해시 함수 수를 정하며, 비트 설정은 CAS로 처리합니다.
+ * </p>
+ */
+class BloomDuplicateFilter implements DuplicateFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong insertions = new AtomicLong(0);
+
+  BloomDuplicateFilter(final long expectedInsertions, final double falsePositiveRate) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions는 0보다 커야 합니다: " + expectedInsertions);
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+    }
+    final double ln2 = Math.log(2);
+    final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    final int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words * 64;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+  }
+
+  @Override
+  public boolean add(final long identity) {
+    final long hash1 = Hashing.mix(identity);
+    final long hash2 = Hashing.mix(hash1) | 1;
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      final long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      changed |= setBit((int) (bit >>> 6), 1L << bit);
+    }
+    if (changed) {
+      insertions.incrementAndGet();
+    }
+    return changed;
+  }
+
+  @Override
+  public long size() {
+    return insertions.get();
+  }
+
+  private boolean setBit(final int word, final long mask) {
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return false;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+    return true;
+  }
+}
@@ -0,0 +1,54 @@
+package me.hanju.webcollectorbase.core.dedup;
+
+/**
+ * 한 번의 처리 안에서 이미 본 식별자를 걸러내는 필터.
+ * <p>
+ * 구현체는 여러 스레드에서 동시에 호출될 수 있어야 합니다.
+ * </p>
+ */
+public interface DuplicateFilter {
+
+  /**
+   * 식별자를 기록합니다.
+   *
+   * @param identity 아이템 식별자
+   * @return 처음 본 식별자면 true, 이미 본 식별자(또는 Bloom 필터의 오탐)면 false
+   */
+  boolean add(long identity);
+
+  /**
+   * 기록된 식별자 수를 반환합니다.
+   *
+   * @return 기록된 식별자 수 (Bloom 필터는 처음 본 것으로 판정된 횟수)
+   */
+  long size();
+
+  /**
+   * 정확한 판정을 하는 primitive long 해시 집합 필터를 생성합니다.
+   * <p>
+   * 식별자당 약 8~16바이트를 사용하며 필요에 따라 커집니다.
+   * </p>
+   *
+   * @param expectedSize 예상 식별자 수
+   * @return 해시 집합 필터
+   */
+  static DuplicateFilter hashSet(int expectedSize) {
+    return new LongHashDuplicateFilter(expectedSize);
+  }
+
+  /**
+   * 고정 메모리를 사용하는 Bloom 필터를 생성합니다.
+   * <p>
+   * 처음 본 식별자를 중복으로 잘못 판정할 확률이 최대 {@code falsePositiveRate}입니다.
+   * 같은 식별자가 정확히 동시에 추가되는 경우를 제외하면, 중복을 처음 본 것으로 판정하는 경우는 없습니다.
+   * 수천만 건 이상을 처리하여 메모리 상한이 필요할 때 사용합니다.
+   * </p>
+   *
+   * @param expectedInsertions 예상 식별자 수
+   * @param falsePositiveRate  허용 오탐률 (0 초과 1 미만)
+   * @return Bloom 필터
+   */
+  static DuplicateFilter bloom(long expectedInsertions, double falsePositiveRate) {
+    return new BloomDuplicateFilter(expectedInsertions, falsePositiveRate);
+  }
+}
@@ -0,0 +1,26 @@
+package me.hanju.webcollectorbase.core.dedup;
+
+/**
+ * 식별자 분산용 해시 함수.
+ * <p>
+ * 중복 필터와 {@code ContentHashIndex}가 같은 섞기 함수를 사용합니다.
+ * </p>
+ */
+public final class Hashing {
+
+  private Hashing() {
+  }
+
+  /**
+   * 연속된 ID도 고르게 분산되도록 64비트 값을 섞습니다. (SplitMix64 finalizer)
+   *
+   * @param value 입력 값
+   * @return 섞인 값
+   */
+  public static long mix(final long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
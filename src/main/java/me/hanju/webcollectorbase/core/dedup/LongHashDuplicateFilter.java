@@ -0,0 +1,97 @@
+package me.hanju.webcollectorbase.core.dedup;
+
+/**
+ * open addressing 방식의 primitive long 해시 집합 필터.
+ * <p>
+ * 박싱 없이 {@code long[]}에 식별자를 저장하며, 경합을 줄이기 위해 해시 상위 비트로 나눈 세그먼트마다 잠금을 사용합니다.
+ * </p>
+ */
+class LongHashDuplicateFilter implements DuplicateFilter {
+
+  private static final int SEGMENT_COUNT = 16;
+
+  private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+  LongHashDuplicateFilter(final int expectedSize) {
+    final int perSegment = Math.max(16, expectedSize / SEGMENT_COUNT);
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(perSegment);
+    }
+  }
+
+  @Override
+  public boolean add(final long identity) {
+    final long hash = Hashing.mix(identity);
+    return segments[(int) (hash >>> 60)].add(identity, hash);
+  }
+
+  @Override
+  public long size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  private static final class Segment {
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int size;
+    private boolean containsEmptyKey;
+
+    private Segment(final int expectedSize) {
+      this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    private synchronized boolean add(final long identity, final long hash) {
+      if (identity == EMPTY) {
+        if (containsEmptyKey) {
+          return false;
+        }
+        containsEmptyKey = true;
+        return true;
+      }
+      if (!insert(table, identity, hash)) {
+        return false;
+      }
+      if (++size > table.length * 3 / 4) {
+        resize();
+      }
+      return true;
+    }
+
+    private synchronized long size() {
+      return size + (containsEmptyKey ? 1 : 0);
+    }
+
+    private void resize() {
+      final long[] resized = new long[table.length * 2];
+      for (long identity : table) {
+        if (identity != EMPTY) {
+          insert(resized, identity, Hashing.mix(identity));
+        }
+      }
+      table = resized;
+    }
+
+    private static boolean insert(final long[] table, final long identity, final long hash) {
+      final int mask = table.length - 1;
+      int slot = (int) hash & mask;
+      while (table[slot] != EMPTY) {
+        if (table[slot] == identity) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = identity;
+      return true;
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+      final int capacity = (int) Math.min(1L << 30, (long) expectedSize * 4 / 3 + 1);
+      return Math.max(16, Integer.highestOneBit(capacity - 1) << 1);
+    }
+  }
+}
@@ -1,14 +1,34 @@
 package me.hanju.webcollectorbase.core.dto;
 
+import me.hanju.webcollectorbase.core.progress.RunStatistics;
+
 /**
  * 아이템 처리 결과.
  *
- * @param totalProcessed 총 처리 시도 수
- * @param successCount   성공 수
- * @param failureCount   실패 수
+ * @param totalProcessed    총 처리 시도 수
+ * @param successCount      성공 수
+ * @param failureCount      실패 수
+ * @param duplicateCount    중복으로 판정되어 건너뛴 수
+ * @param timeoutCount      제한 시간을 넘겨 실패한 수 (실패 수에 포함)
+ * @param terminationReason 처리가 끝난 이유
+ * @param statistics        단계별 지연 시간 분포와 경과/작업 시간 (수집하지 않았으면 {@link RunStatistics#EMPTY})
  */
 public record ItemProcessedResult(
     Long totalProcessed,
     Long successCount,
-    Long failureCount) {
+    Long failureCount,
+    Long duplicateCount,
+    Long timeoutCount,
+    TerminationReason terminationReason,
+    RunStatistics statistics) {
+
+  public ItemProcessedResult {
+    if (statistics == null) {
+      statistics = RunStatistics.EMPTY;
+    }
+  }
+
+  public ItemProcessedResult(Long totalProcessed, Long successCount, Long failureCount) {
+    this(totalProcessed, successCount, failureCount, 0L, 0L, TerminationReason.COMPLETED, RunStatistics.EMPTY);
+  }
 }
@@ -0,0 +1,19 @@
+package me.hanju.webcollectorbase.core.dto;
+
+/**
+ * 키 범위 (양 끝 포함).
+ *
+ * @param minKey 최소 키
+ * @param maxKey 최대 키
+ */
+public record KeyRange(long minKey, long maxKey) {
+
+  public KeyRange {
+    if (minKey > maxKey) {
+      throw new IllegalArgumentException("minKey는 maxKey 이하여야 합니다: " + minKey + " > " + maxKey);
+    }
+    if (minKey == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("minKey는 Long.MIN_VALUE일 수 없습니다.");
+    }
+  }
+}
@@ -3,9 +3,14 @@ package me.hanju.webcollectorbase.core.dto;
 /**
  * 페이지 수집 결과 정보.
  *
- * @param totalPage 전체 페이지 수
- * @param totalItem 전체 아이템 수
- * @param itemCount 현재 페이지에서 수집된 아이템 수
+ * @param totalPage    전체 페이지 수
+ * @param totalItem    전체 아이템 수
+ * @param itemCount    현재 페이지에서 수집된 아이템 수
+ * @param maxWatermark 현재 페이지 아이템 중 가장 큰 워터마크 값 (시각, ID 등, 증분 수집을 사용하지 않으면 null)
  */
-public record PageInfo(Integer totalPage, Integer totalItem, Integer itemCount) {
+public record PageInfo(Integer totalPage, Integer totalItem, Integer itemCount, Long maxWatermark) {
+
+  public PageInfo(Integer totalPage, Integer totalItem, Integer itemCount) {
+    this(totalPage, totalItem, itemCount, null);
+  }
 }
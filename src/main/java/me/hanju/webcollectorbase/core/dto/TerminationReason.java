@@ -0,0 +1,15 @@
+package me.hanju.webcollectorbase.core.dto;
+
+/**
+ * 처리가 끝난 이유.
+ */
+public enum TerminationReason {
+  /** 모든 아이템을 처리함 */
+  COMPLETED,
+  /** 종료 요청으로 중단됨 */
+  SHUTDOWN_REQUESTED,
+  /** 서킷 브레이커가 열려 조기 종료됨 */
+  CIRCUIT_OPEN,
+  /** 배치 조회 등에서 예외가 발생하여 중단됨 */
+  ERROR
+}
@@ -0,0 +1,59 @@
+package me.hanju.webcollectorbase.core.hedge;
+
+import java.time.Duration;
+
+/**
+ * 요청 헤징 정책.
+ * <p>
+ * 요청이 최근 지연 시간 분포의 {@code percentile} 분위 시간(단, {@code minDelay} 이상) 안에 끝나지 않으면
+ * 같은 요청을 한 번 더 보냅니다. 추가 요청 수는 전체 요청 수의 {@code maxHedgeRatio} 비율을 넘지 않습니다.
+ * </p>
+ *
+ * @param percentile    헤지를 보낼 지연 시간 분위 (0 초과 1 미만, 예: 0.95)
+ * @param minDelay      헤지를 보내기 전 최소 대기 시간
+ * @param maxHedgeRatio 전체 요청 대비 헤지 요청의 최대 비율 (예: 0.05 = 추가 부하 5%)
+ * @param windowSize    분위 계산에 사용할 최근 지연 시간 표본 수
+ * @param minSamples    헤징을 시작하기 전에 필요한 최소 표본 수
+ */
+public record HedgePolicy(
+    double percentile,
+    Duration minDelay,
+    double maxHedgeRatio,
+    int windowSize,
+    int minSamples) {
+
+  public HedgePolicy {
+    if (!(percentile > 0 && percentile < 1)) {
+      throw new IllegalArgumentException("percentile은 0 초과 1 미만이어야 합니다: " + percentile);
+    }
+    if (minDelay == null || minDelay.isNegative()) {
+      throw new IllegalArgumentException("minDelay는 0 이상이어야 합니다: " + minDelay);
+    }
+    if (!(maxHedgeRatio >= 0 && maxHedgeRatio <= 1)) {
+      throw new IllegalArgumentException("maxHedgeRatio는 0 이상 1 이하여야 합니다: " + maxHedgeRatio);
+    }
+    if (windowSize < 1 || minSamples < 1 || minSamples > windowSize) {
+      throw new IllegalArgumentException("1 <= minSamples <= windowSize 여야 합니다: " + minSamples + ", " + windowSize);
+    }
+  }
+
+  /**
+   * 지정한 분위로 헤지하는 기본 정책을 생성합니다.
+   *
+   * @param percentile 헤지를 보낼 지연 시간 분위 (예: 0.95)
+   * @return 최소 대기 10ms, 추가 부하 최대 5%, 최근 1,000건 중 20건 이상 표본이 모이면 헤징하는 정책
+   */
+  public static HedgePolicy ofPercentile(final double percentile) {
+    return new HedgePolicy(percentile, Duration.ofMillis(10), 0.05, 1_000, 20);
+  }
+
+  /**
+   * 추가 부하 비율만 바꾼 정책을 반환합니다.
+   *
+   * @param maxHedgeRatio 전체 요청 대비 헤지 요청의 최대 비율
+   * @return 새 정책
+   */
+  public HedgePolicy withMaxHedgeRatio(final double maxHedgeRatio) {
+    return new HedgePolicy(percentile, minDelay, maxHedgeRatio, windowSize, minSamples);
+  }
+}
@@ -0,0 +1,36 @@
+package me.hanju.webcollectorbase.core.hedge;
+
+/**
+ * {@link Hedger} 통계.
+ *
+ * @param requestCount    헤징 대상 요청 수
+ * @param hedgeCount      추가로 보낸 헤지 요청 수
+ * @param hedgeWinCount   헤지 요청이 먼저 끝나 결과로 쓰인 수
+ * @param budgetDenied    지연 기준을 넘었지만 추가 부하 한도 때문에 헤지하지 않은 수
+ * @param thresholdMillis 현재 헤지 기준 지연 시간 (밀리초, 표본이 부족하면 -1)
+ */
+public record HedgeStats(
+    long requestCount,
+    long hedgeCount,
+    long hedgeWinCount,
+    long budgetDenied,
+    long thresholdMillis) {
+
+  /**
+   * 헤지 요청 비율을 반환합니다.
+   *
+   * @return hedgeCount / requestCount, 요청이 없으면 0
+   */
+  public double hedgeRate() {
+    return requestCount == 0 ? 0.0 : (double) hedgeCount / requestCount;
+  }
+
+  /**
+   * 헤지 요청이 원래 요청보다 먼저 끝난 비율을 반환합니다.
+   *
+   * @return hedgeWinCount / hedgeCount, 헤지가 없으면 0
+   */
+  public double hedgeWinRate() {
+    return hedgeCount == 0 ? 0.0 : (double) hedgeWinCount / hedgeCount;
+  }
+}
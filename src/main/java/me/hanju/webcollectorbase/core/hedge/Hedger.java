@@ -0,0 +1,253 @@
+package me.hanju.webcollectorbase.core.hedge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+/**
+ * 느린 요청에 같은 요청을 한 번 더 보내고 먼저 끝난 결과를 사용하는 헤징 실행기.
+ * <p>
+ * 요청이 {@link HedgePolicy}의 분위 지연 시간 안에 끝나지 않으면 헤지 요청을 보내고,
+ * 둘 중 먼저 성공한 결과를 반환한 뒤 남은 요청은 인터럽트로 취소합니다.
+ * 둘 다 실패하면 마지막 예외를 던집니다.
+ * </p>
+ * <p>
+ * 같은 요청이 두 번 실행될 수 있으므로 조회처럼 부작용이 없는 작업에만 사용하세요.
+ * 헤징 기준이 정해진 뒤에는 원래 요청과 헤지 요청 모두 이 실행기의 전용 데몬 스레드에서 실행되고, 호출 스레드는 먼저 끝난 결과만 기다립니다.
+ * 따라서 블로킹 소켓이나 JDBC 호출처럼 인터럽트에 반응하지 않는 요청이 지는 쪽이어도 호출 스레드는 바로 반환하며,
+ * 지는 요청은 끝날 때까지 전용 스레드 하나를 차지합니다.
+ * 호출 스레드가 결과를 기다리는 중 인터럽트되면 두 요청을 모두 취소하고, 인터럽트 상태는 그대로 유지합니다.
+ * </p>
+ */
+public final class Hedger implements AutoCloseable {
+
+  private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger(0);
+
+  private final HedgePolicy policy;
+  private final LatencyWindow latencies;
+  private final ScheduledThreadPoolExecutor timers;
+  private final ExecutorService attempts;
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder hedgeCount = new LongAdder();
+  private final LongAdder hedgeWinCount = new LongAdder();
+  private final LongAdder budgetDenied = new LongAdder();
+
+  public Hedger(final HedgePolicy policy) {
+    this.policy = policy;
+    this.latencies = new LatencyWindow(policy.windowSize(), policy.percentile(), policy.minSamples());
+    final String prefix = "hedge-" + POOL_SEQUENCE.incrementAndGet() + "-";
+    this.timers = new ScheduledThreadPoolExecutor(1, daemonThreads(prefix + "timer-"));
+    this.timers.setRemoveOnCancelPolicy(true);
+    this.attempts = Executors.newCachedThreadPool(daemonThreads(prefix));
+  }
+
+  /**
+   * 요청을 실행하고, 느리면 헤지 요청을 보내 먼저 성공한 결과를 반환합니다.
+   *
+   * @param request 부작용이 없는 요청
+   * @param <R>     결과 타입
+   * @return 먼저 성공한 요청의 결과
+   * @throws BatchExecutionException 요청이 checked 예외로 실패했거나 대기 중 인터럽트된 경우 (RuntimeException은 그대로 전달)
+   */
+  public <R> R call(final Callable<R> request) {
+    requestCount.increment();
+    final long threshold = hedgeDelayNanos();
+    if (threshold <= 0) {
+      return direct(request);
+    }
+
+    final Race<R> race = new Race<>();
+    try {
+      race.started(attempts.submit(() -> attempt(request, race, false)));
+    } catch (RejectedExecutionException e) {
+      // 닫힌 경우 현재 스레드에서 실행
+      return direct(request);
+    }
+    final ScheduledFuture<?> timer = scheduleHedge(request, race, threshold);
+    try {
+      return unwrap(race.winner.get());
+    } catch (ExecutionException e) {
+      // 전용 스레드가 받은 인터럽트는 호출 스레드로 옮기지 않음
+      throw e.getCause() instanceof InterruptedException
+          ? new BatchExecutionException("요청에 실패했습니다.", e.getCause())
+          : propagate(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BatchExecutionException("헤징 요청 대기 중 인터럽트되었습니다.", e);
+    } finally {
+      if (timer != null) {
+        timer.cancel(false);
+      }
+      race.settle();
+    }
+  }
+
+  /**
+   * 현재까지의 통계를 반환합니다.
+   *
+   * @return 헤징 통계
+   */
+  public HedgeStats stats() {
+    final long threshold = latencies.threshold();
+    return new HedgeStats(requestCount.sum(), hedgeCount.sum(), hedgeWinCount.sum(), budgetDenied.sum(),
+        threshold < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(Math.max(threshold, policy.minDelay().toNanos())));
+  }
+
+  /**
+   * 닫혔는지 확인합니다.
+   *
+   * @return {@link #close()}가 호출되었으면 true
+   */
+  public boolean isClosed() {
+    return attempts.isShutdown();
+  }
+
+  /**
+   * 실행 중인 헤지 요청을 취소하고 전용 스레드를 정리합니다.
+   * <p>
+   * 닫은 뒤에도 {@link #stats()}는 사용할 수 있습니다.
+   * </p>
+   */
+  @Override
+  public void close() {
+    attempts.shutdownNow();
+    timers.shutdownNow();
+  }
+
+  private <R> R unwrap(final Outcome<R> outcome) {
+    if (outcome.hedge()) {
+      hedgeWinCount.increment();
+    }
+    return outcome.value();
+  }
+
+  /** 헤징 기준이 아직 없으면 현재 스레드에서 그대로 실행 */
+  private <R> R direct(final Callable<R> request) {
+    final long start = System.nanoTime();
+    try {
+      final R result = request.call();
+      latencies.record(System.nanoTime() - start);
+      return result;
+    } catch (Exception e) {
+      throw propagate(e);
+    }
+  }
+
+  private <R> ScheduledFuture<?> scheduleHedge(final Callable<R> request, final Race<R> race, final long delayNanos) {
+    try {
+      return timers.schedule(() -> launchHedge(request, race), delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // 닫힌 경우 원래 요청의 결과를 사용
+      return null;
+    }
+  }
+
+  private <R> void launchHedge(final Callable<R> request, final Race<R> race) {
+    if (race.winner.isDone() || !tryAcquireBudget()) {
+      return;
+    }
+    race.running.incrementAndGet();
+    hedgeCount.increment();
+    try {
+      race.started(attempts.submit(() -> attempt(request, race, true)));
+    } catch (RejectedExecutionException e) {
+      // 닫힌 경우 원래 요청의 결과를 사용
+      race.running.decrementAndGet();
+    }
+  }
+
+  private <R> void attempt(final Callable<R> request, final Race<R> race, final boolean isHedge) {
+    final long start = System.nanoTime();
+    try {
+      final R result = request.call();
+      latencies.record(System.nanoTime() - start);
+      race.winner.complete(new Outcome<>(result, isHedge));
+    } catch (Throwable e) {
+      // 헤지가 추가되기 전에 실패했다면 바로 실패로 확정
+      if (race.running.decrementAndGet() == 0) {
+        race.winner.completeExceptionally(e);
+      }
+    }
+  }
+
+  private long hedgeDelayNanos() {
+    final long threshold = latencies.threshold();
+    if (threshold < 0 || policy.maxHedgeRatio() == 0) {
+      return -1;
+    }
+    return Math.max(threshold, policy.minDelay().toNanos());
+  }
+
+  /** 헤지 요청 수가 전체 요청 수의 maxHedgeRatio를 넘지 않도록 제한 */
+  private boolean tryAcquireBudget() {
+    if (hedgeCount.sum() + 1 > policy.maxHedgeRatio() * requestCount.sum()) {
+      budgetDenied.increment();
+      return false;
+    }
+    return true;
+  }
+
+  private static RuntimeException propagate(final Throwable cause) {
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    if (cause instanceof InterruptedException) {
+      Thread.currentThread().interrupt();
+    }
+    return new BatchExecutionException("요청에 실패했습니다.", cause);
+  }
+
+  private static ThreadFactory daemonThreads(final String prefix) {
+    final AtomicInteger threadSequence = new AtomicInteger(0);
+    return runnable -> {
+      final Thread thread = new Thread(runnable, prefix + threadSequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** 먼저 성공한 요청의 결과와 헤지 요청 여부 */
+  private record Outcome<R>(R value, boolean hedge) {
+  }
+
+  /** 요청 하나의 원래 요청과 헤지 요청 사이의 경합 상태 */
+  private static final class Race<R> {
+    private final CompletableFuture<Outcome<R>> winner = new CompletableFuture<>();
+    private final AtomicInteger running = new AtomicInteger(1);
+    private final List<Future<?>> started = new ArrayList<>(2);
+    private boolean settled;
+
+    private synchronized void started(final Future<?> future) {
+      if (settled) {
+        future.cancel(true);
+      } else {
+        started.add(future);
+      }
+    }
+
+    /** 결과가 정해졌거나 호출 스레드가 기다리기를 그만둔 뒤 남은 요청을 취소 */
+    private synchronized void settle() {
+      settled = true;
+      for (Future<?> future : started) {
+        future.cancel(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package me.hanju.webcollectorbase.core.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 지연 시간 표본을 원형 버퍼에 보관하고 분위 값을 계산합니다.
+ * <p>
+ * 분위 계산은 정렬이 필요하므로 매 요청마다 하지 않고, 버퍼의 1/10이 새로 채워질 때마다 다시 계산합니다.
+ * </p>
+ */
+final class LatencyWindow {
+
+  private final AtomicLongArray samples;
+  private final AtomicLong recorded = new AtomicLong(0);
+  private final double percentile;
+  private final int minSamples;
+  private final int recomputeInterval;
+  private volatile long thresholdNanos = -1;
+
+  LatencyWindow(final int windowSize, final double percentile, final int minSamples) {
+    this.samples = new AtomicLongArray(windowSize);
+    this.percentile = percentile;
+    this.minSamples = minSamples;
+    this.recomputeInterval = Math.max(1, windowSize / 10);
+  }
+
+  void record(final long latencyNanos) {
+    final long count = recorded.incrementAndGet();
+    samples.set((int) ((count - 1) % samples.length()), latencyNanos);
+    if (count >= minSamples && (count == minSamples || count % recomputeInterval == 0)) {
+      recompute(count);
+    }
+  }
+
+  /**
+   * @return 분위 지연 시간 (나노초), 표본이 부족하면 -1
+   */
+  long threshold() {
+    return thresholdNanos;
+  }
+
+  private void recompute(final long count) {
+    final int size = (int) Math.min(count, samples.length());
+    final long[] snapshot = new long[size];
+    for (int i = 0; i < size; i++) {
+      snapshot[i] = samples.get(i);
+    }
+    Arrays.sort(snapshot);
+    thresholdNanos = snapshot[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+  }
+}
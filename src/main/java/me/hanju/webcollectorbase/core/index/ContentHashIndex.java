@@ -0,0 +1,261 @@
+package me.hanju.webcollectorbase.core.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import me.hanju.webcollectorbase.core.dedup.Hashing;
+
+/**
+ * 아이템 키별 콘텐츠 해시를 파일에 저장하는 영속 인덱스.
+ * <p>
+ * 메모리 매핑된 파일 위의 open addressing 해시 테이블로, 실행이 끝나도 내용이 유지되어
+ * 다음 실행에서 변경되지 않은 아이템을 저장 전에 걸러낼 수 있습니다.
+ * 조회와 기록은 잠금 없이 CAS로 처리되므로 여러 executor 스레드에서 동시에 호출해도 안전합니다.
+ * </p>
+ * <p>
+ * 용량은 파일을 처음 만들 때 정해지며 늘어나지 않습니다. 가득 차면 {@link IllegalStateException}이 발생하므로
+ * 예상 아이템 수보다 넉넉하게 지정하세요. 항목당 약 23바이트의 디스크/페이지 캐시를 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 해시는 저장이 성공한 뒤에 기록하세요. 저장 전에 기록하면 저장에 실패한 아이템이 다음 실행에서 변경 없음으로 걸러집니다.
+ * </p>
+ *
+ * <pre>{@code
+ * // processItem(): 새 아이템이거나 내용이 바뀐 경우만 버퍼에 추가
+ * if (!index.isUnchanged(article.getId(), ContentHashes.hash64(article.getBody()))) {
+ *     buffer.add(article);
+ * }
+ *
+ * // saveBatch(): 저장이 성공한 아이템의 해시만 기록
+ * repository.saveAll(articles);
+ * for (Article article : articles) {
+ *     index.put(article.getId(), ContentHashes.hash64(article.getBody()));
+ * }
+ * }</pre>
+ */
+public final class ContentHashIndex implements AutoCloseable {
+
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long MAGIC = 0x5743424348494458L; // "WCBCHIDX"
+  private static final int MAGIC_OFFSET = 0;
+  private static final int CAPACITY_OFFSET = 8;
+  private static final int SIZE_OFFSET = 16;
+  private static final int ZERO_KEY_HASH_OFFSET = 24;
+  private static final int HEADER_SIZE = 64;
+  private static final int SLOT_SIZE = 16;
+  private static final double MAX_LOAD_FACTOR = 0.7;
+
+  /** 빈 슬롯의 키이자 기록되지 않은 해시 값 */
+  private static final long EMPTY = 0L;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int slotCount;
+  private final int mask;
+  private final long maxEntries;
+
+  private ContentHashIndex(final FileChannel channel, final MappedByteBuffer buffer, final int slotCount) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.slotCount = slotCount;
+    this.mask = slotCount - 1;
+    this.maxEntries = (long) (slotCount * MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * 인덱스 파일을 열거나, 없으면 새로 만듭니다.
+   *
+   * @param file       인덱스 파일 경로
+   * @param maxEntries 새로 만들 때의 최대 항목 수 (기존 파일이면 무시)
+   * @return 인덱스
+   * @throws UncheckedIOException 파일을 열 수 없거나 인덱스 파일이 아닌 경우
+   */
+  public static ContentHashIndex open(final Path file, final int maxEntries) {
+    FileChannel channel = null;
+    try {
+      channel = FileChannel.open(file,
+          StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      final boolean created = channel.size() == 0;
+      final int slotCount = created ? tableSizeFor(maxEntries) : readSlotCount(channel, file);
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+          HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+      if (created) {
+        LONGS.set(buffer, CAPACITY_OFFSET, (long) slotCount);
+        LONGS.setVolatile(buffer, MAGIC_OFFSET, MAGIC);
+      }
+      return new ContentHashIndex(channel, buffer, slotCount);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new UncheckedIOException("콘텐츠 해시 인덱스를 열 수 없습니다: " + file, e);
+    }
+  }
+
+  /**
+   * 키에 기록된 콘텐츠 해시를 반환합니다.
+   *
+   * @param key 아이템 키
+   * @return 기록된 콘텐츠 해시, 없으면 0
+   */
+  public long get(final long key) {
+    if (key == EMPTY) {
+      return (long) LONGS.getVolatile(buffer, ZERO_KEY_HASH_OFFSET);
+    }
+    int slot = slotOf(key);
+    for (int probe = 0; probe < slotCount; probe++) {
+      final int offset = offsetOf(slot);
+      final long storedKey = (long) LONGS.getVolatile(buffer, offset);
+      if (storedKey == EMPTY) {
+        return EMPTY;
+      }
+      if (storedKey == key) {
+        return (long) LONGS.getVolatile(buffer, offset + 8);
+      }
+      slot = (slot + 1) & mask;
+    }
+    return EMPTY;
+  }
+
+  /**
+   * 키에 기록된 콘텐츠 해시가 주어진 해시와 같은지 확인합니다.
+   *
+   * @param key         아이템 키
+   * @param contentHash 현재 콘텐츠 해시
+   * @return 이전과 같으면 true, 처음 보거나 바뀌었으면 false
+   */
+  public boolean isUnchanged(final long key, final long contentHash) {
+    return get(key) == normalize(contentHash);
+  }
+
+  /**
+   * 키의 콘텐츠 해시를 기록합니다.
+   *
+   * @param key         아이템 키
+   * @param contentHash 콘텐츠 해시
+   * @throws IllegalStateException 인덱스가 가득 찬 경우
+   */
+  public void put(final long key, final long contentHash) {
+    LONGS.setVolatile(buffer, hashOffsetOf(key), normalize(contentHash));
+  }
+
+  /**
+   * 키의 콘텐츠 해시를 기록하고, 이전 값과 달랐는지 반환합니다.
+   *
+   * @param key         아이템 키
+   * @param contentHash 콘텐츠 해시
+   * @return 처음 보거나 바뀌었으면 true, 이전과 같으면 false
+   * @throws IllegalStateException 인덱스가 가득 찬 경우
+   */
+  public boolean putIfChanged(final long key, final long contentHash) {
+    final long hash = normalize(contentHash);
+    return (long) LONGS.getAndSet(buffer, hashOffsetOf(key), hash) != hash;
+  }
+
+  /**
+   * 기록된 키의 수를 반환합니다.
+   *
+   * @return 키 수
+   */
+  public long size() {
+    final long zeroKey = (long) LONGS.getVolatile(buffer, ZERO_KEY_HASH_OFFSET) == EMPTY ? 0 : 1;
+    return (long) LONGS.getVolatile(buffer, SIZE_OFFSET) + zeroKey;
+  }
+
+  /**
+   * 변경 내용을 디스크에 기록합니다.
+   */
+  public void force() {
+    buffer.force();
+  }
+
+  /**
+   * 변경 내용을 디스크에 기록하고 파일을 닫습니다.
+   * <p>
+   * 매핑된 메모리는 GC 시점에 해제됩니다.
+   * </p>
+   */
+  @Override
+  public void close() {
+    force();
+    closeQuietly(channel);
+  }
+
+  /**
+   * 키의 슬롯을 찾거나 새로 차지하고, 해시 위치를 반환합니다.
+   */
+  private int hashOffsetOf(final long key) {
+    if (key == EMPTY) {
+      return ZERO_KEY_HASH_OFFSET;
+    }
+    int slot = slotOf(key);
+    for (int probe = 0; probe < slotCount; probe++) {
+      final int offset = offsetOf(slot);
+      final long storedKey = (long) LONGS.getVolatile(buffer, offset);
+      if (storedKey == key) {
+        return offset + 8;
+      }
+      if (storedKey == EMPTY) {
+        if ((long) LONGS.getVolatile(buffer, SIZE_OFFSET) >= maxEntries) {
+          throw new IllegalStateException("콘텐츠 해시 인덱스가 가득 찼습니다. (최대 " + maxEntries + "건)");
+        }
+        if (LONGS.compareAndSet(buffer, offset, EMPTY, key)) {
+          LONGS.getAndAdd(buffer, SIZE_OFFSET, 1L);
+          return offset + 8;
+        }
+        // 다른 스레드가 먼저 차지했으므로 같은 슬롯을 다시 확인
+        continue;
+      }
+      slot = (slot + 1) & mask;
+    }
+    throw new IllegalStateException("콘텐츠 해시 인덱스가 가득 찼습니다. (최대 " + maxEntries + "건)");
+  }
+
+  private int slotOf(final long key) {
+    return (int) Hashing.mix(key) & mask;
+  }
+
+  private static int offsetOf(final int slot) {
+    return HEADER_SIZE + slot * SLOT_SIZE;
+  }
+
+  /** 0은 "기록 없음"을 뜻하므로 해시 값 0은 1로 바꿔 저장합니다. */
+  private static long normalize(final long contentHash) {
+    return contentHash == EMPTY ? 1L : contentHash;
+  }
+
+  private static int tableSizeFor(final int maxEntries) {
+    final long required = (long) Math.ceil(Math.max(16, maxEntries) / MAX_LOAD_FACTOR);
+    final long slots = Long.highestOneBit(required - 1) << 1;
+    if (HEADER_SIZE + slots * SLOT_SIZE > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("maxEntries가 너무 큽니다: " + maxEntries);
+    }
+    return (int) slots;
+  }
+
+  private static int readSlotCount(final FileChannel channel, final Path file) throws IOException {
+    final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+    if ((long) LONGS.get(header, MAGIC_OFFSET) != MAGIC) {
+      throw new IOException("콘텐츠 해시 인덱스 파일이 아닙니다: " + file);
+    }
+    return (int) (long) LONGS.get(header, CAPACITY_OFFSET);
+  }
+
+  private static void closeQuietly(final FileChannel channel) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (IOException ignored) {
+      // 닫기 실패는 무시
+    }
+  }
+}
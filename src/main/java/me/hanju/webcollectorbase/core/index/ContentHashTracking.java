@@ -0,0 +1,22 @@
+package me.hanju.webcollectorbase.core.index;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 변경 감지에 사용할 콘텐츠 해시 인덱스와 결과의 콘텐츠 해시 함수.
+ * <p>
+ * 해시 함수는 저장 대상 필드만으로 계산해야 하며, 수집 시각처럼 매번 바뀌는 값은 제외합니다.
+ * </p>
+ *
+ * @param index       콘텐츠 해시 인덱스 (생명주기는 사용하는 쪽에서 관리)
+ * @param contentHash 결과의 64비트 콘텐츠 해시 함수 (예: {@link ContentHashes#hash64(String)})
+ * @param <R>         결과 타입
+ */
+public record ContentHashTracking<R>(ContentHashIndex index, ToLongFunction<R> contentHash) {
+
+  public ContentHashTracking {
+    if (index == null || contentHash == null) {
+      throw new IllegalArgumentException("index와 contentHash는 null일 수 없습니다.");
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package me.hanju.webcollectorbase.core.index;
+
+import java.nio.charset.StandardCharsets;
+
+import me.hanju.webcollectorbase.core.dedup.Hashing;
+
+/**
+ * {@link ContentHashIndex}에 사용할 64비트 해시 함수 모음.
+ */
+public final class ContentHashes {
+
+  private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+  private static final long FNV_PRIME = 0x100000001B3L;
+
+  private ContentHashes() {
+  }
+
+  /**
+   * 문자열의 64비트 해시를 계산합니다.
+   *
+   * @param value 문자열 (예: 게시글 본문, 문자열 ID)
+   * @return 64비트 해시
+   */
+  public static long hash64(final String value) {
+    return hash64(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 바이트 배열의 64비트 해시를 계산합니다.
+   * <p>
+   * FNV-1a 결과를 한 번 더 섞어 비슷한 입력도 고르게 분산되도록 합니다.
+   * </p>
+   *
+   * @param bytes 바이트 배열
+   * @return 64비트 해시
+   */
+  public static long hash64(final byte[] bytes) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : bytes) {
+      hash ^= b & 0xFF;
+      hash *= FNV_PRIME;
+    }
+    return Hashing.mix(hash);
+  }
+}
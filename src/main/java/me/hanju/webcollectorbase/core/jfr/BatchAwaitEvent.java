@@ -0,0 +1,23 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 처리 스레드가 배치의 모든 아이템이 확정되기를 기다린 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.BatchAwait")
+@Label("Batch Await")
+@Category({ "Web Collector", "Batch" })
+@Description("처리 스레드가 배치의 모든 아이템이 확정되기를 기다린 구간입니다.")
+public final class BatchAwaitEvent extends Event {
+
+  @Label("Batch")
+  public int batch;
+
+  @Label("Item Count")
+  public int itemCount;
+}
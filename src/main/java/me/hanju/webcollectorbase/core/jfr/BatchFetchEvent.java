@@ -0,0 +1,23 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * fetchNextBatch로 다음 배치를 읽은 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.BatchFetch")
+@Label("Batch Fetch")
+@Category({ "Web Collector", "Batch" })
+@Description("fetchNextBatch로 다음 배치를 읽은 구간입니다.")
+public final class BatchFetchEvent extends Event {
+
+  @Label("Batch")
+  public int batch;
+
+  @Label("Item Count")
+  public int itemCount;
+}
@@ -0,0 +1,23 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * saveBatch 한 번의 실행 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.Flush")
+@Label("Flush")
+@Category({ "Web Collector", "Batch" })
+@Description("saveBatch 한 번의 실행 구간입니다.")
+public final class FlushEvent extends Event {
+
+  @Label("Batch")
+  public int batch;
+
+  @Label("Success")
+  public boolean success;
+}
@@ -0,0 +1,20 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * flush 동시 실행 한도 때문에 처리 스레드가 기다린 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.FlushPermitWait")
+@Label("Flush Permit Wait")
+@Category({ "Web Collector", "Batch" })
+@Description("flush 동시 실행 한도 때문에 처리 스레드가 기다린 구간입니다.")
+public final class FlushPermitWaitEvent extends Event {
+
+  @Label("Batch")
+  public int batch;
+}
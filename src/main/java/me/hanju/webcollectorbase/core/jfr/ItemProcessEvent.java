@@ -0,0 +1,48 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * processItem 한 번의 실행 구간입니다. 기본적으로 10ms 이상 걸린 아이템만 기록합니다.
+ */
+@Name("me.hanju.webcollectorbase.ItemProcess")
+@Label("Item Process")
+@Category({ "Web Collector", "Batch" })
+@Description("processItem 한 번의 실행 구간입니다. 기본적으로 10ms 이상 걸린 아이템만 기록합니다.")
+@Threshold("10 ms")
+@StackTrace(false)
+public final class ItemProcessEvent extends Event {
+
+  private static final ItemProcessEvent PROBE = new ItemProcessEvent();
+
+  @Label("Batch")
+  public int batch;
+
+  @Label("Item Index")
+  public long index;
+
+  @Label("Page")
+  @Description("페이지 프로세서의 페이지 번호, 그 밖에는 -1")
+  public int page = -1;
+
+  @Label("Success")
+  public boolean success;
+
+  @Label("Timed Out")
+  public boolean timedOut;
+
+  /**
+   * 이 이벤트를 기록 중인지 반환합니다. 기록하지 않을 때 아이템마다 이벤트 객체를 만들지 않기 위해 사용합니다.
+   *
+   * @return 기록 중이면 true
+   */
+  public static boolean recording() {
+    return PROBE.isEnabled();
+  }
+}
@@ -0,0 +1,31 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 힙 사용량이나 flush 대기 중인 배치의 추정 무게 때문에 배치 발급을 기다린 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.MemoryAdmissionWait")
+@Label("Memory Admission Wait")
+@Category({ "Web Collector", "Batch" })
+@Description("힙 사용량이나 flush 대기 중인 배치의 추정 무게 때문에 배치 발급을 기다린 구간입니다.")
+public final class MemoryAdmissionWaitEvent extends Event {
+
+  @Label("Batch")
+  public int batch;
+
+  @Label("State")
+  public String state;
+
+  @Label("Heap Used")
+  @DataAmount
+  public long heapUsed;
+
+  @Label("Pending Weight")
+  public long pendingWeight;
+}
@@ -0,0 +1,20 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * fetchTotalPage로 전체 페이지 수를 조회한 구간입니다.
+ */
+@Name("me.hanju.webcollectorbase.TotalPageFetch")
+@Label("Total Page Fetch")
+@Category({ "Web Collector", "Batch" })
+@Description("fetchTotalPage로 전체 페이지 수를 조회한 구간입니다.")
+public final class TotalPageFetchEvent extends Event {
+
+  @Label("Total Page")
+  public int totalPage;
+}
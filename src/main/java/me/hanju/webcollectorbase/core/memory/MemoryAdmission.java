@@ -0,0 +1,330 @@
+package me.hanju.webcollectorbase.core.memory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * 힙 사용량과 flush 대기 중인 배치의 추정 무게로 배치 발급을 제어합니다.
+ * <p>
+ * 배치를 읽기 전에 {@link #awaitAdmission(Duration)}로 발급 허가를 기다리고, 배치를 flush에 넘길 때
+ * {@link #reserve(long)}, flush가 끝나면 {@link #release(long)}를 호출합니다. release는 기다리는 스레드를 깨웁니다.
+ * </p>
+ * <p>
+ * 정지는 힙 풀들의 GC 직후 사용량({@link MemoryPoolMXBean#getCollectionUsage()})의 합으로 판정합니다.
+ * 아직 수거되지 않은 쓰레기를 포함하는 현재 사용량은 GC 주기에 따라 오르내리므로, GC 뒤에도 살아 있는 객체의 양으로 정지 여부를 정합니다.
+ * 반면 GC 직후 사용량은 해당 풀이 수거될 때만 바뀌고, 정지한 동안에는 할당이 거의 없어 그 GC가 오지 않을 수 있습니다.
+ * 따라서 감속과 재개는 현재 힙 사용량({@link java.lang.management.MemoryMXBean#getHeapMemoryUsage()})을 먼저 보고,
+ * 둘 중 작은 값으로 판정합니다. 현재 사용량은 살아 있는 객체의 양보다 작을 수 없으므로 이 값이 lowWatermark 아래면 재개해도 안전합니다.
+ * {@link #release(long)}는 기다리는 스레드를 깨워 사용량을 다시 읽게 합니다.
+ * 또한 {@link #start()}에서 사용 한도를 지원하는 힙 풀에 GC 직후 사용량 한도(highWatermark)를 설정하여,
+ * 한도를 넘었다는 알림을 받으면 다음 판정에서 바로 정지합니다.
+ * </p>
+ * <p>
+ * 풀의 한도는 JVM 전역 설정이므로, 여러 인스턴스가 동시에 사용하면 처음 설정한 인스턴스의 한도를 함께 쓰고
+ * 마지막 인스턴스가 {@link #close()}할 때 되돌립니다. 이 클래스 밖의 코드가 이미 한도를 설정한 풀은 건드리지 않습니다.
+ * </p>
+ */
+public final class MemoryAdmission implements AutoCloseable {
+
+  /**
+   * 발급 상태.
+   */
+  public enum State {
+    /** 제한 없이 발급 */
+    NORMAL,
+    /** 대기 중인 flush가 모두 끝난 뒤에만 발급 */
+    SLOW,
+    /** 힙 사용률이 lowWatermark 아래로 내려갈 때까지 발급 중지 */
+    PAUSED
+  }
+
+  private static final long POLL_MILLIS = 50L;
+  /** 이 클래스가 한도를 설정한 풀 이름 → 그 한도를 사용 중인 인스턴스 수 */
+  private static final Map<String, Integer> THRESHOLD_OWNERS = new HashMap<>();
+
+  private final MemoryPressurePolicy policy;
+  private final LongSupplier usedBytes;
+  private final LongSupplier currentBytes;
+  private final long maxBytes;
+  private final List<MemoryPoolMXBean> thresholdPools = new ArrayList<>();
+  private final NotificationListener listener = this::onNotification;
+  private boolean listening;
+
+  private State state = State.NORMAL;
+  private boolean thresholdExceeded;
+  private int pendingBatches;
+  private long pendingWeight;
+  private long waitingSince = -1;
+  private long pauseCount;
+  private long forcedCount;
+  private long waitedNanos;
+
+  public MemoryAdmission(final MemoryPressurePolicy policy) {
+    this(policy, collectionUsed(heapPools()), heapUsed(), heapMax());
+  }
+
+  MemoryAdmission(final MemoryPressurePolicy policy, final LongSupplier usedBytes, final long maxBytes) {
+    this(policy, usedBytes, usedBytes, maxBytes);
+  }
+
+  MemoryAdmission(final MemoryPressurePolicy policy, final LongSupplier usedBytes, final LongSupplier currentBytes,
+      final long maxBytes) {
+    this.policy = policy;
+    this.usedBytes = usedBytes;
+    this.currentBytes = currentBytes;
+    this.maxBytes = maxBytes;
+  }
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    final List<MemoryPoolMXBean> pools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pools.add(pool);
+      }
+    }
+    return pools;
+  }
+
+  /** 힙 풀들의 GC 직후 사용량 합. 아직 GC가 없었던 풀은 0입니다. */
+  private static LongSupplier collectionUsed(final List<MemoryPoolMXBean> pools) {
+    return () -> {
+      long used = 0;
+      for (MemoryPoolMXBean pool : pools) {
+        final MemoryUsage usage = pool.getCollectionUsage();
+        if (usage != null) {
+          used += usage.getUsed();
+        }
+      }
+      return used;
+    };
+  }
+
+  /** 아직 수거되지 않은 객체를 포함한 현재 힙 사용량. */
+  static LongSupplier heapUsed() {
+    return () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  static long heapMax() {
+    final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    return heap.getMax() > 0 ? heap.getMax() : Runtime.getRuntime().maxMemory();
+  }
+
+  /**
+   * 힙 풀에 GC 직후 사용량 한도를 설정하고 한도 초과 알림을 받기 시작합니다.
+   */
+  public synchronized void start() {
+    if (listening || !thresholdPools.isEmpty()) {
+      return;
+    }
+    synchronized (THRESHOLD_OWNERS) {
+      for (MemoryPoolMXBean pool : heapPools()) {
+        final long poolMax = pool.getUsage() != null ? pool.getUsage().getMax() : -1;
+        if (!pool.isCollectionUsageThresholdSupported() || poolMax <= 0) {
+          continue;
+        }
+        if (!THRESHOLD_OWNERS.containsKey(pool.getName())) {
+          if (pool.getCollectionUsageThreshold() != 0) {
+            // 다른 코드가 설정한 한도
+            continue;
+          }
+          pool.setCollectionUsageThreshold((long) (poolMax * policy.highWatermark()));
+        }
+        THRESHOLD_OWNERS.merge(pool.getName(), 1, Integer::sum);
+        thresholdPools.add(pool);
+      }
+    }
+    if (!thresholdPools.isEmpty() && ManagementFactory.getMemoryMXBean() instanceof NotificationEmitter emitter) {
+      emitter.addNotificationListener(listener, null, null);
+      listening = true;
+    }
+  }
+
+  /**
+   * 알림을 그만 받고, 한도를 사용하는 다른 인스턴스가 없으면 설정한 사용량 한도를 되돌립니다.
+   */
+  @Override
+  public synchronized void close() {
+    if (listening && ManagementFactory.getMemoryMXBean() instanceof NotificationEmitter emitter) {
+      try {
+        emitter.removeNotificationListener(listener);
+      } catch (ListenerNotFoundException ignored) {
+        // 이미 제거됨
+      }
+    }
+    listening = false;
+    synchronized (THRESHOLD_OWNERS) {
+      for (MemoryPoolMXBean pool : thresholdPools) {
+        final Integer owners = THRESHOLD_OWNERS.computeIfPresent(pool.getName(),
+            (name, count) -> count > 1 ? count - 1 : null);
+        if (owners == null) {
+          pool.setCollectionUsageThreshold(0);
+        }
+      }
+    }
+    thresholdPools.clear();
+    notifyAll();
+  }
+
+  private void onNotification(final Notification notification, final Object handback) {
+    if (!MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())
+        || !(notification.getUserData() instanceof CompositeData data)) {
+      return;
+    }
+    final String poolName = MemoryNotificationInfo.from(data).getPoolName();
+    synchronized (this) {
+      for (MemoryPoolMXBean pool : thresholdPools) {
+        if (pool.getName().equals(poolName)) {
+          thresholdExceeded = true;
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 다음 배치를 발급해도 될 때까지 최대 {@code maxWait}만큼 기다립니다.
+   * <p>
+   * 한 번의 대기가 정책의 maxPause를 넘기면 상태와 무관하게 발급을 허가합니다.
+   * </p>
+   *
+   * @param maxWait 최대 대기 시간
+   * @return 발급해도 되면 true, 대기 시간이 지났거나 인터럽트되면 false
+   */
+  public synchronized boolean awaitAdmission(final Duration maxWait) {
+    final long deadline = System.nanoTime() + maxWait.toNanos();
+    while (true) {
+      final long now = System.nanoTime();
+      if (admissible()) {
+        return admit(now);
+      }
+      if (waitingSince < 0) {
+        waitingSince = now;
+      }
+      if (now - waitingSince >= policy.maxPause().toNanos()) {
+        forcedCount++;
+        return admit(now);
+      }
+      final long remaining = deadline - now;
+      if (remaining <= 0) {
+        return false;
+      }
+      try {
+        wait(Math.max(1L, Math.min(POLL_MILLIS, remaining / 1_000_000)));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+
+  private boolean admit(final long now) {
+    if (waitingSince >= 0) {
+      waitedNanos += now - waitingSince;
+      waitingSince = -1;
+    }
+    return true;
+  }
+
+  private boolean admissible() {
+    final double usage = (double) usedBytes.getAsLong() / maxBytes;
+    // GC 직후 사용량은 정지 중에 갱신되지 않을 수 있으므로 현재 사용량도 함께 확인
+    final double settled = Math.min(usage, (double) currentBytes.getAsLong() / maxBytes);
+    if (state != State.PAUSED && (thresholdExceeded || usage >= policy.highWatermark())) {
+      state = State.PAUSED;
+      pauseCount++;
+    } else if (state == State.PAUSED && settled < policy.lowWatermark()) {
+      state = State.NORMAL;
+    }
+    thresholdExceeded = false;
+    if (state != State.PAUSED) {
+      state = settled >= policy.lowWatermark() ? State.SLOW : State.NORMAL;
+    }
+    final boolean overWeight = policy.maxPendingWeight() > 0 && pendingWeight >= policy.maxPendingWeight();
+    return switch (state) {
+      case NORMAL -> !overWeight;
+      case SLOW -> pendingBatches == 0;
+      case PAUSED -> false;
+    };
+  }
+
+  /**
+   * 배치 하나를 flush에 넘깁니다.
+   *
+   * @param weight 배치의 추정 무게
+   */
+  public synchronized void reserve(final long weight) {
+    pendingBatches++;
+    pendingWeight += weight;
+  }
+
+  /**
+   * flush가 끝난 배치의 무게를 반환하고 기다리는 스레드를 깨웁니다.
+   *
+   * @param weight {@link #reserve(long)}에 넘긴 무게
+   */
+  public synchronized void release(final long weight) {
+    pendingBatches--;
+    pendingWeight -= weight;
+    notifyAll();
+  }
+
+  /**
+   * 마지막 판정의 발급 상태를 반환합니다.
+   *
+   * @return 발급 상태
+   */
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * flush를 기다리는 배치들의 추정 무게 합을 반환합니다.
+   *
+   * @return 추정 무게 합
+   */
+  public synchronized long getPendingWeight() {
+    return pendingWeight;
+  }
+
+  /**
+   * 정지 상태에 들어간 횟수를 반환합니다.
+   *
+   * @return 정지 횟수
+   */
+  public synchronized long getPauseCount() {
+    return pauseCount;
+  }
+
+  /**
+   * maxPause를 넘겨 상태와 무관하게 발급한 횟수를 반환합니다.
+   *
+   * @return 강제 발급 횟수
+   */
+  public synchronized long getForcedCount() {
+    return forcedCount;
+  }
+
+  /**
+   * 발급을 기다린 시간의 합을 반환합니다.
+   *
+   * @return 대기 시간 합
+   */
+  public synchronized Duration getWaitTime() {
+    return Duration.ofNanos(waitedNanos);
+  }
+}
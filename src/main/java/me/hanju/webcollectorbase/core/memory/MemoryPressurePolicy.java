@@ -0,0 +1,74 @@
+package me.hanju.webcollectorbase.core.memory;
+
+import java.time.Duration;
+
+/**
+ * 힙 사용량에 따른 배치 발급 제어 정책.
+ * <p>
+ * 힙 사용률이 {@code lowWatermark} 이상이면 대기 중인 flush가 모두 끝난 뒤에만 다음 배치를 읽고(감속),
+ * {@code highWatermark} 이상이면 사용률이 {@code lowWatermark} 아래로 내려갈 때까지 배치를 읽지 않습니다(정지).
+ * {@code maxPendingWeight}가 0보다 크면 flush를 기다리는 배치들의 추정 무게 합이 그 값 이상인 동안에도 배치를 읽지 않습니다.
+ * </p>
+ *
+ * @param lowWatermark     감속을 시작하고 정지에서 재개하는 힙 사용률 (0 초과 1 미만)
+ * @param highWatermark    정지하는 힙 사용률 (lowWatermark 초과 1 이하)
+ * @param maxPendingWeight flush를 기다리는 배치들의 추정 무게 한도 (0이면 제한 없음)
+ * @param maxPause         한 번에 기다리는 최대 시간 (넘기면 배치 하나를 발급한 뒤 다시 판정)
+ */
+public record MemoryPressurePolicy(
+    double lowWatermark,
+    double highWatermark,
+    long maxPendingWeight,
+    Duration maxPause) {
+
+  public MemoryPressurePolicy {
+    if (!(lowWatermark > 0 && lowWatermark < highWatermark && highWatermark <= 1)) {
+      throw new IllegalArgumentException(
+          "0 < lowWatermark < highWatermark <= 1 이어야 합니다: " + lowWatermark + ", " + highWatermark);
+    }
+    if (maxPendingWeight < 0) {
+      throw new IllegalArgumentException("maxPendingWeight는 0 이상이어야 합니다: " + maxPendingWeight);
+    }
+    if (maxPause == null || maxPause.isNegative() || maxPause.isZero()) {
+      throw new IllegalArgumentException("maxPause는 0보다 커야 합니다: " + maxPause);
+    }
+  }
+
+  /**
+   * 힙 사용률 기준 정책을 생성합니다.
+   *
+   * @param lowWatermark  감속을 시작하고 정지에서 재개하는 힙 사용률 (예: 0.7)
+   * @param highWatermark 정지하는 힙 사용률 (예: 0.85)
+   * @return 무게 한도 없이 최대 30초까지 기다리는 정책
+   */
+  public static MemoryPressurePolicy ofHeapWatermarks(final double lowWatermark, final double highWatermark) {
+    return new MemoryPressurePolicy(lowWatermark, highWatermark, 0L, Duration.ofSeconds(30));
+  }
+
+  /**
+   * flush를 기다리는 배치들의 추정 무게 한도를 추가한 정책을 반환합니다.
+   * <p>
+   * 무게는 {@code AbstractItemProcessor#estimateItemWeight}가 반환하는 값의 합이며, 단위는 구현이 정합니다. (예: 바이트)
+   * </p>
+   *
+   * @param maxPendingWeight 추정 무게 한도 (0이면 제한 없음)
+   * @return 새 정책
+   */
+  public MemoryPressurePolicy withMaxPendingWeight(final long maxPendingWeight) {
+    return new MemoryPressurePolicy(lowWatermark, highWatermark, maxPendingWeight, maxPause);
+  }
+
+  /**
+   * 한 번에 기다리는 최대 시간을 바꾼 정책을 반환합니다.
+   * <p>
+   * 힙 사용량에는 아직 수거되지 않은 객체도 포함되므로, 발급을 멈춰 할당이 없으면 GC가 일어나지 않아 사용률이 내려가지 않을 수 있습니다.
+   * 이 시간이 지나면 배치 하나를 발급하여 진행을 보장합니다.
+   * </p>
+   *
+   * @param maxPause 최대 대기 시간
+   * @return 새 정책
+   */
+  public MemoryPressurePolicy withMaxPause(final Duration maxPause) {
+    return new MemoryPressurePolicy(lowWatermark, highWatermark, maxPendingWeight, maxPause);
+  }
+}
@@ -0,0 +1,156 @@
+package me.hanju.webcollectorbase.core.progress;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.hanju.webcollectorbase.core.dedup.Hashing;
+
+/**
+ * 지연 시간을 로그-선형 구간으로 누적하는 스레드 안전 히스토그램.
+ * <p>
+ * 2의 거듭제곱 구간마다 8개의 하위 구간을 두므로, 기록 비용은 배열 원소 하나의 증가이고
+ * 분위 값의 상대 오차는 약 6% 이내입니다. 표본을 보관하지 않으므로 메모리 사용량은 기록 수와 무관합니다.
+ * </p>
+ * <p>
+ * 구간 배열은 {@link LongAdder}처럼 처음에는 하나만 두고, 여러 스레드가 같은 원소를 동시에 증가시키다 충돌하면
+ * 코어 수까지 배로 늘려 스레드별로 나누어 기록합니다. 분위 값은 모든 배열을 합산하여 계산합니다.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+  /** 코어 수 이상인 가장 작은 2의 거듭제곱 */
+  private static final int MAX_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+  private volatile AtomicLongArray[] stripes = { new AtomicLongArray(BUCKETS) };
+
+  /**
+   * 지연 시간 하나를 기록합니다.
+   *
+   * @param nanos 지연 시간 (나노초, 음수는 0으로 기록)
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0L, nanos);
+    final int index = index(value);
+    final AtomicLongArray[] current = stripes;
+    final int stripe = (int) Hashing.mix(Thread.currentThread().getId()) & (current.length - 1);
+    final AtomicLongArray buckets = current[stripe];
+    final long count = buckets.get(index);
+    if (!buckets.compareAndSet(index, count, count + 1)) {
+      buckets.incrementAndGet(index);
+      grow(current);
+    }
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  /**
+   * 지금까지 기록된 분포를 요약합니다.
+   *
+   * @return 기록 수, 합계, 평균, p50/p90/p99, 최대 지연 시간
+   */
+  public LatencySnapshot snapshot() {
+    final long[] counts = counts();
+    final long recorded = sum(counts);
+    if (recorded == 0) {
+      return LatencySnapshot.EMPTY;
+    }
+    final long max = maxNanos.get();
+    final long total = totalNanos.sum();
+    return new LatencySnapshot(
+        recorded,
+        Duration.ofNanos(total),
+        Duration.ofNanos(total / recorded),
+        Duration.ofNanos(Math.min(max, percentile(counts, recorded, 0.50))),
+        Duration.ofNanos(Math.min(max, percentile(counts, recorded, 0.90))),
+        Duration.ofNanos(Math.min(max, percentile(counts, recorded, 0.99))),
+        Duration.ofNanos(max));
+  }
+
+  /**
+   * 지금까지 기록된 분포의 분위 값을 반환합니다.
+   *
+   * @param quantile 분위 (0 초과 1 이하, 예: 0.95)
+   * @return 분위 지연 시간, 기록이 없으면 0
+   */
+  public Duration percentile(final double quantile) {
+    if (!(quantile > 0 && quantile <= 1)) {
+      throw new IllegalArgumentException("quantile은 0 초과 1 이하여야 합니다: " + quantile);
+    }
+    final long[] counts = counts();
+    final long recorded = sum(counts);
+    if (recorded == 0) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos(Math.min(maxNanos.get(), percentile(counts, recorded, quantile)));
+  }
+
+  /** 충돌한 배열 수가 아직 한도보다 적으면 배로 늘립니다. */
+  private synchronized void grow(final AtomicLongArray[] seen) {
+    if (stripes != seen || seen.length >= MAX_STRIPES) {
+      return;
+    }
+    final AtomicLongArray[] grown = Arrays.copyOf(seen, seen.length * 2);
+    for (int i = seen.length; i < grown.length; i++) {
+      grown[i] = new AtomicLongArray(BUCKETS);
+    }
+    stripes = grown;
+  }
+
+  private long[] counts() {
+    final long[] counts = new long[BUCKETS];
+    for (AtomicLongArray buckets : stripes) {
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] += buckets.get(i);
+      }
+    }
+    return counts;
+  }
+
+  private static long sum(final long[] counts) {
+    long sum = 0;
+    for (long count : counts) {
+      sum += count;
+    }
+    return sum;
+  }
+
+  private static long percentile(final long[] counts, final long recorded, final double quantile) {
+    final long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return midpoint(i);
+      }
+    }
+    return midpoint(counts.length - 1);
+  }
+
+  static int index(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int sub = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /** 구간의 대표 값 (구간 중앙) */
+  static long midpoint(final int index) {
+    if (index < SUB_BUCKETS * 2) {
+      return index;
+    }
+    final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lower + ((1L << shift) >>> 1);
+  }
+}
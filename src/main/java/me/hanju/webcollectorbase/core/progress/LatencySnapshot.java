@@ -0,0 +1,43 @@
+package me.hanju.webcollectorbase.core.progress;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * {@link LatencyHistogram} 요약.
+ *
+ * @param count 기록 수
+ * @param total 지연 시간 합계
+ * @param mean  평균 지연 시간
+ * @param p50   50분위 지연 시간
+ * @param p90   90분위 지연 시간
+ * @param p99   99분위 지연 시간
+ * @param max   최대 지연 시간
+ */
+public record LatencySnapshot(
+    long count,
+    Duration total,
+    Duration mean,
+    Duration p50,
+    Duration p90,
+    Duration p99,
+    Duration max) {
+
+  /** 기록이 없는 요약 */
+  public static final LatencySnapshot EMPTY = new LatencySnapshot(
+      0L, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+  /**
+   * 작업 로그에 남기기 위한 한 줄 요약을 반환합니다.
+   *
+   * @return 예: {@code n=1200 mean=3.1ms p50=2.8ms p90=5.2ms p99=12.0ms max=40.3ms}
+   */
+  public String summary() {
+    return "n=" + count + " mean=" + millis(mean) + " p50=" + millis(p50) + " p90=" + millis(p90)
+        + " p99=" + millis(p99) + " max=" + millis(max);
+  }
+
+  static String millis(final Duration duration) {
+    return String.format(Locale.ROOT, "%.1fms", duration.toNanos() / 1_000_000.0);
+  }
+}
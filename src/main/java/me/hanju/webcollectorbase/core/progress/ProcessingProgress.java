@@ -0,0 +1,63 @@
+package me.hanju.webcollectorbase.core.progress;
+
+import java.time.Duration;
+
+/**
+ * 처리 진행 상황 스냅샷.
+ *
+ * @param running            처리 중인지 여부
+ * @param totalProcessed     발급된 아이템 수
+ * @param successCount       성공 수
+ * @param failureCount       실패 수
+ * @param totalCount         전체 처리 대상 수, 모르면 null
+ * @param elapsed            처리 시작 후 경과 시간
+ * @param itemsPerSecond     시작 후 전체 평균 처리량 (초당 확정 아이템 수)
+ * @param itemsPerSecond10s  최근 10초 처리량
+ * @param itemsPerSecond1m   최근 1분 처리량
+ * @param eta                남은 예상 시간, 전체 수를 모르거나 처리량이 없으면 null
+ * @param pendingFlushes     실행 중이거나 대기 중인 flush 수
+ * @param fetchLatency       배치 조회 지연 시간
+ * @param processLatency     아이템 처리 지연 시간
+ * @param flushLatency       flush 지연 시간
+ */
+public record ProcessingProgress(
+    boolean running,
+    long totalProcessed,
+    long successCount,
+    long failureCount,
+    Long totalCount,
+    Duration elapsed,
+    double itemsPerSecond,
+    double itemsPerSecond10s,
+    double itemsPerSecond1m,
+    Duration eta,
+    int pendingFlushes,
+    LatencySnapshot fetchLatency,
+    LatencySnapshot processLatency,
+    LatencySnapshot flushLatency) {
+
+  /** 아직 처리를 시작하지 않은 상태 */
+  public static final ProcessingProgress NOT_STARTED = new ProcessingProgress(false, 0L, 0L, 0L, null,
+      Duration.ZERO, 0.0, 0.0, 0.0, null, 0, LatencySnapshot.EMPTY, LatencySnapshot.EMPTY, LatencySnapshot.EMPTY);
+
+  /**
+   * 결과가 확정된 아이템 수를 반환합니다.
+   *
+   * @return successCount + failureCount
+   */
+  public long completedCount() {
+    return successCount + failureCount;
+  }
+
+  /**
+   * 진행률을 반환합니다.
+   *
+   * @return 확정 수 / 전체 수 (0~1), 전체 수를 모르면 -1
+   */
+  public double ratio() {
+    if (totalCount == null) {
+      return -1.0;
+    }
+    return totalCount <= 0 ? 1.0 : Math.min(1.0, (double) completedCount() / totalCount);
+  }
+}
@@ -0,0 +1,57 @@
+package me.hanju.webcollectorbase.core.progress;
+
+import java.time.Duration;
+
+/**
+ * 한 번의 처리 실행에서 단계별로 시간을 쓴 곳.
+ * <p>
+ * 단계별 지연 시간은 {@link LatencyHistogram}으로 기록한 분포이며, 작업 로그의 {@link #summary()}만으로
+ * 실행 간 성능을 비교할 수 있도록 합니다.
+ * </p>
+ *
+ * @param wallTime       처리 시작부터 끝까지 걸린 시간
+ * @param busyTime       배치 조회, 아이템 처리, flush에 쓴 시간의 합 (여러 스레드의 시간을 더하므로 wallTime보다 클 수 있음)
+ * @param fetchLatency   {@code fetchNextBatch} 지연 시간
+ * @param processLatency {@code processItem} 지연 시간 (제한 시간으로 확정된 아이템은 제한 시간)
+ * @param flushLatency   {@code saveBatch} 지연 시간
+ * @param flushWait      flush 동시 실행 한도 때문에 처리 스레드가 기다린 시간
+ */
+public record RunStatistics(
+    Duration wallTime,
+    Duration busyTime,
+    LatencySnapshot fetchLatency,
+    LatencySnapshot processLatency,
+    LatencySnapshot flushLatency,
+    LatencySnapshot flushWait) {
+
+  /** 통계를 수집하지 않은 실행 */
+  public static final RunStatistics EMPTY = new RunStatistics(Duration.ZERO, Duration.ZERO,
+      LatencySnapshot.EMPTY, LatencySnapshot.EMPTY, LatencySnapshot.EMPTY, LatencySnapshot.EMPTY);
+
+  /**
+   * 경과 시간 대비 작업 시간 비율을 반환합니다.
+   * <p>
+   * 1보다 작으면 스레드가 일하지 않고 기다린 시간이 있었다는 뜻이며, 병렬 처리에서는 1보다 클 수 있습니다.
+   * </p>
+   *
+   * @return busyTime / wallTime, 경과 시간이 없으면 0
+   */
+  public double utilization() {
+    final long wall = wallTime.toNanos();
+    return wall <= 0 ? 0.0 : (double) busyTime.toNanos() / wall;
+  }
+
+  /**
+   * 작업 로그에 남기기 위한 한 줄 요약을 반환합니다.
+   *
+   * @return 요약 문자열
+   */
+  public String summary() {
+    return "wall=" + LatencySnapshot.millis(wallTime)
+        + " busy=" + LatencySnapshot.millis(busyTime)
+        + " fetch[" + fetchLatency.summary() + "]"
+        + " process[" + processLatency.summary() + "]"
+        + " flush[" + flushLatency.summary() + "]"
+        + " flushWait[" + flushWait.summary() + "]";
+  }
+}
@@ -0,0 +1,49 @@
+package me.hanju.webcollectorbase.core.watermark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 워터마크를 텍스트 파일 한 줄로 저장하는 저장소.
+ * <p>
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로, 저장 중 중단되어도 이전 값이 유지됩니다.
+ * </p>
+ */
+class FileWatermarkStore implements WatermarkStore {
+
+  private final Path file;
+
+  FileWatermarkStore(final Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public Long load() {
+    if (!Files.exists(file)) {
+      return null;
+    }
+    try {
+      final String content = Files.readString(file, StandardCharsets.UTF_8).trim();
+      return content.isEmpty() ? null : Long.parseLong(content);
+    } catch (IOException e) {
+      throw new UncheckedIOException("워터마크 파일을 읽을 수 없습니다: " + file, e);
+    }
+  }
+
+  @Override
+  public void save(final long watermark) {
+    try {
+      final Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      Files.writeString(temp, Long.toString(watermark), StandardCharsets.UTF_8);
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("워터마크 파일을 저장할 수 없습니다: " + file, e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package me.hanju.webcollectorbase.core.watermark;
+
+import java.nio.file.Path;
+
+/**
+ * 증분 수집의 기준이 되는 워터마크(마지막 성공 실행에서 본 최대 시각, ID 등)를 보관하는 저장소.
+ */
+public interface WatermarkStore {
+
+  /**
+   * 마지막으로 저장된 워터마크를 읽습니다.
+   *
+   * @return 워터마크, 저장된 값이 없으면 null
+   */
+  Long load();
+
+  /**
+   * 워터마크를 저장합니다.
+   *
+   * @param watermark 이번 실행에서 본 최대 워터마크
+   */
+  void save(long watermark);
+
+  /**
+   * 파일에 워터마크를 저장하는 저장소를 생성합니다.
+   *
+   * @param file 워터마크 파일 경로
+   * @return 파일 기반 워터마크 저장소
+   */
+  static WatermarkStore file(Path file) {
+    return new FileWatermarkStore(file);
+  }
+}
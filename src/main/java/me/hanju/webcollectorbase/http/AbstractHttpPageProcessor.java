@@ -0,0 +1,310 @@
+package me.hanju.webcollectorbase.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.hanju.webcollectorbase.core.AbstractPageProcessor;
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+import me.hanju.webcollectorbase.core.IItemProcessorLogger;
+import me.hanju.webcollectorbase.core.PageCriteria;
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * HTTP API를 페이지 단위로 수집하기 위한 추상 클래스.
+ * <p>
+ * {@link #createRequest(PageCriteria)}로 검색 조건을 요청으로 변환하면, 이 클래스가 요청을 보내고
+ * 압축을 해제한 응답을 {@link #parseTotalPage(HttpPageResponse)}, {@link #parsePage(PageCriteria, HttpPageResponse)}에 전달합니다.
+ * </p>
+ * <p>
+ * 기본 {@link HttpClient}는 모든 인스턴스가 공유하며 HTTP/2를 우선 사용합니다.
+ * HTTP/2 서버에는 호스트당 하나의 연결에서 여러 페이지 요청이 다중화되므로, executor 스레드 수만큼 연결을 맺지 않습니다.
+ * 요청에는 {@code Accept-Encoding: gzip, deflate}가 추가되고, 응답은 Content-Encoding에 따라 압축이 해제됩니다.
+ * </p>
+ * <p>
+ * 2xx가 아닌 응답은 {@link HttpStatusException}, 네트워크 오류는 {@link BatchExecutionException}으로 실패 처리됩니다.
+ * </p>
+ * <p>
+ * {@link #getResponseCache()}로 {@link DiskResponseCache}를 지정하면, ETag나 Last-Modified가 있는 GET 응답을 URL별로 저장하고
+ * 다음 요청에 If-None-Match/If-Modified-Since를 보냅니다. 서버가 304로 응답하면 본문을 다시 받지 않으며,
+ * 페이지는 {@link #parsePage(PageCriteria, HttpPageResponse)} 대신 {@link #onNotModified(PageCriteria, HttpPageResponse)}로 처리됩니다.
+ * 응답은 파싱에 성공한 뒤 배치별로 모아 두었다가 그 배치의 {@link #saveBatch()}가 성공한 뒤에 기록되므로,
+ * 저장에 실패한 페이지는 다음 실행에서 304로 생략되지 않고 다시 수집됩니다.
+ * {@link #onBatchProcessed(int)}나 {@link #onBatchFlushed(int, boolean)}를 오버라이드하는 경우 반드시 super를 호출하세요.
+ * </p>
+ * <p>
+ * 요청 전송은 {@link #hedged(java.util.concurrent.Callable)}로 감싸져 있으므로,
+ * {@link #getHedgePolicy()}를 지정하면 느린 페이지 요청이 자동으로 헤징됩니다. 파싱은 한 번만 실행됩니다.
+ * </p>
+ *
+ * <pre>{@code
+ * public class ArticleProcessor extends AbstractHttpPageProcessor<ArticleCriteria> {
+ *     protected HttpRequest.Builder createRequest(ArticleCriteria criteria) {
+ *         return HttpRequest.newBuilder(URI.create("https://api.example.com/articles?page=" + criteria.page()));
+ *     }
+ *
+ *     protected int parseTotalPage(HttpPageResponse response) {
+ *         return objectMapper.readTree(response.body()).get("totalPage").asInt();
+ *     }
+ *
+ *     protected PageInfo parsePage(ArticleCriteria criteria, HttpPageResponse response) {
+ *         List<Article> articles = parseArticles(response.body());
+ *         buffer.addAll(articles);
+ *         return new PageInfo(null, null, articles.size());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <C> 검색 조건 타입 ({@link PageCriteria} 구현체)
+ */
+public abstract class AbstractHttpPageProcessor<C extends PageCriteria<C>> extends AbstractPageProcessor<C> {
+
+  private final LongAdder notModifiedCount = new LongAdder();
+  private final Map<Integer, Queue<PendingStore>> sealedStores = new ConcurrentHashMap<>();
+  private volatile Queue<PendingStore> pendingStores = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 검색 조건에 해당하는 요청을 생성합니다.
+   * <p>
+   * URI와 필요한 헤더만 설정하세요. Accept-Encoding과 요청 타임아웃은 이 클래스가 설정합니다.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @return 요청 빌더
+   */
+  protected abstract HttpRequest.Builder createRequest(C criteria);
+
+  /**
+   * 첫 페이지 응답에서 전체 페이지 수를 읽습니다.
+   *
+   * @param response 첫 페이지 응답
+   * @return 전체 페이지 수
+   */
+  protected abstract int parseTotalPage(HttpPageResponse response);
+
+  /**
+   * 페이지 응답을 파싱하여 처리하고 결과 정보를 반환합니다.
+   *
+   * @param criteria 검색 조건
+   * @param response 페이지 응답
+   * @return 페이지 처리 결과 정보
+   */
+  protected abstract PageInfo parsePage(C criteria, HttpPageResponse response);
+
+  /**
+   * 요청에 사용할 HTTP 클라이언트를 반환합니다.
+   * <p>
+   * 인증서, 프록시, 쿠키 등을 설정해야 하면 오버라이드하세요.
+   * 연결 풀은 클라이언트 단위이므로 호출마다 새로 만들지 말고 필드에 보관한 인스턴스를 반환해야 합니다.
+   * </p>
+   *
+   * @return HTTP 클라이언트 (기본: HTTP/2 우선, 리다이렉트 허용, 연결 타임아웃 10초인 공유 클라이언트)
+   */
+  protected HttpClient getHttpClient() {
+    return HttpSupport.SHARED_CLIENT;
+  }
+
+  /**
+   * 요청 하나의 응답 대기 시간을 반환합니다.
+   *
+   * @return 요청 타임아웃 (기본: 30초, null이면 제한 없음)
+   */
+  protected Duration getRequestTimeout() {
+    return Duration.ofSeconds(30);
+  }
+
+  /**
+   * 조건부 재검증에 사용할 응답 캐시를 반환합니다. (선택적)
+   * <p>
+   * 캐시는 여러 실행과 인스턴스가 공유할 수 있도록 필드에 보관한 인스턴스를 반환하세요.
+   * </p>
+   *
+   * @return 응답 캐시 (기본: null, 캐시 사용 안 함)
+   */
+  protected DiskResponseCache getResponseCache() {
+    return null;
+  }
+
+  /**
+   * 응답 캐시의 내용이 바뀌지 않은(304) 페이지를 처리합니다.
+   * <p>
+   * 이전 실행에서 이미 저장한 페이지이므로 기본 구현은 아무것도 하지 않습니다.
+   * 캐시된 본문이 필요하면 {@code response.body()}를 사용하세요.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @param response 캐시된 본문을 담은 304 응답
+   * @return 페이지 처리 결과 정보 (기본: 아이템 0건)
+   */
+  protected PageInfo onNotModified(C criteria, HttpPageResponse response) {
+    return new PageInfo(null, null, 0);
+  }
+
+  /**
+   * 응답 캐시 재검증 결과 304를 받은 페이지 수를 반환합니다.
+   *
+   * @return 현재 실행 중이거나 마지막 실행에서 304를 받은 요청 수
+   */
+  public long getNotModifiedCount() {
+    return notModifiedCount.sum();
+  }
+
+  @Override
+  public ItemProcessedResult process(final int batchSize, final IItemProcessorLogger logger) {
+    notModifiedCount.reset();
+    sealedStores.clear();
+    pendingStores = new ConcurrentLinkedQueue<>();
+    return super.process(batchSize, logger);
+  }
+
+  @Override
+  protected final int fetchTotalPage(C criteria) {
+    return parseTotalPage(send(criteria));
+  }
+
+  @Override
+  protected final PageInfo processPage(C criteria) {
+    final HttpPageResponse response = send(criteria);
+    if (response.isNotModified()) {
+      return onNotModified(criteria, response);
+    }
+    final PageInfo pageInfo = parsePage(criteria, response);
+    // 파싱에 성공한 페이지만 모아 두었다가 배치 저장이 성공하면 기록
+    if (getResponseCache() != null && isCacheable(response.method())) {
+      final CachedResponse entry = toCacheEntry(response);
+      if (entry != null) {
+        pendingStores.add(new PendingStore(response.uri(), entry));
+      }
+    }
+    return pageInfo;
+  }
+
+  /**
+   * 배치의 모든 페이지가 끝나면 그 배치에서 기록할 응답을 배치 번호로 묶어 둡니다.
+   * <p>
+   * 오버라이드하는 경우 반드시 {@code super.onBatchProcessed(batch)}를 호출하세요.
+   * </p>
+   */
+  @Override
+  protected void onBatchProcessed(final int batch) {
+    sealedStores.put(batch, pendingStores);
+    pendingStores = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * 배치 저장이 성공했으면 그 배치의 응답을 응답 캐시에 기록하고, 실패했으면 버립니다.
+   * <p>
+   * 오버라이드하는 경우 반드시 {@code super.onBatchFlushed(batch, success)}를 호출하세요.
+   * </p>
+   */
+  @Override
+  protected void onBatchFlushed(final int batch, final boolean success) {
+    final Queue<PendingStore> stores = sealedStores.remove(batch);
+    final DiskResponseCache cache = getResponseCache();
+    if (!success || stores == null || cache == null) {
+      return;
+    }
+    for (PendingStore store : stores) {
+      cache.put(store.uri(), store.entry());
+    }
+  }
+
+  /**
+   * 검색 조건에 해당하는 요청을 보내고 압축을 해제한 응답을 반환합니다.
+   * <p>
+   * GET 요청이고 응답 캐시에 저장된 응답이 있으면 조건부 요청을 보냅니다. 응답 캐시에는 배치 저장이 성공한 뒤 {@link #onBatchFlushed(int, boolean)}에서 기록합니다.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @return 페이지 응답
+   * @throws HttpStatusException     2xx가 아닌 응답을 받은 경우 (응답 캐시 재검증의 304 제외)
+   * @throws BatchExecutionException 요청을 보내거나 응답을 읽지 못한 경우
+   */
+  protected HttpPageResponse send(final C criteria) {
+    final DiskResponseCache cache = getResponseCache();
+    final HttpRequest plain = HttpSupport.build(createRequest(criteria), getRequestTimeout());
+    final CachedResponse cached = cache != null && isCacheable(plain.method()) ? cache.get(plain.uri()) : null;
+    final HttpRequest request = cached != null ? conditional(plain, cached) : plain;
+
+    final HttpResponse<byte[]> response = hedged(() -> HttpSupport.send(getHttpClient(), request,
+        HttpResponse.BodyHandlers.ofByteArray(), cached != null));
+    if (response.statusCode() == HttpSupport.NOT_MODIFIED) {
+      notModifiedCount.increment();
+      return new HttpPageResponse(request.uri(), request.method(), response.statusCode(),
+          withContentType(response.headers(), cached), cached.body());
+    }
+
+    return new HttpPageResponse(request.uri(), request.method(), response.statusCode(), response.headers(),
+        decode(response, request));
+  }
+
+  /** 캐시 키가 URI뿐이므로 본문이 없고 응답이 URI로만 정해지는 GET만 캐시합니다. */
+  private static boolean isCacheable(final String method) {
+    return "GET".equals(method);
+  }
+
+  private static HttpRequest conditional(final HttpRequest request, final CachedResponse cached) {
+    final HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+    if (cached.etag() != null) {
+      builder.setHeader("If-None-Match", cached.etag());
+    }
+    if (cached.lastModified() != null) {
+      builder.setHeader("If-Modified-Since", cached.lastModified());
+    }
+    return builder.build();
+  }
+
+  /** 재검증할 수 없거나 저장이 금지된 응답이면 null */
+  private static CachedResponse toCacheEntry(final HttpPageResponse response) {
+    final HttpHeaders headers = response.headers();
+    final String etag = headers.firstValue("ETag").orElse(null);
+    final String lastModified = headers.firstValue("Last-Modified").orElse(null);
+    final boolean noStore = headers.allValues("Cache-Control").stream()
+        .anyMatch(value -> value.toLowerCase(Locale.ROOT).contains("no-store"));
+    if ((etag == null && lastModified == null) || noStore) {
+      return null;
+    }
+    return new CachedResponse(etag, lastModified, headers.firstValue("Content-Type").orElse(null), response.body());
+  }
+
+  /** 304 응답에는 Content-Type이 없으므로 캐시된 값을 붙여 charset을 유지합니다. */
+  private static HttpHeaders withContentType(final HttpHeaders headers, final CachedResponse cached) {
+    if (cached.contentType() == null || headers.firstValue("Content-Type").isPresent()) {
+      return headers;
+    }
+    final Map<String, List<String>> merged = new HashMap<>(headers.map());
+    merged.put("Content-Type", List.of(cached.contentType()));
+    return HttpHeaders.of(merged, (name, value) -> true);
+  }
+
+  private static byte[] decode(final HttpResponse<byte[]> response, final HttpRequest request) {
+    final byte[] body = response.body();
+    if (body.length == 0) {
+      return body;
+    }
+    try (InputStream in = HttpSupport.decoding(new ByteArrayInputStream(body), response.headers())) {
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new BatchExecutionException("응답 압축 해제에 실패했습니다: " + request.uri(), e);
+    }
+  }
+
+  /** 배치 저장이 성공하면 응답 캐시에 기록할 응답 */
+  private record PendingStore(URI uri, CachedResponse entry) {
+  }
+}
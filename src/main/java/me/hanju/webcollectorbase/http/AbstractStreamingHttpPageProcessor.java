@@ -0,0 +1,213 @@
+package me.hanju.webcollectorbase.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import me.hanju.webcollectorbase.core.AbstractPageProcessor;
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+import me.hanju.webcollectorbase.core.PageCriteria;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * HTTP 응답을 전부 메모리에 올리지 않고 스트림으로 파싱하는 페이지 프로세서.
+ * <p>
+ * {@link AbstractHttpPageProcessor}는 응답 본문 전체를 바이트 배열로 받은 뒤 파싱하므로,
+ * 수 MB 크기의 목록 페이지를 여러 개 동시에 처리하면 페이지 크기 × 동시 요청 수만큼 힙을 사용합니다.
+ * 이 클래스는 {@link #parsePage(PageCriteria, HttpPageStream, Consumer)}에 네트워크에서 도착하는 대로 읽히는 스트림을 전달하고,
+ * 파싱된 아이템은 emitter로 즉시 flush 버퍼에 넘기므로 진행 중인 페이지 하나가 차지하는 메모리는
+ * 파서의 읽기 버퍼 수준으로 일정합니다.
+ * </p>
+ * <p>
+ * flush 버퍼는 이 클래스가 배치마다 따로 관리합니다. emitter로 넘긴 아이템은 그 배치가 끝날 때 {@link #saveItems(List)}로
+ * 전달되므로 {@link #saveBatch()} 대신 {@link #saveItems(List)}를 구현하세요. 비동기 flush가 다음 배치의 아이템을 섞어 저장하지 않습니다.
+ * 다만 제한 시간을 넘겨 배치가 끝난 뒤에도 계속 파싱한 페이지의 아이템은 이미 저장된 버퍼에 들어가 저장되지 않을 수 있습니다.
+ * </p>
+ * <p>
+ * {@link me.hanju.webcollectorbase.core.ProcessorPublisher}로 감싸는 경우 {@code saveBatch()}가 호출되지 않으므로,
+ * drain 함수로 {@link #drainItems()}를 지정하세요.
+ * </p>
+ *
+ * <pre>{@code
+ * public class ArticleStreamProcessor extends AbstractStreamingHttpPageProcessor<ArticleCriteria, Article> {
+ *     protected PageInfo parsePage(ArticleCriteria criteria, HttpPageStream response, Consumer<Article> emitter)
+ *         throws IOException {
+ *         try (JsonParser parser = jsonFactory.createParser(response.body())) {
+ *             int count = 0;
+ *             while (moveToNextArticle(parser)) {
+ *                 emitter.accept(objectMapper.readValue(parser, Article.class));
+ *                 count++;
+ *             }
+ *             return new PageInfo(null, null, count);
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <C> 검색 조건 타입 ({@link PageCriteria} 구현체)
+ * @param <R> 응답에서 파싱한 아이템 타입
+ */
+public abstract class AbstractStreamingHttpPageProcessor<C extends PageCriteria<C>, R> extends AbstractPageProcessor<C> {
+
+  private final Queue<Queue<R>> sealedBuffers = new ConcurrentLinkedQueue<>();
+  private volatile Queue<R> buffer = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 검색 조건에 해당하는 요청을 생성합니다.
+   * <p>
+   * URI와 필요한 헤더만 설정하세요. Accept-Encoding과 요청 타임아웃은 이 클래스가 설정합니다.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @return 요청 빌더
+   */
+  protected abstract HttpRequest.Builder createRequest(C criteria);
+
+  /**
+   * 첫 페이지 응답 스트림에서 전체 페이지 수를 읽습니다.
+   * <p>
+   * 필요한 부분까지만 읽으면 되며, 나머지 본문은 읽지 않고 닫힙니다.
+   * </p>
+   *
+   * @param response 첫 페이지 응답 스트림
+   * @return 전체 페이지 수
+   * @throws IOException 응답을 읽지 못한 경우
+   */
+  protected abstract int parseTotalPage(HttpPageStream response) throws IOException;
+
+  /**
+   * 페이지 응답 스트림을 파싱하여 아이템을 emitter로 넘기고 결과 정보를 반환합니다.
+   * <p>
+   * 아이템은 파싱되는 즉시 넘기세요. 목록 전체를 모은 뒤 넘기면 스트림으로 읽는 의미가 없습니다.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @param response 페이지 응답 스트림
+   * @param emitter  파싱한 아이템을 flush 버퍼로 넘기는 함수 (여러 스레드에서 호출해도 안전)
+   * @return 페이지 처리 결과 정보
+   * @throws IOException 응답을 읽지 못한 경우
+   */
+  protected abstract PageInfo parsePage(C criteria, HttpPageStream response, Consumer<R> emitter) throws IOException;
+
+  /**
+   * 배치 동안 emitter로 넘어온 아이템을 저장합니다.
+   * <p>
+   * flush 동시 실행 수({@link #getMaxPendingFlushes()})가 1보다 크면 여러 스레드에서 동시에 호출될 수 있습니다.
+   * </p>
+   *
+   * @param items 저장할 아이템 목록 (emitter 호출 순서)
+   */
+  protected abstract void saveItems(List<R> items);
+
+  /**
+   * 요청에 사용할 HTTP 클라이언트를 반환합니다.
+   *
+   * @return HTTP 클라이언트 (기본: {@link AbstractHttpPageProcessor}와 같은 공유 클라이언트)
+   */
+  protected HttpClient getHttpClient() {
+    return HttpSupport.SHARED_CLIENT;
+  }
+
+  /**
+   * 응답 헤더를 받을 때까지의 대기 시간을 반환합니다.
+   * <p>
+   * 본문은 스트림으로 읽으므로 본문 전체를 받는 시간은 포함되지 않습니다.
+   * </p>
+   *
+   * @return 요청 타임아웃 (기본: 30초, null이면 제한 없음)
+   */
+  protected Duration getRequestTimeout() {
+    return Duration.ofSeconds(30);
+  }
+
+  @Override
+  protected final int fetchTotalPage(C criteria) {
+    final HttpPageStream response = open(criteria);
+    try (response) {
+      return parseTotalPage(response);
+    } catch (IOException e) {
+      throw new BatchExecutionException("응답을 읽지 못했습니다: " + response.uri(), e);
+    }
+  }
+
+  @Override
+  protected final PageInfo processPage(C criteria) {
+    final Queue<R> pageBuffer = buffer;
+    final HttpPageStream response = open(criteria);
+    try (response) {
+      return parsePage(criteria, response, pageBuffer::add);
+    } catch (IOException e) {
+      throw new BatchExecutionException("응답을 읽지 못했습니다: " + response.uri(), e);
+    }
+  }
+
+  /**
+   * 배치의 모든 페이지가 끝나면 그 배치의 버퍼를 닫고 다음 배치용 버퍼를 새로 엽니다.
+   * <p>
+   * 비동기 flush가 다음 배치의 아이템까지 꺼내지 않도록, 각 {@link #saveBatch()}는 닫힌 버퍼 하나만 저장합니다.
+   * 오버라이드하는 경우 반드시 {@code super.onBatchProcessed(batch)}를 호출하세요.
+   * </p>
+   */
+  @Override
+  protected void onBatchProcessed(final int batch) {
+    sealedBuffers.add(buffer);
+    buffer = new ConcurrentLinkedQueue<>();
+  }
+
+  @Override
+  protected final void saveBatch() {
+    final List<R> items = drainItems();
+    if (!items.isEmpty()) {
+      saveItems(items);
+    }
+  }
+
+  /**
+   * 끝난 배치 하나의 버퍼를 꺼냅니다.
+   * <p>
+   * {@link me.hanju.webcollectorbase.core.ProcessorPublisher}의 drain 함수로 사용합니다.
+   * </p>
+   *
+   * <pre>{@code
+   * Flow.Publisher<Article> articles = ProcessorPublisher.of(processor, 10, processor::drainItems);
+   * }</pre>
+   *
+   * @return 가장 먼저 끝난 배치에서 emitter로 넘어온 아이템 목록 (emitter 호출 순서, 없으면 빈 목록)
+   */
+  public final List<R> drainItems() {
+    final Queue<R> sealed = sealedBuffers.poll();
+    return sealed == null ? List.of() : new ArrayList<>(sealed);
+  }
+
+  /**
+   * 검색 조건에 해당하는 요청을 보내고, 압축을 해제하며 읽는 응답 스트림을 반환합니다.
+   * <p>
+   * 반환된 스트림은 호출한 쪽에서 닫아야 합니다.
+   * </p>
+   *
+   * @param criteria 검색 조건
+   * @return 페이지 응답 스트림
+   * @throws HttpStatusException     2xx가 아닌 응답을 받은 경우
+   * @throws BatchExecutionException 요청을 보내지 못한 경우
+   */
+  protected HttpPageStream open(final C criteria) {
+    final HttpRequest request = HttpSupport.build(createRequest(criteria), getRequestTimeout());
+    final HttpResponse<InputStream> response = HttpSupport.send(getHttpClient(), request,
+        HttpResponse.BodyHandlers.ofInputStream());
+    try {
+      return new HttpPageStream(request.uri(), response.statusCode(), response.headers(),
+          HttpSupport.decoding(response.body(), response.headers()));
+    } catch (IOException e) {
+      HttpSupport.closeQuietly(response.body());
+      throw new BatchExecutionException("응답 압축 해제에 실패했습니다: " + request.uri(), e);
+    }
+  }
+}
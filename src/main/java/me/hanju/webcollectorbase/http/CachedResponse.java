@@ -0,0 +1,12 @@
+package me.hanju.webcollectorbase.http;
+
+/**
+ * 디스크 응답 캐시에 저장된 응답.
+ *
+ * @param etag         ETag 헤더 값 (없으면 null)
+ * @param lastModified Last-Modified 헤더 값 (없으면 null)
+ * @param contentType  Content-Type 헤더 값 (없으면 null)
+ * @param body         압축 해제된 응답 본문
+ */
+public record CachedResponse(String etag, String lastModified, String contentType, byte[] body) {
+}
@@ -0,0 +1,255 @@
+package me.hanju.webcollectorbase.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건부 재검증(ETag/Last-Modified)을 위한 디스크 기반 HTTP 응답 캐시.
+ * <p>
+ * 응답은 URL별로 디렉토리 안의 파일 하나에 저장되며, 실행이 끝나도 유지되어 다음 실행의 조건부 요청에 사용됩니다.
+ * 전체 크기가 {@code maxBytes}를 넘으면 가장 오래 사용하지 않은 응답부터 삭제합니다(LRU).
+ * 사용 순서는 파일 수정 시각으로 기록되므로 다시 열어도 유지됩니다.
+ * </p>
+ * <p>
+ * 키는 URI뿐이므로 메서드나 요청 본문에 따라 응답이 달라지는 요청은 저장하지 마세요. {@link AbstractHttpPageProcessor}는 GET 응답만 저장합니다.
+ * 중간에 끊겨 잘린 응답 파일은 읽을 때 없는 것으로 취급하여 삭제하고, 저장 도중 남은 임시 파일은 다시 열 때 삭제합니다.
+ * </p>
+ * <p>
+ * 여러 스레드에서 동시에 사용해도 안전하지만, 같은 디렉토리를 여러 프로세스가 동시에 사용하는 것은 지원하지 않습니다.
+ * </p>
+ */
+public final class DiskResponseCache {
+
+  private static final int MAGIC = 0x57434252; // "WCBR"
+  private static final String SUFFIX = ".cache";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path directory;
+  private final long maxBytes;
+  /** 파일 이름 → 파일 크기, 접근 순서 */
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes;
+
+  private DiskResponseCache(final Path directory, final long maxBytes) {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * 캐시 디렉토리를 열거나, 없으면 새로 만듭니다.
+   *
+   * @param directory 캐시 디렉토리
+   * @param maxBytes  최대 전체 크기 (바이트)
+   * @return 응답 캐시
+   * @throws UncheckedIOException 디렉토리를 만들거나 읽을 수 없는 경우
+   */
+  public static DiskResponseCache open(final Path directory, final long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes는 0보다 커야 합니다: " + maxBytes);
+    }
+    final DiskResponseCache cache = new DiskResponseCache(directory, maxBytes);
+    try {
+      Files.createDirectories(directory);
+      cache.loadIndex();
+    } catch (IOException e) {
+      throw new UncheckedIOException("응답 캐시 디렉토리를 열 수 없습니다: " + directory, e);
+    }
+    return cache;
+  }
+
+  /**
+   * URL에 저장된 응답을 반환합니다.
+   *
+   * @param uri 요청 URI
+   * @return 저장된 응답, 없거나 잘린 파일이면 null
+   */
+  public CachedResponse get(final URI uri) {
+    final String name = fileName(uri);
+    synchronized (this) {
+      if (entries.get(name) == null) {
+        return null;
+      }
+    }
+    final Path file = directory.resolve(name);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || !in.readUTF().equals(uri.toString())) {
+        return null;
+      }
+      final String etag = readNullable(in);
+      final String lastModified = readNullable(in);
+      final String contentType = readNullable(in);
+      final int length = in.readInt();
+      final byte[] body = in.readNBytes(length);
+      if (body.length != length) {
+        throw new EOFException("본문이 잘렸습니다: " + body.length + "/" + length);
+      }
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+      return new CachedResponse(etag, lastModified, contentType, body);
+    } catch (NoSuchFileException e) {
+      // 다른 스레드가 제거한 경우
+      return null;
+    } catch (EOFException e) {
+      // 쓰는 도중 끊긴 파일은 캐시 미스로 처리하고 제거
+      remove(name);
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException("응답 캐시를 읽을 수 없습니다: " + file, e);
+    }
+  }
+
+  /**
+   * URL의 응답을 저장합니다.
+   * <p>
+   * 최대 전체 크기보다 큰 응답은 저장하지 않습니다.
+   * </p>
+   *
+   * @param uri      요청 URI
+   * @param response 저장할 응답
+   * @throws UncheckedIOException 파일을 쓸 수 없는 경우
+   */
+  public void put(final URI uri, final CachedResponse response) {
+    final String name = fileName(uri);
+    final Path file = directory.resolve(name);
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(directory, name, TEMP_SUFFIX);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeUTF(uri.toString());
+        writeNullable(out, response.etag());
+        writeNullable(out, response.lastModified());
+        writeNullable(out, response.contentType());
+        out.writeInt(response.body().length);
+        out.write(response.body());
+      }
+      final long size = Files.size(temp);
+      if (size > maxBytes) {
+        return;
+      }
+      synchronized (this) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        temp = null;
+        final Long previous = entries.put(name, size);
+        totalBytes += size - (previous != null ? previous : 0L);
+        evict();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("응답 캐시를 저장할 수 없습니다: " + file, e);
+    } finally {
+      if (temp != null) {
+        deleteQuietly(temp);
+      }
+    }
+  }
+
+  /**
+   * 저장된 응답 수를 반환합니다.
+   *
+   * @return 응답 수
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * 저장된 응답의 전체 크기를 반환합니다.
+   *
+   * @return 전체 크기 (바이트)
+   */
+  public synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  private synchronized void remove(final String name) {
+    final Long size = entries.remove(name);
+    if (size != null) {
+      totalBytes -= size;
+    }
+    deleteQuietly(directory.resolve(name));
+  }
+
+  /** 호출 전에 잠금을 잡고 있어야 합니다. */
+  private void evict() throws IOException {
+    final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+    while (totalBytes > maxBytes && iterator.hasNext()) {
+      final Map.Entry<String, Long> eldest = iterator.next();
+      Files.deleteIfExists(directory.resolve(eldest.getKey()));
+      totalBytes -= eldest.getValue();
+      iterator.remove();
+    }
+  }
+
+  private void loadIndex() throws IOException {
+    // 이전 실행이 저장 도중 종료되어 남은 임시 파일
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+      stream.forEach(DiskResponseCache::deleteQuietly);
+    }
+    final List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      stream.forEach(files::add);
+    }
+    final Map<Path, FileTime> accessTimes = new LinkedHashMap<>();
+    for (Path file : files) {
+      accessTimes.put(file, Files.getLastModifiedTime(file));
+    }
+    files.sort(Comparator.comparing(accessTimes::get));
+    synchronized (this) {
+      for (Path file : files) {
+        final long size = Files.size(file);
+        entries.put(file.getFileName().toString(), size);
+        totalBytes += size;
+      }
+      evict();
+    }
+  }
+
+  private static String fileName(final URI uri) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest) + SUFFIX;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ignored) {
+      // 삭제 실패는 캐시 동작에 영향을 주지 않음
+    }
+  }
+
+  private static void writeNullable(final DataOutputStream out, final String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullable(final DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
@@ -0,0 +1,47 @@
+package me.hanju.webcollectorbase.http;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+
+/**
+ * 압축이 해제된 HTTP 페이지 응답.
+ * <p>
+ * 응답 캐시의 조건부 요청이 304를 받은 경우 {@link #statusCode()}는 304이고, 본문은 캐시에 저장된 본문입니다.
+ * </p>
+ *
+ * @param uri        요청 URI
+ * @param method     요청 메서드
+ * @param statusCode HTTP 상태 코드
+ * @param headers    응답 헤더
+ * @param body       압축 해제된 응답 본문 (304이면 캐시된 본문)
+ */
+public record HttpPageResponse(URI uri, String method, int statusCode, HttpHeaders headers, byte[] body) {
+
+  /**
+   * 응답 캐시의 내용이 바뀌지 않아 304를 받았는지 확인합니다.
+   *
+   * @return 304 응답이면 true
+   */
+  public boolean isNotModified() {
+    return statusCode == HttpSupport.NOT_MODIFIED;
+  }
+
+  /**
+   * 응답 본문을 Content-Type의 charset(없으면 UTF-8)으로 디코딩합니다.
+   *
+   * @return 응답 본문 문자열
+   */
+  public String bodyAsString() {
+    return new String(body, charset());
+  }
+
+  /**
+   * Content-Type 헤더의 charset을 반환합니다.
+   *
+   * @return 응답 charset, 지정되지 않았거나 알 수 없으면 UTF-8
+   */
+  public Charset charset() {
+    return HttpSupport.charset(headers);
+  }
+}
@@ -0,0 +1,52 @@
+package me.hanju.webcollectorbase.http;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+
+/**
+ * 압축이 해제되는 HTTP 페이지 응답 스트림.
+ * <p>
+ * 본문은 네트워크에서 도착하는 대로 읽히며, 파싱이 끝나면 프로세서가 스트림을 닫습니다.
+ * </p>
+ *
+ * @param uri        요청 URI
+ * @param statusCode HTTP 상태 코드
+ * @param headers    응답 헤더
+ * @param body       압축 해제된 응답 본문 스트림
+ */
+public record HttpPageStream(URI uri, int statusCode, HttpHeaders headers, InputStream body) implements Closeable {
+
+  /**
+   * Content-Type 헤더의 charset을 반환합니다.
+   *
+   * @return 응답 charset, 지정되지 않았거나 알 수 없으면 UTF-8
+   */
+  public Charset charset() {
+    return HttpSupport.charset(headers);
+  }
+
+  /**
+   * 응답 본문을 charset에 맞게 읽는 Reader를 반환합니다.
+   *
+   * @return 버퍼링된 Reader
+   */
+  public BufferedReader reader() {
+    return new BufferedReader(new InputStreamReader(body, charset()));
+  }
+
+  /**
+   * 응답 본문 스트림을 닫습니다. 읽지 않은 본문은 버려집니다.
+   *
+   * @throws IOException 스트림을 닫지 못한 경우
+   */
+  @Override
+  public void close() throws IOException {
+    body.close();
+  }
+}
@@ -0,0 +1,23 @@
+package me.hanju.webcollectorbase.http;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+/**
+ * 성공(2xx)이 아닌 HTTP 응답을 받았을 때 발생하는 예외.
+ */
+public class HttpStatusException extends BatchExecutionException {
+
+  private final int statusCode;
+
+  public HttpStatusException(String message, int statusCode) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * @return HTTP 상태 코드
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+}
@@ -0,0 +1,125 @@
+package me.hanju.webcollectorbase.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+/**
+ * HTTP 페이지 프로세서들이 공유하는 클라이언트와 요청/응답 처리.
+ */
+final class HttpSupport {
+
+  /** 모든 HTTP 페이지 프로세서가 공유하는 HTTP/2 우선 클라이언트 */
+  static final HttpClient SHARED_CLIENT = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+
+  static final int NOT_MODIFIED = 304;
+
+  private HttpSupport() {
+  }
+
+  /**
+   * 압축 응답 요청 헤더와 타임아웃을 설정하여 요청을 만듭니다.
+   */
+  static HttpRequest build(final HttpRequest.Builder builder, final Duration timeout) {
+    builder.setHeader("Accept-Encoding", "gzip, deflate");
+    if (timeout != null) {
+      builder.timeout(timeout);
+    }
+    return builder.build();
+  }
+
+  /**
+   * 요청을 보내고 응답을 반환합니다. 2xx가 아닌 응답은 본문을 닫고 {@link HttpStatusException}을 던집니다.
+   */
+  static <B> HttpResponse<B> send(final HttpClient client, final HttpRequest request,
+      final HttpResponse.BodyHandler<B> bodyHandler) {
+    return send(client, request, bodyHandler, false);
+  }
+
+  /**
+   * 요청을 보내고 응답을 반환합니다. 2xx가 아닌 응답은 본문을 닫고 {@link HttpStatusException}을 던지며,
+   * {@code allowNotModified}이면 304 응답은 그대로 반환합니다.
+   */
+  static <B> HttpResponse<B> send(final HttpClient client, final HttpRequest request,
+      final HttpResponse.BodyHandler<B> bodyHandler, final boolean allowNotModified) {
+    final HttpResponse<B> response;
+    try {
+      response = client.send(request, bodyHandler);
+    } catch (IOException e) {
+      throw new BatchExecutionException("HTTP 요청에 실패했습니다: " + request.uri(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BatchExecutionException("HTTP 요청이 중단되었습니다: " + request.uri(), e);
+    }
+
+    final boolean notModified = allowNotModified && response.statusCode() == NOT_MODIFIED;
+    if (response.statusCode() / 100 != 2 && !notModified) {
+      if (response.body() instanceof InputStream body) {
+        closeQuietly(body);
+      }
+      throw new HttpStatusException("HTTP " + response.statusCode() + " 응답: " + request.uri(), response.statusCode());
+    }
+    return response;
+  }
+
+  /**
+   * Content-Encoding에 따라 압축을 해제하는 스트림으로 감쌉니다.
+   */
+  static InputStream decoding(final InputStream body, final HttpHeaders headers) throws IOException {
+    final String encoding = headers.firstValue("Content-Encoding").orElse("identity").trim().toLowerCase(Locale.ROOT);
+    return switch (encoding) {
+      case "", "identity" -> body;
+      case "gzip", "x-gzip" -> new GZIPInputStream(body);
+      case "deflate" -> new InflaterInputStream(body);
+      default -> throw new IOException("지원하지 않는 Content-Encoding입니다: " + encoding);
+    };
+  }
+
+  /**
+   * Content-Type 헤더의 charset을 반환합니다. 지정되지 않았거나 알 수 없으면 UTF-8입니다.
+   */
+  static Charset charset(final HttpHeaders headers) {
+    return headers.firstValue("Content-Type")
+        .map(HttpSupport::parseCharset)
+        .orElse(StandardCharsets.UTF_8);
+  }
+
+  private static Charset parseCharset(final String contentType) {
+    for (String parameter : contentType.split(";")) {
+      final String trimmed = parameter.trim();
+      if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+        try {
+          return Charset.forName(trimmed.substring(8).replace("\"", ""));
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+          return StandardCharsets.UTF_8;
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  static void closeQuietly(final InputStream in) {
+    try {
+      in.close();
+    } catch (IOException ignored) {
+      // 닫기 실패는 무시
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package me.hanju.webcollectorbase.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+/**
+ * {@code saveBatch()}에서 버퍼의 행을 JDBC로 저장하는 싱크.
+ * <p>
+ * 행을 {@link #withRowsPerStatement(int)}개씩 묶은 다중 행 문장({@code VALUES (?, ?), (?, ?), ...})으로 바꾸고,
+ * 문장을 {@link #withStatementsPerBatch(int)}개씩 {@code addBatch}/{@code executeBatch}로 보냅니다.
+ * {@link #write(List)} 한 번은 하나의 트랜잭션입니다.
+ * </p>
+ * <p>
+ * upsert 싱크는 한 번에 쓰는 행 중 키가 같은 행을 마지막 행 하나로 합친 뒤 저장합니다.
+ * PostgreSQL의 {@code ON CONFLICT}는 한 문장 안에서 같은 행을 두 번 갱신하면 문장 전체가 실패하기 때문입니다.
+ * </p>
+ * <p>
+ * 연결은 최대 {@link #withMaxConnections(int)}개까지 열어 재사용하므로, {@code getMaxPendingFlushes()}만큼 동시에 실행되는
+ * flush가 매번 연결을 새로 맺지 않습니다. 한도보다 많은 flush가 동시에 쓰면 연결이 반환될 때까지 기다립니다.
+ * 사용을 마치면 {@link #close()}로 보관 중인 연결을 닫으세요.
+ * </p>
+ * <p>
+ * 테이블과 컬럼 이름은 SQL에 그대로 들어가므로 상수만 사용하세요. 영문자, 숫자, 밑줄로 된 이름만 허용합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * private final JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>upsert(dataSource, UpsertDialect.POSTGRESQL,
+ *         "article", List.of("id", "title", "body"), List.of("id"),
+ *         article -> new Object[] {article.getId(), article.getTitle(), article.getBody()})
+ *     .withRowsPerStatement(200);
+ *
+ * protected void saveBatch() {
+ *     sink.write(drain(buffer));
+ * }
+ * }</pre>
+ *
+ * @param <R> 저장할 행 타입
+ */
+public final class JdbcBatchSink<R> implements AutoCloseable {
+
+  private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+  /** 대부분의 드라이버가 허용하는 문장당 최대 바인딩 수 */
+  private static final int MAX_PARAMETERS = 65_535;
+
+  private final DataSource dataSource;
+  private final UpsertDialect dialect;
+  private final String table;
+  private final List<String> columns;
+  private final List<String> keys;
+  private final int[] keyIndexes;
+  private final Function<? super R, Object[]> binder;
+  private final int rowsPerStatement;
+  private final int statementsPerBatch;
+  private final int maxConnections;
+
+  private final Map<Integer, String> statements = new ConcurrentHashMap<>();
+  private final BlockingQueue<Connection> idle;
+  private final Semaphore connectionPermits;
+  private final LongAdder writtenRows = new LongAdder();
+  private final LongAdder openedConnections = new LongAdder();
+  private volatile boolean closed;
+
+  private JdbcBatchSink(final DataSource dataSource, final UpsertDialect dialect, final String table,
+      final List<String> columns, final List<String> keys, final Function<? super R, Object[]> binder,
+      final int rowsPerStatement, final int statementsPerBatch, final int maxConnections) {
+    if (columns.isEmpty()) {
+      throw new IllegalArgumentException("columns는 비어 있을 수 없습니다.");
+    }
+    if (dialect != UpsertDialect.INSERT && (keys.isEmpty() || !columns.containsAll(keys))) {
+      throw new IllegalArgumentException("키 컬럼은 columns에 포함되어야 합니다: " + keys);
+    }
+    if (rowsPerStatement < 1 || (long) rowsPerStatement * columns.size() > MAX_PARAMETERS) {
+      throw new IllegalArgumentException("rowsPerStatement는 1 이상, 문장당 바인딩 " + MAX_PARAMETERS + "개 이하여야 합니다: "
+          + rowsPerStatement);
+    }
+    if (statementsPerBatch < 1 || maxConnections < 1) {
+      throw new IllegalArgumentException("statementsPerBatch와 maxConnections는 1 이상이어야 합니다.");
+    }
+    validateIdentifier(table);
+    columns.forEach(JdbcBatchSink::validateIdentifier);
+    this.dataSource = dataSource;
+    this.dialect = dialect;
+    this.table = table;
+    this.columns = List.copyOf(columns);
+    this.keys = List.copyOf(keys);
+    this.keyIndexes = keys.stream().mapToInt(columns::indexOf).toArray();
+    this.binder = binder;
+    this.rowsPerStatement = rowsPerStatement;
+    this.statementsPerBatch = statementsPerBatch;
+    this.maxConnections = maxConnections;
+    this.idle = new ArrayBlockingQueue<>(maxConnections);
+    this.connectionPermits = new Semaphore(maxConnections);
+  }
+
+  /**
+   * INSERT 싱크를 생성합니다.
+   *
+   * @param dataSource 데이터 소스
+   * @param table      테이블
+   * @param columns    컬럼 (바인딩 순서)
+   * @param binder     행을 컬럼 순서의 값 배열로 변환하는 함수
+   * @param <R>        저장할 행 타입
+   * @return 싱크 (문장당 100행, executeBatch당 10문장, 연결 최대 3개)
+   */
+  public static <R> JdbcBatchSink<R> insert(final DataSource dataSource, final String table,
+      final List<String> columns, final Function<? super R, Object[]> binder) {
+    return new JdbcBatchSink<>(dataSource, UpsertDialect.INSERT, table, columns, List.of(), binder, 100, 10, 3);
+  }
+
+  /**
+   * 키가 같은 행을 갱신하는 upsert 싱크를 생성합니다.
+   *
+   * @param dataSource 데이터 소스
+   * @param dialect    SQL 방언
+   * @param table      테이블
+   * @param columns    컬럼 (바인딩 순서)
+   * @param keys       충돌을 판단할 키 컬럼 (유니크 제약이 있어야 함)
+   * @param binder     행을 컬럼 순서의 값 배열로 변환하는 함수
+   * @param <R>        저장할 행 타입
+   * @return 싱크 (문장당 100행, executeBatch당 10문장, 연결 최대 3개)
+   */
+  public static <R> JdbcBatchSink<R> upsert(final DataSource dataSource, final UpsertDialect dialect,
+      final String table, final List<String> columns, final List<String> keys,
+      final Function<? super R, Object[]> binder) {
+    return new JdbcBatchSink<>(dataSource, dialect, table, columns, keys, binder, 100, 10, 3);
+  }
+
+  /**
+   * 다중 행 문장 하나에 담을 행 수를 바꾼 싱크를 반환합니다.
+   *
+   * @param rows 문장당 행 수 (행 수 × 컬럼 수가 65,535 이하)
+   * @return 새 싱크
+   */
+  public JdbcBatchSink<R> withRowsPerStatement(final int rows) {
+    return new JdbcBatchSink<>(dataSource, dialect, table, columns, keys, binder, rows, statementsPerBatch,
+        maxConnections);
+  }
+
+  /**
+   * {@code executeBatch} 한 번에 보낼 문장 수를 바꾼 싱크를 반환합니다.
+   *
+   * @param statements executeBatch당 문장 수
+   * @return 새 싱크
+   */
+  public JdbcBatchSink<R> withStatementsPerBatch(final int statements) {
+    return new JdbcBatchSink<>(dataSource, dialect, table, columns, keys, binder, rowsPerStatement, statements,
+        maxConnections);
+  }
+
+  /**
+   * 보관하고 재사용할 최대 연결 수를 바꾼 싱크를 반환합니다.
+   * <p>
+   * 프로세서의 {@code getMaxPendingFlushes()}와 같게 두면 동시에 실행되는 flush마다 연결 하나를 재사용합니다.
+   * </p>
+   *
+   * @param connections 최대 연결 수
+   * @return 새 싱크
+   */
+  public JdbcBatchSink<R> withMaxConnections(final int connections) {
+    return new JdbcBatchSink<>(dataSource, dialect, table, columns, keys, binder, rowsPerStatement,
+        statementsPerBatch, connections);
+  }
+
+  /**
+   * 행을 하나의 트랜잭션으로 저장합니다.
+   *
+   * @param rows 저장할 행
+   * @return 저장한 행 수 (upsert는 같은 키의 행을 합친 뒤의 행 수)
+   * @throws BatchExecutionException 행 변환이나 저장에 실패한 경우 (트랜잭션은 롤백됨)
+   */
+  public int write(final List<? extends R> rows) {
+    if (closed) {
+      throw new IllegalStateException("닫힌 싱크입니다.");
+    }
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    final List<Object[]> values;
+    try {
+      values = values(rows);
+    } catch (RuntimeException e) {
+      throw new BatchExecutionException(table + " 행을 변환하지 못했습니다. (" + rows.size() + "행)", e);
+    }
+    final Connection connection = borrow();
+    boolean reusable = false;
+    try {
+      if (connection.getAutoCommit()) {
+        connection.setAutoCommit(false);
+      }
+      final int fullStatements = values.size() / rowsPerStatement;
+      final int remainder = values.size() % rowsPerStatement;
+      if (fullStatements > 0) {
+        try (PreparedStatement statement = connection.prepareStatement(sql(rowsPerStatement))) {
+          int pending = 0;
+          for (int i = 0; i < fullStatements; i++) {
+            bind(statement, values, i * rowsPerStatement, rowsPerStatement);
+            statement.addBatch();
+            if (++pending == statementsPerBatch) {
+              statement.executeBatch();
+              pending = 0;
+            }
+          }
+          if (pending > 0) {
+            statement.executeBatch();
+          }
+        }
+      }
+      if (remainder > 0) {
+        try (PreparedStatement statement = connection.prepareStatement(sql(remainder))) {
+          bind(statement, values, fullStatements * rowsPerStatement, remainder);
+          statement.executeUpdate();
+        }
+      }
+      connection.commit();
+      reusable = true;
+      writtenRows.add(values.size());
+      return values.size();
+    } catch (SQLException | RuntimeException e) {
+      rollbackQuietly(connection);
+      throw new BatchExecutionException(table + " 저장에 실패했습니다. (" + values.size() + "행)", e);
+    } finally {
+      release(connection, reusable);
+    }
+  }
+
+  /**
+   * 저장한 누적 행 수를 반환합니다.
+   *
+   * @return 저장한 행 수
+   */
+  public long getWrittenRows() {
+    return writtenRows.sum();
+  }
+
+  /**
+   * 데이터 소스에서 새로 연 누적 연결 수를 반환합니다.
+   *
+   * @return 연 연결 수
+   */
+  public long getOpenedConnections() {
+    return openedConnections.sum();
+  }
+
+  /**
+   * 보관 중인 연결을 닫습니다. 사용 중인 연결은 반환될 때 닫힙니다.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    Connection connection;
+    while ((connection = idle.poll()) != null) {
+      closeQuietly(connection);
+    }
+  }
+
+  private String sql(final int rows) {
+    return statements.computeIfAbsent(rows, count -> dialect.statement(table, columns, keys, count));
+  }
+
+  /**
+   * 행을 컬럼 순서의 값 배열로 변환합니다. upsert는 키가 같은 행을 마지막 행으로 합칩니다.
+   */
+  private List<Object[]> values(final List<? extends R> rows) {
+    if (dialect == UpsertDialect.INSERT) {
+      final List<Object[]> values = new ArrayList<>(rows.size());
+      for (R row : rows) {
+        values.add(checked(binder.apply(row)));
+      }
+      return values;
+    }
+    final Map<List<Object>, Object[]> byKey = new LinkedHashMap<>();
+    for (R row : rows) {
+      final Object[] values = checked(binder.apply(row));
+      final Object[] key = new Object[keyIndexes.length];
+      for (int i = 0; i < keyIndexes.length; i++) {
+        key[i] = values[keyIndexes[i]];
+      }
+      byKey.put(Arrays.asList(key), values);
+    }
+    return new ArrayList<>(byKey.values());
+  }
+
+  private Object[] checked(final Object[] values) {
+    if (values.length != columns.size()) {
+      throw new IllegalArgumentException("값 개수(" + values.length + ")가 컬럼 수(" + columns.size() + ")와 다릅니다.");
+    }
+    return values;
+  }
+
+  private static void bind(final PreparedStatement statement, final List<Object[]> rows, final int from,
+      final int count) throws SQLException {
+    int parameter = 1;
+    for (int i = from; i < from + count; i++) {
+      for (Object value : rows.get(i)) {
+        if (value == null) {
+          statement.setNull(parameter++, Types.NULL);
+        } else {
+          statement.setObject(parameter++, value);
+        }
+      }
+    }
+  }
+
+  private Connection borrow() {
+    connectionPermits.acquireUninterruptibly();
+    try {
+      Connection connection;
+      while ((connection = idle.poll()) != null) {
+        if (!connection.isClosed()) {
+          return connection;
+        }
+      }
+      openedConnections.increment();
+      return dataSource.getConnection();
+    } catch (SQLException | RuntimeException e) {
+      connectionPermits.release();
+      throw new BatchExecutionException("연결을 얻지 못했습니다.", e);
+    }
+  }
+
+  private void release(final Connection connection, final boolean reusable) {
+    try {
+      if (!reusable || closed || !idle.offer(connection)) {
+        closeQuietly(connection);
+      }
+    } finally {
+      connectionPermits.release();
+    }
+  }
+
+  private static void rollbackQuietly(final Connection connection) {
+    try {
+      connection.rollback();
+    } catch (SQLException ignored) {
+      // 연결은 재사용하지 않고 닫음
+    }
+  }
+
+  private static void closeQuietly(final Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException ignored) {
+      // 닫기 실패는 무시
+    }
+  }
+
+  private static void validateIdentifier(final String identifier) {
+    if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+      throw new IllegalArgumentException("허용되지 않는 이름입니다: " + identifier);
+    }
+  }
+}
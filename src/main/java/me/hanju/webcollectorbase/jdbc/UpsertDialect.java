@@ -0,0 +1,83 @@
+package me.hanju.webcollectorbase.jdbc;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 행을 한 문장으로 저장하는 SQL 방언.
+ */
+public enum UpsertDialect {
+
+  /** 표준 INSERT (키 충돌 시 예외) */
+  INSERT {
+    @Override
+    String statement(final String table, final List<String> columns, final List<String> keys, final int rows) {
+      return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES " + placeholders(columns, rows);
+    }
+  },
+
+  /** MySQL/MariaDB {@code INSERT ... ON DUPLICATE KEY UPDATE} */
+  MYSQL {
+    @Override
+    String statement(final String table, final List<String> columns, final List<String> keys, final int rows) {
+      final List<String> updates = nonKeys(columns, keys);
+      // 갱신할 컬럼이 없으면 키를 자기 자신으로 갱신하여 충돌을 무시
+      final String assignments = (updates.isEmpty() ? keys.subList(0, 1) : updates).stream()
+          .map(column -> column + " = VALUES(" + column + ")")
+          .collect(Collectors.joining(", "));
+      return INSERT.statement(table, columns, keys, rows) + " ON DUPLICATE KEY UPDATE " + assignments;
+    }
+  },
+
+  /** PostgreSQL/SQLite {@code INSERT ... ON CONFLICT (...) DO UPDATE} */
+  POSTGRESQL {
+    @Override
+    String statement(final String table, final List<String> columns, final List<String> keys, final int rows) {
+      final List<String> updates = nonKeys(columns, keys);
+      final String action = updates.isEmpty()
+          ? "DO NOTHING"
+          : "DO UPDATE SET " + updates.stream()
+              .map(column -> column + " = EXCLUDED." + column)
+              .collect(Collectors.joining(", "));
+      return INSERT.statement(table, columns, keys, rows)
+          + " ON CONFLICT (" + String.join(", ", keys) + ") " + action;
+    }
+  },
+
+  /** H2 {@code MERGE INTO ... KEY (...)} */
+  H2 {
+    @Override
+    String statement(final String table, final List<String> columns, final List<String> keys, final int rows) {
+      return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (" + String.join(", ", keys)
+          + ") VALUES " + placeholders(columns, rows);
+    }
+  };
+
+  /**
+   * {@code rows}개 행을 저장하는 문장을 생성합니다.
+   *
+   * @param table   테이블
+   * @param columns 컬럼 (바인딩 순서)
+   * @param keys    충돌을 판단할 키 컬럼 ({@link #INSERT}는 사용하지 않음)
+   * @param rows    문장 하나에 담을 행 수
+   * @return SQL
+   */
+  abstract String statement(String table, List<String> columns, List<String> keys, int rows);
+
+  private static String placeholders(final List<String> columns, final int rows) {
+    final String row = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    final StringBuilder sql = new StringBuilder(rows * (row.length() + 2));
+    for (int i = 0; i < rows; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(row);
+    }
+    return sql.toString();
+  }
+
+  private static List<String> nonKeys(final List<String> columns, final List<String> keys) {
+    return columns.stream().filter(column -> !keys.contains(column)).toList();
+  }
+}
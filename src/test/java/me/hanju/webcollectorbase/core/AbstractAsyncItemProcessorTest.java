@@ -0,0 +1,288 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+
+class AbstractAsyncItemProcessorTest {
+
+  private ScheduledExecutorService scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Executors.newScheduledThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  /** 지연 후 완료되는 비동기 호출 (스레드를 점유하지 않음) */
+  private CompletableFuture<Void> delayed(long millis) {
+    Executor delay = CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS, scheduler);
+    return CompletableFuture.runAsync(() -> {
+    }, delay);
+  }
+
+  private abstract static class ListSource extends AbstractAsyncItemProcessor<Long> {
+    private final Iterator<Long> iterator;
+
+    ListSource(List<Long> source) {
+      this.iterator = source.iterator();
+    }
+
+    @Override
+    protected CompletionStage<List<Long>> fetchNextBatch(int batchSize) {
+      List<Long> batch = new ArrayList<>();
+      for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+        batch.add(iterator.next());
+      }
+      return CompletableFuture.completedFuture(batch);
+    }
+  }
+
+  @Test
+  @DisplayName("적은 스레드로 많은 아이템을 동시에 진행하고, 동시 진행 수는 한도를 넘지 않음")
+  @Timeout(10)
+  void manyItemsInFlightOnFewThreads() {
+    List<Long> source = LongStream.rangeClosed(1, 2_000).boxed().toList();
+    AtomicInteger inFlight = new AtomicInteger(0);
+    AtomicInteger peak = new AtomicInteger(0);
+    Set<Long> processed = ConcurrentHashMap.newKeySet();
+    AtomicInteger flushes = new AtomicInteger(0);
+
+    AbstractAsyncItemProcessor<Long> processor = new ListSource(source) {
+      @Override
+      protected CompletionStage<Void> processItem(Long item) {
+        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return delayed(50).thenRun(() -> {
+          processed.add(item);
+          inFlight.decrementAndGet();
+        });
+      }
+
+      @Override
+      protected CompletionStage<Void> saveBatch() {
+        return delayed(10).thenRun(flushes::incrementAndGet);
+      }
+
+      @Override
+      protected int getMaxInFlightItems() {
+        return 300;
+      }
+    };
+
+    long start = System.nanoTime();
+    ItemProcessedResult result = processor.process(500);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(TerminationReason.COMPLETED, result.terminationReason());
+    assertEquals(2_000L, result.successCount());
+    assertEquals(2_000, processed.size());
+    assertEquals(4, flushes.get());
+    assertTrue(peak.get() <= 300, "동시 진행 수가 한도를 넘으면 안 됨: " + peak.get());
+    assertTrue(peak.get() >= 200, "스레드 2개로도 많은 아이템이 동시에 진행되어야 함: " + peak.get());
+    // 순차 진행이면 100초, 한도 300으로 동시 진행하면 1초 남짓
+    assertTrue(elapsedMillis < 5_000, "동시 진행되지 않음: " + elapsedMillis + "ms");
+  }
+
+  @Test
+  @DisplayName("실패, 동기 예외, 제한 시간 초과를 아이템별로 집계하고 초과한 작업은 취소함")
+  @Timeout(10)
+  void failuresAndTimeoutsCountedPerItem() {
+    Map<Long, Exception> failures = new ConcurrentHashMap<>();
+    CompletableFuture<Void> stuck = new CompletableFuture<>();
+
+    AbstractAsyncItemProcessor<Long> processor = new ListSource(List.of(1L, 2L, 3L, 4L, 5L)) {
+      @Override
+      protected CompletionStage<Void> processItem(Long item) {
+        if (item == 2L) {
+          return CompletableFuture.failedFuture(new IllegalStateException("async failure"));
+        }
+        if (item == 3L) {
+          throw new IllegalArgumentException("sync failure");
+        }
+        if (item == 4L) {
+          return stuck;
+        }
+        return delayed(10);
+      }
+
+      @Override
+      protected CompletionStage<Void> saveBatch() {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      @Override
+      public Duration getItemTimeout() {
+        return Duration.ofMillis(200);
+      }
+    };
+
+    ItemProcessedResult result = processor.process(10, new IItemProcessorLogger() {
+      @Override
+      public void onStart(Long totalCount) {
+      }
+
+      @Override
+      public void onItemSuccess(Long index) {
+      }
+
+      @Override
+      public void onItemFail(Long index, Exception e) {
+        failures.put(index, e);
+      }
+
+      @Override
+      public void onBatchFetched(Integer batch, Integer itemCount) {
+      }
+
+      @Override
+      public void onBatchSuccess(Integer batch, Long processedCount) {
+      }
+
+      @Override
+      public void onBatchFail(Integer batch, Exception e) {
+      }
+
+      @Override
+      public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+      }
+
+      @Override
+      public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+      }
+    });
+
+    assertEquals(5L, result.totalProcessed());
+    assertEquals(2L, result.successCount());
+    assertEquals(3L, result.failureCount());
+    assertEquals(1L, result.timeoutCount());
+    assertTrue(failures.get(2L) instanceof IllegalStateException);
+    assertTrue(failures.get(3L) instanceof IllegalArgumentException);
+    assertTrue(failures.get(4L) instanceof BatchExecutionConfig.BatchTimeoutException);
+    assertTrue(stuck.isCancelled(), "제한 시간을 넘긴 작업은 취소되어야 함");
+  }
+
+  @Test
+  @DisplayName("동기로 끝나는 아이템이 많아도 허가 반환이 재귀로 깊어지지 않음")
+  @Timeout(30)
+  void synchronousCompletionsDoNotRecurse() {
+    int count = 100_000;
+    AtomicInteger flushes = new AtomicInteger(0);
+
+    AbstractAsyncItemProcessor<Long> processor = new ListSource(LongStream.rangeClosed(1, count).boxed().toList()) {
+      @Override
+      protected CompletionStage<Void> processItem(Long item) {
+        // 앞의 아이템이 허가를 잡고 있는 동안 나머지는 모두 대기열에 쌓인 뒤 연달아 동기로 끝남
+        return item <= 8 ? delayed(50) : CompletableFuture.completedFuture(null);
+      }
+
+      @Override
+      protected CompletionStage<Void> saveBatch() {
+        flushes.incrementAndGet();
+        return CompletableFuture.completedFuture(null);
+      }
+
+      @Override
+      protected int getMaxInFlightItems() {
+        return 8;
+      }
+    };
+
+    ItemProcessedResult result = processor.process(count);
+
+    assertEquals(TerminationReason.COMPLETED, result.terminationReason());
+    assertEquals((long) count, result.successCount());
+    assertEquals(1, flushes.get());
+  }
+
+  @Test
+  @DisplayName("flush 실패는 배치 실패로 기록하고, 모든 flush가 끝난 뒤 결과를 반환함")
+  @Timeout(10)
+  void flushFailureReportedAndAllFlushesAwaited() {
+    List<Integer> failedBatches = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger completedFlushes = new AtomicInteger(0);
+    AtomicInteger flushCalls = new AtomicInteger(0);
+
+    AbstractAsyncItemProcessor<Long> processor = new ListSource(LongStream.rangeClosed(1, 9).boxed().toList()) {
+      @Override
+      protected CompletionStage<Void> processItem(Long item) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      @Override
+      protected CompletionStage<Void> saveBatch() {
+        if (flushCalls.incrementAndGet() == 2) {
+          return CompletableFuture.failedFuture(new IllegalStateException("save failed"));
+        }
+        return delayed(100).thenRun(completedFlushes::incrementAndGet);
+      }
+    };
+
+    ItemProcessedResult result = processor.process(3, new IItemProcessorLogger() {
+      @Override
+      public void onStart(Long totalCount) {
+      }
+
+      @Override
+      public void onItemSuccess(Long index) {
+      }
+
+      @Override
+      public void onItemFail(Long index, Exception e) {
+      }
+
+      @Override
+      public void onBatchFetched(Integer batch, Integer itemCount) {
+      }
+
+      @Override
+      public void onBatchSuccess(Integer batch, Long processedCount) {
+      }
+
+      @Override
+      public void onBatchFail(Integer batch, Exception e) {
+        failedBatches.add(batch);
+      }
+
+      @Override
+      public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+      }
+
+      @Override
+      public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+      }
+    });
+
+    assertEquals(9L, result.successCount());
+    assertEquals(List.of(2), failedBatches);
+    assertEquals(2, completedFlushes.get(), "결과 반환 전에 모든 flush가 끝나야 함");
+  }
+}
@@ -3,20 +3,36 @@ package me.hanju.webcollectorbase.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
+import me.hanju.webcollectorbase.core.circuit.CircuitBreaker;
+import me.hanju.webcollectorbase.core.circuit.CircuitBreakerPolicy;
 import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+import me.hanju.webcollectorbase.core.memory.MemoryAdmission;
+import me.hanju.webcollectorbase.core.memory.MemoryPressurePolicy;
+import me.hanju.webcollectorbase.core.progress.ProcessingProgress;
+import me.hanju.webcollectorbase.core.progress.RunStatistics;
 
 class AbstractItemProcessorTest {
 
@@ -397,6 +413,74 @@ class AbstractItemProcessorTest {
         "동시 flush 개수가 maxPendingFlushes를 초과함: " + maxConcurrentFlushes.get());
   }
 
+  @Test
+  @Timeout(10)
+  @DisplayName("메모리 정책의 무게 한도를 넘으면 flush가 끝날 때까지 다음 배치를 읽지 않음")
+  void memoryPolicy_pendingWeightLimitsFetches() {
+    AtomicInteger concurrentFlushes = new AtomicInteger(0);
+    AtomicInteger maxConcurrentFlushes = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(10);
+    List<Long> sourceData = new ArrayList<>();
+    for (long i = 1; i <= 30; i++) {
+      sourceData.add(i);
+    }
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private Iterator<Long> iterator = sourceData.iterator();
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+      }
+
+      @Override
+      protected void saveBatch() {
+        int current = concurrentFlushes.incrementAndGet();
+        maxConcurrentFlushes.updateAndGet(max -> Math.max(max, current));
+        sleep(30);
+        concurrentFlushes.decrementAndGet();
+      }
+
+      @Override
+      protected MemoryPressurePolicy getMemoryPressurePolicy() {
+        return MemoryPressurePolicy.ofHeapWatermarks(0.98, 0.99).withMaxPendingWeight(100);
+      }
+
+      @Override
+      protected long estimateItemWeight(Long item) {
+        return 40;
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 4;
+      }
+    };
+
+    try {
+      ItemProcessedResult result = processor.process(1);
+
+      assertEquals(30L, result.successCount());
+      assertEquals(3, maxConcurrentFlushes.get(), "무게 40인 배치는 세 개까지만 flush를 기다릴 수 있음");
+      assertEquals(MemoryAdmission.State.NORMAL, processor.getMemoryAdmissionState());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   @DisplayName("커서 기반 DB 조회 시뮬레이션")
   void simulateCursorBasedDbQuery() {
@@ -574,4 +658,662 @@ class AbstractItemProcessorTest {
 
     assertEquals(100L, capturedTotalCount.get(), "getTotalCount() 반환값이 onStart에 전달되어야 함");
   }
+
+  @Test
+  @DisplayName("getItemKey가 같은 아이템은 한 번만 처리되고 성공으로 집계됨")
+  void duplicateItemKeysProcessedOnce() {
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    List<String> sourceData = List.of("a", "b", "a", "c", "b", "a", "d", "c");
+
+    AbstractItemProcessor<String> processor = new AbstractItemProcessor<>() {
+      private Iterator<String> iterator = sourceData.iterator();
+
+      @Override
+      protected List<String> fetchNextBatch(int batchSize) {
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected Object getItemKey(String item) {
+        return item;
+      }
+
+      @Override
+      protected void processItem(String item) {
+        processed.add(item);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return Executors.newFixedThreadPool(4);
+      }
+    };
+
+    ItemProcessedResult result = processor.process(4);
+
+    assertEquals(8L, result.successCount());
+    assertEquals(4, processed.size());
+    assertEquals(4L, processor.getItemCacheStats().missCount());
+    assertEquals(0.5, processor.getItemCacheStats().hitRate(), 0.001);
+  }
+
+  @Test
+  @DisplayName("식별자 추출 함수가 있으면 중복 아이템은 처리되지 않고 duplicateCount에 집계됨")
+  void duplicateIdentitiesSkipped() {
+    List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+    List<Long> sourceData = List.of(1L, 2L, 3L, 2L, 4L, 1L, 5L, 3L);
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private Iterator<Long> iterator = sourceData.iterator();
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected ToLongFunction<Long> getItemIdentityExtractor() {
+        return Long::longValue;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+        processed.add(item);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+    };
+
+    ItemProcessedResult result = processor.process(3);
+
+    assertEquals(5L, result.totalProcessed());
+    assertEquals(5L, result.successCount());
+    assertEquals(3L, result.duplicateCount());
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L), processed);
+  }
+
+  @Test
+  @DisplayName("아이템 제한 시간을 넘기면 인터럽트하고 타임아웃 실패로 집계한 뒤 진행함")
+  @Timeout(10)
+  void itemTimeoutInterruptsAndContinues() {
+    List<Long> sourceData = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+    AtomicBoolean interrupted = new AtomicBoolean(false);
+    CountDownLatch releaseStuck = new CountDownLatch(1);
+    Map<Long, Exception> failures = new ConcurrentHashMap<>();
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private Iterator<Long> iterator = sourceData.iterator();
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+        if (item == 3L) {
+          try {
+            Thread.sleep(10_000);
+          } catch (InterruptedException e) {
+            interrupted.set(true);
+            Thread.currentThread().interrupt();
+          }
+        }
+        if (item == 4L) {
+          // 인터럽트에 반응하지 않는 작업
+          while (releaseStuck.getCount() > 0) {
+            try {
+              releaseStuck.await();
+            } catch (InterruptedException ignored) {
+              // 무시
+            }
+          }
+        }
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return Executors.newFixedThreadPool(4);
+      }
+
+      @Override
+      public Duration getItemTimeout() {
+        return Duration.ofMillis(200);
+      }
+    };
+
+    long start = System.nanoTime();
+    ItemProcessedResult result = processor.process(3, new IItemProcessorLogger() {
+      @Override
+      public void onStart(Long totalCount) {
+      }
+
+      @Override
+      public void onItemSuccess(Long index) {
+      }
+
+      @Override
+      public void onItemFail(Long index, Exception e) {
+        failures.put(index, e);
+      }
+
+      @Override
+      public void onBatchFetched(Integer batch, Integer itemCount) {
+      }
+
+      @Override
+      public void onBatchSuccess(Integer batch, Long processedCount) {
+      }
+
+      @Override
+      public void onBatchFail(Integer batch, Exception e) {
+      }
+
+      @Override
+      public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+      }
+
+      @Override
+      public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+      }
+    });
+    releaseStuck.countDown();
+
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "멈춘 아이템 때문에 처리가 막히면 안 됨");
+    assertEquals(6L, result.totalProcessed());
+    assertEquals(4L, result.successCount());
+    assertEquals(2L, result.failureCount());
+    assertEquals(2L, result.timeoutCount());
+    assertTrue(interrupted.get(), "제한 시간을 넘긴 작업은 인터럽트되어야 함");
+    assertTrue(failures.get(3L) instanceof BatchExecutionConfig.BatchTimeoutException);
+    assertTrue(failures.get(4L) instanceof BatchExecutionConfig.BatchTimeoutException);
+  }
+
+  @Test
+  @DisplayName("flush 제한 시간을 넘기면 배치 실패로 기록하고 다음 배치를 진행함")
+  @Timeout(10)
+  void flushTimeoutReportsBatchFailure() {
+    List<Long> sourceData = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+    Map<Integer, Exception> batchFailures = new ConcurrentHashMap<>();
+    List<Integer> batchSuccesses = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger flushCount = new AtomicInteger(0);
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private Iterator<Long> iterator = sourceData.iterator();
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+      }
+
+      @Override
+      protected void saveBatch() {
+        if (flushCount.incrementAndGet() == 1) {
+          try {
+            Thread.sleep(10_000);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+          }
+        }
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return Executors.newFixedThreadPool(4);
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 1;
+      }
+
+      @Override
+      public Duration getFlushTimeout() {
+        return Duration.ofMillis(200);
+      }
+    };
+
+    long start = System.nanoTime();
+    processor.process(2, new IItemProcessorLogger() {
+      @Override
+      public void onStart(Long totalCount) {
+      }
+
+      @Override
+      public void onItemSuccess(Long index) {
+      }
+
+      @Override
+      public void onItemFail(Long index, Exception e) {
+      }
+
+      @Override
+      public void onBatchFetched(Integer batch, Integer itemCount) {
+      }
+
+      @Override
+      public void onBatchSuccess(Integer batch, Long processedCount) {
+        batchSuccesses.add(batch);
+      }
+
+      @Override
+      public void onBatchFail(Integer batch, Exception e) {
+        batchFailures.put(batch, e);
+      }
+
+      @Override
+      public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+      }
+
+      @Override
+      public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+      }
+    });
+
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    assertEquals(1, batchFailures.size(), "타임아웃된 flush는 한 번만 실패로 기록되어야 함");
+    assertTrue(batchFailures.get(1) instanceof BatchExecutionConfig.BatchTimeoutException);
+    assertEquals(2, batchSuccesses.size());
+  }
+
+  @Test
+  @DisplayName("flush 제한 시간이 지나도 인터럽트를 무시하는 저장이 끝날 때까지 슬롯을 잡고 처리도 기다림")
+  @Timeout(10)
+  void flushTimeoutKeepsSlotUntilSaveReturns() {
+    List<Long> sourceData = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+    AtomicInteger runningSaves = new AtomicInteger(0);
+    AtomicInteger maxRunningSaves = new AtomicInteger(0);
+    AtomicInteger finishedSaves = new AtomicInteger(0);
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private Iterator<Long> iterator = sourceData.iterator();
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+          batch.add(iterator.next());
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+      }
+
+      @Override
+      protected void saveBatch() {
+        maxRunningSaves.accumulateAndGet(runningSaves.incrementAndGet(), Math::max);
+        // 블로킹 JDBC 호출처럼 인터럽트를 무시하고 300ms 동안 저장
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        while (System.nanoTime() < deadline) {
+          try {
+            Thread.sleep(10);
+          } catch (InterruptedException ignored) {
+            // 계속 저장
+          }
+        }
+        runningSaves.decrementAndGet();
+        finishedSaves.incrementAndGet();
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return Executors.newFixedThreadPool(4);
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 1;
+      }
+
+      @Override
+      public Duration getFlushTimeout() {
+        return Duration.ofMillis(50);
+      }
+    };
+
+    processor.process(2);
+
+    assertEquals(1, maxRunningSaves.get(), "동시에 실행된 저장 수가 flush 동시 실행 수를 넘음");
+    assertEquals(3, finishedSaves.get(), "process()는 모든 저장이 끝난 뒤에 반환해야 함");
+  }
+
+  @Test
+  @DisplayName("ABORT 정책: 실패율이 기준을 넘으면 남은 아이템을 발급하지 않고 조기 종료함")
+  @Timeout(10)
+  void circuitAbortStopsEarly() {
+    AtomicInteger calls = new AtomicInteger(0);
+    AtomicInteger fetches = new AtomicInteger(0);
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private long next = 1L;
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        fetches.incrementAndGet();
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next <= 100L; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+        calls.incrementAndGet();
+        throw new IllegalStateException("source down");
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      protected CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return CircuitBreakerPolicy.ofFailureRate(0.5).withWindow(10, 5).abortOnOpen();
+      }
+    };
+
+    ItemProcessedResult result = processor.process(3);
+
+    assertEquals(TerminationReason.CIRCUIT_OPEN, result.terminationReason());
+    assertEquals(5, calls.get(), "서킷이 열린 뒤에는 호출하지 않아야 함");
+    assertEquals(5L, result.totalProcessed());
+    assertEquals(5L, result.failureCount());
+    assertEquals(2, fetches.get(), "조기 종료 후에는 다음 배치를 읽지 않아야 함");
+    assertEquals(CircuitBreaker.State.OPEN, processor.getCircuitState());
+  }
+
+  @Test
+  @DisplayName("PAUSE 정책: 서킷이 열리면 대기 후 시험 호출로 회복하고, 미뤄진 아이템을 모두 처리함")
+  @Timeout(10)
+  void circuitPauseRecoversAndProcessesAll() {
+    Set<Long> succeeded = ConcurrentHashMap.newKeySet();
+    AtomicInteger calls = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    AbstractItemProcessor<Long> processor = new AbstractItemProcessor<>() {
+      private long next = 1L;
+
+      @Override
+      protected List<Long> fetchNextBatch(int batchSize) {
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next <= 30L; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Long item) {
+        if (calls.incrementAndGet() <= 5) {
+          throw new IllegalStateException("source down");
+        }
+        succeeded.add(item);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+
+      @Override
+      protected CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return CircuitBreakerPolicy.ofFailureRate(0.5).withWindow(10, 5).withOpenDuration(Duration.ofMillis(50));
+      }
+    };
+
+    ItemProcessedResult result;
+    try {
+      result = processor.process(5);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(TerminationReason.COMPLETED, result.terminationReason());
+    assertEquals(30L, result.totalProcessed());
+    assertEquals(5L, result.failureCount());
+    assertEquals(25L, result.successCount());
+    assertEquals(25, succeeded.size(), "미뤄진 아이템도 한 번씩 처리되어야 함");
+    assertEquals(CircuitBreaker.State.CLOSED, processor.getCircuitState());
+  }
+
+  @Test
+  @DisplayName("병렬 Executor: 배치의 모든 아이템이 확정된 뒤 onBatchProcessed가 호출되고 집계가 정확함")
+  @Timeout(20)
+  void batchCompletesOnlyAfterEveryItemSettles() {
+    AtomicLong processed = new AtomicLong(0);
+    List<Long> processedAtBatchEnd = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    AbstractItemProcessor<Integer> processor = new AbstractItemProcessor<>() {
+      private int next = 0;
+
+      @Override
+      protected List<Integer> fetchNextBatch(int batchSize) {
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next < 20_000; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Integer item) {
+        if (item % 100 == 0) {
+          throw new IllegalStateException("fail " + item);
+        }
+        processed.incrementAndGet();
+      }
+
+      @Override
+      protected void onBatchProcessed(int batchNumber) {
+        processedAtBatchEnd.add(processed.get());
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+
+    ItemProcessedResult result;
+    try {
+      result = processor.process(1000);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(20_000L, result.totalProcessed());
+    assertEquals(19_800L, result.successCount());
+    assertEquals(200L, result.failureCount());
+    assertEquals(20, processedAtBatchEnd.size());
+    for (int i = 0; i < processedAtBatchEnd.size(); i++) {
+      assertEquals(990L * (i + 1), processedAtBatchEnd.get(i), "배치 " + (i + 1) + "의 아이템이 모두 끝나야 함");
+    }
+  }
+
+  @Test
+  @DisplayName("getProgress: 처리 중에 다른 스레드에서 집계, 처리량, 남은 시간, 단계별 지연 시간을 조회함")
+  @Timeout(20)
+  void progressSnapshotDuringRun() throws Exception {
+    CountDownLatch halfway = new CountDownLatch(1);
+    CountDownLatch resume = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    AbstractItemProcessor<Integer> processor = new AbstractItemProcessor<>() {
+      private int next = 0;
+
+      @Override
+      protected Long getTotalCount() {
+        return 100L;
+      }
+
+      @Override
+      protected List<Integer> fetchNextBatch(int batchSize) {
+        if (next == 50) {
+          halfway.countDown();
+          try {
+            resume.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next < 100; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Integer item) {
+        if (item % 10 == 0) {
+          throw new IllegalStateException("fail " + item);
+        }
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+    assertEquals(ProcessingProgress.NOT_STARTED, processor.getProgress());
+
+    Thread runner = new Thread(() -> processor.process(10));
+    runner.start();
+    try {
+      assertTrue(halfway.await(5, TimeUnit.SECONDS));
+      ProcessingProgress running = processor.getProgress();
+      assertTrue(running.running());
+      assertEquals(50L, running.totalProcessed());
+      assertEquals(45L, running.successCount());
+      assertEquals(5L, running.failureCount());
+      assertEquals(0.5, running.ratio(), 1e-9);
+      assertTrue(running.itemsPerSecond() > 0);
+      assertTrue(running.eta() != null, "전체 수를 알면 남은 시간을 계산해야 함");
+      assertEquals(50L, running.processLatency().count());
+      assertEquals(5L, running.fetchLatency().count());
+    } finally {
+      resume.countDown();
+      runner.join();
+      executor.shutdownNow();
+    }
+
+    ProcessingProgress finished = processor.getProgress();
+    assertTrue(!finished.running());
+    assertEquals(100L, finished.completedCount());
+    assertEquals(0, finished.pendingFlushes());
+    assertEquals(10L, finished.flushLatency().count());
+    assertEquals(null, finished.eta());
+  }
+
+  @Test
+  @DisplayName("처리 결과에 단계별 지연 시간 분포, flush 대기 시간, 경과/작업 시간이 포함됨")
+  @Timeout(10)
+  void resultCarriesRunStatistics() {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    AbstractItemProcessor<Integer> processor = new AbstractItemProcessor<>() {
+      private int next = 0;
+
+      @Override
+      protected List<Integer> fetchNextBatch(int batchSize) {
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next < 20; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected void processItem(Integer item) {
+        sleep(2);
+      }
+
+      @Override
+      protected void saveBatch() {
+        sleep(20);
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 1;
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+
+    RunStatistics statistics;
+    try {
+      statistics = processor.process(5).statistics();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(20L, statistics.processLatency().count());
+    assertEquals(5L, statistics.fetchLatency().count(), "빈 배치 조회도 기록됨");
+    assertEquals(4L, statistics.flushLatency().count());
+    assertEquals(4L, statistics.flushWait().count());
+    assertTrue(statistics.processLatency().max().toMillis() >= 2);
+    assertTrue(statistics.flushLatency().max().toMillis() >= 20);
+    assertTrue(statistics.flushWait().max().toMillis() >= 5, "flush 한도가 1이면 다음 flush를 기다려야 함");
+    assertTrue(statistics.busyTime().compareTo(statistics.processLatency().total()) >= 0);
+    assertTrue(statistics.wallTime().toMillis() >= 80);
+    assertTrue(statistics.summary().startsWith("wall="));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
@@ -0,0 +1,130 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.KeyRange;
+
+class AbstractKeyRangeProcessorTest {
+
+  /** id 순으로 정렬된 테이블을 흉내 내는 프로세서 */
+  private static class TableProcessor extends AbstractKeyRangeProcessor<Long> {
+    private final NavigableMap<Long, Long> table;
+    private final Map<Long, Integer> processed = new ConcurrentHashMap<>();
+    private final Set<String> scanThreads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightScans = new AtomicInteger(0);
+    private final AtomicInteger peakScans = new AtomicInteger(0);
+    private final ExecutorService executor;
+
+    TableProcessor(NavigableMap<Long, Long> table, ExecutorService executor) {
+      this.table = table;
+      this.executor = executor;
+    }
+
+    @Override
+    protected KeyRange findKeyRange() {
+      return table.isEmpty() ? null : new KeyRange(table.firstKey(), table.lastKey());
+    }
+
+    @Override
+    protected List<Long> fetchAfter(long afterKey, long maxKey, int limit) {
+      peakScans.accumulateAndGet(inFlightScans.incrementAndGet(), Math::max);
+      scanThreads.add(Thread.currentThread().getName());
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      List<Long> rows = new ArrayList<>();
+      for (Long id : table.subMap(afterKey, false, maxKey, true).keySet()) {
+        if (rows.size() == limit) {
+          break;
+        }
+        rows.add(id);
+      }
+      inFlightScans.decrementAndGet();
+      return rows;
+    }
+
+    @Override
+    protected long keyOf(Long item) {
+      return item;
+    }
+
+    @Override
+    protected void processItem(Long item) {
+      processed.merge(item, 1, Integer::sum);
+    }
+
+    @Override
+    protected void saveBatch() {
+    }
+
+    @Override
+    public Executor getExecutor() {
+      return executor;
+    }
+  }
+
+  @Test
+  @DisplayName("키가 한쪽에 몰린 범위도 구간을 재분배하며 병렬로 읽고 모든 행을 한 번씩 처리함")
+  @Timeout(20)
+  void skewedRangeRebalancedAndFullyScanned() {
+    NavigableMap<Long, Long> table = new TreeMap<>();
+    // 앞쪽 1/4 구간에 대부분의 행이 몰려 있음
+    for (long id = 1; id <= 2_000; id++) {
+      table.put(id, id);
+    }
+    for (long id = 2_001; id <= 8_000; id += 100) {
+      table.put(id, id);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    TableProcessor processor = new TableProcessor(table, executor);
+
+    ItemProcessedResult result;
+    try {
+      result = processor.process(200);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals((long) table.size(), result.successCount());
+    assertEquals(table.keySet(), processor.processed.keySet());
+    assertTrue(processor.processed.values().stream().allMatch(count -> count == 1), "중복 처리 없어야 함");
+    assertTrue(processor.getStealCount() > 0, "먼저 끝난 구간이 남은 범위를 나누어 받아야 함");
+    assertTrue(processor.peakScans.get() > 1, "구간을 동시에 조회해야 함");
+  }
+
+  @Test
+  @DisplayName("빈 테이블과 키가 하나뿐인 범위를 처리함")
+  void emptyAndSingleKeyRanges() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      TableProcessor empty = new TableProcessor(new TreeMap<>(), executor);
+      assertEquals(0L, empty.process(10).totalProcessed());
+
+      NavigableMap<Long, Long> single = new TreeMap<>(Map.of(42L, 42L));
+      TableProcessor one = new TableProcessor(single, executor);
+      assertEquals(1L, one.process(10).successCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * AbstractListDetailPageProcessor 목록/상세 2단계 처리 테스트.
+ */
+class AbstractListDetailPageProcessorTest {
+
+  @Test
+  @DisplayName("목록 페이지가 내보낸 상세 항목이 모두 flush 전에 처리됨")
+  @Timeout(30)
+  void detailsProcessedBeforeFlush() {
+    List<String> buffer = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> savedSizes = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    AbstractListDetailPageProcessor<IntPageCriteria, String> processor = new AbstractListDetailPageProcessor<>() {
+      @Override
+      protected int fetchTotalPage(IntPageCriteria criteria) {
+        return 6;
+      }
+
+      @Override
+      protected PageInfo processListPage(IntPageCriteria criteria, Consumer<String> detailEmitter) {
+        for (int i = 1; i <= 5; i++) {
+          detailEmitter.accept(criteria.page() + "-" + i);
+        }
+        return new PageInfo(6, 30, 5);
+      }
+
+      @Override
+      protected void processDetail(String detail) {
+        sleep(5);
+        buffer.add(detail);
+      }
+
+      @Override
+      protected void saveBatch() {
+        synchronized (buffer) {
+          savedSizes.add(buffer.size());
+          buffer.clear();
+        }
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 1;
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    ItemProcessedResult result = processor.process(2);
+    executor.shutdown();
+
+    assertEquals(6L, result.successCount());
+    assertEquals(30L, processor.getDetailSuccessCount());
+    assertEquals(List.of(10, 10, 10), savedSizes, "배치(2페이지)마다 상세 10건이 저장되어야 함");
+  }
+
+  @Test
+  @DisplayName("상세 처리 동시 실행 수가 getMaxConcurrentDetails를 넘지 않고 여러 페이지가 섞여 실행됨")
+  @Timeout(30)
+  void detailConcurrencyCappedAndInterleaved() {
+    AtomicInteger running = new AtomicInteger(0);
+    AtomicInteger maxRunning = new AtomicInteger(0);
+    List<Integer> detailPageOrder = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    AbstractListDetailPageProcessor<IntPageCriteria, Integer> processor = new AbstractListDetailPageProcessor<>() {
+      @Override
+      protected int fetchTotalPage(IntPageCriteria criteria) {
+        return 4;
+      }
+
+      @Override
+      protected PageInfo processListPage(IntPageCriteria criteria, Consumer<Integer> detailEmitter) {
+        for (int i = 0; i < 10; i++) {
+          detailEmitter.accept(criteria.page());
+          sleep(2); // 목록 파싱 시뮬레이션
+        }
+        return new PageInfo(4, 40, 10);
+      }
+
+      @Override
+      protected void processDetail(Integer page) {
+        int current = running.incrementAndGet();
+        maxRunning.updateAndGet(max -> Math.max(max, current));
+        detailPageOrder.add(page);
+        sleep(10);
+        running.decrementAndGet();
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+
+      @Override
+      public int getMaxConcurrentDetails() {
+        return 3;
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    processor.process(4);
+    executor.shutdown();
+
+    assertEquals(40L, processor.getDetailSuccessCount());
+    assertTrue(maxRunning.get() <= 3, "상세 동시 실행 수가 한도를 초과함: " + maxRunning.get());
+    assertTrue(!detailPageOrder.subList(0, 10).stream().allMatch(detailPageOrder.get(0)::equals),
+        "여러 페이지의 상세 처리가 섞여 실행되어야 함");
+  }
+
+  @Test
+  @DisplayName("동기 Executor에서도 많은 상세 항목을 스택 오버플로 없이 처리")
+  @Timeout(30)
+  void synchronousExecutorHandlesManyDetails() {
+    AtomicInteger failures = new AtomicInteger(0);
+
+    AbstractListDetailPageProcessor<IntPageCriteria, Integer> processor = new AbstractListDetailPageProcessor<>() {
+      @Override
+      protected int fetchTotalPage(IntPageCriteria criteria) {
+        return 2;
+      }
+
+      @Override
+      protected PageInfo processListPage(IntPageCriteria criteria, Consumer<Integer> detailEmitter) {
+        for (int i = 0; i < 50_000; i++) {
+          detailEmitter.accept(i);
+        }
+        return new PageInfo(2, 100_000, 50_000);
+      }
+
+      @Override
+      protected void processDetail(Integer detail) {
+        if (detail % 1000 == 0) {
+          throw new IllegalStateException("detail " + detail);
+        }
+      }
+
+      @Override
+      protected void onDetailFail(Integer detail, Exception e) {
+        failures.incrementAndGet();
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    processor.process(1);
+
+    assertEquals(99_900L, processor.getDetailSuccessCount());
+    assertEquals(100L, processor.getDetailFailureCount());
+    assertEquals(100, failures.get());
+  }
+
+  @Test
+  @DisplayName("Executor가 상세 처리를 거부해도 배치가 끝나고 실패로 집계되며, 집계는 실행마다 새로 시작함")
+  @Timeout(10)
+  void rejectedDetailsFailInsteadOfHanging() {
+    ThreadLocal<Boolean> emitting = ThreadLocal.withInitial(() -> false);
+    List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+
+    AbstractListDetailPageProcessor<IntPageCriteria, Integer> processor = new AbstractListDetailPageProcessor<>() {
+      @Override
+      protected int fetchTotalPage(IntPageCriteria criteria) {
+        return 2;
+      }
+
+      @Override
+      protected PageInfo processListPage(IntPageCriteria criteria, Consumer<Integer> detailEmitter) {
+        emitting.set(true);
+        try {
+          for (int i = 0; i < 5; i++) {
+            detailEmitter.accept(i);
+          }
+        } finally {
+          emitting.set(false);
+        }
+        return new PageInfo(2, 10, 5);
+      }
+
+      @Override
+      protected void processDetail(Integer detail) {
+      }
+
+      @Override
+      protected void onDetailFail(Integer detail, Exception e) {
+        failures.add(e);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return command -> {
+          // 목록 페이지 처리 중에 제출되는 상세 처리만 거부
+          if (emitting.get()) {
+            throw new RejectedExecutionException("full");
+          }
+          command.run();
+        };
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    processor.process(2);
+
+    assertEquals(0L, processor.getDetailSuccessCount());
+    assertEquals(10L, processor.getDetailFailureCount());
+    assertTrue(failures.stream().allMatch(RejectedExecutionException.class::isInstance));
+
+    // 페이지를 모두 소진한 뒤 다시 실행하면 처리할 페이지가 없으므로 집계는 0이어야 함
+    processor.process(2);
+
+    assertEquals(0L, processor.getDetailSuccessCount());
+    assertEquals(0L, processor.getDetailFailureCount(), "이전 실행의 집계가 남지 않아야 함");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,21 +1,28 @@
 package me.hanju.webcollectorbase.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
 import me.hanju.webcollectorbase.core.dto.PageInfo;
+import me.hanju.webcollectorbase.core.watermark.WatermarkStore;
 
 /**
  * AbstractPageProcessor 핵심 로직 테스트.
@@ -249,6 +256,68 @@ class AbstractPageProcessorTest {
       assertEquals(2, result.successCount());
       assertEquals(2, processedPages.size());
     }
+
+    @Test
+    @DisplayName("배치 크기가 매우 커도 페이지 범위만 예약하여 모든 페이지를 한 번씩 처리")
+    void hugeBatchSizeReservesRangeOnly() {
+      List<Integer> processedPages = Collections.synchronizedList(new ArrayList<>());
+
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 7;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          processedPages.add(criteria.page());
+          return new PageInfo(7, 70, 10);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+
+      ItemProcessedResult result = processor.process(Integer.MAX_VALUE);
+
+      assertEquals(7, result.successCount());
+      assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), processedPages);
+      assertTrue(processor.fetchNextBatch(3).isEmpty(), "모든 페이지를 예약한 뒤에는 빈 배치를 반환해야 함");
+    }
+    @Test
+    @DisplayName("페이지를 등록하지 않는 배치는 크기와 무관하게 범위 외에 할당하지 않음")
+    void unregisteredRangeDoesNotAllocatePerPage() {
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          return new PageInfo(null, null, 0);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+
+        @Override
+        public boolean isShutdownRequested() {
+          return true;
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+      processor.process(1);
+
+      // 페이지마다 슬롯을 만들면 배열 크기 한도를 넘음
+      List<IntPageCriteria> batch = processor.fetchNextBatch(Integer.MAX_VALUE);
+
+      assertEquals(Integer.MAX_VALUE, batch.size());
+      assertEquals(new IntPageCriteria(Integer.MAX_VALUE), batch.get(Integer.MAX_VALUE - 1));
+    }
   }
 
   @Nested
@@ -412,4 +481,268 @@ class AbstractPageProcessorTest {
       assertEquals(1, result.failureCount());
     }
   }
+
+  @Nested
+  @DisplayName("페이지 밀림 중복 제거")
+  class DuplicateSuppressionTests {
+
+    @Test
+    @DisplayName("페이지 경계가 밀려 다시 나타난 레코드는 markSeen으로 걸러지고 duplicateCount에 집계됨")
+    void shiftedRecordsSuppressed() {
+      List<Long> saved = Collections.synchronizedList(new ArrayList<>());
+
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 4;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          // 페이지당 10건, 수집 중 새 글이 추가되어 페이지마다 이전 페이지의 마지막 2건이 다시 나타남
+          long first = (criteria.page() - 1) * 8L;
+          int collected = 0;
+          for (long id = first; id < first + 10; id++) {
+            if (markSeen(id)) {
+              saved.add(id);
+              collected++;
+            }
+          }
+          return new PageInfo(4, 40, collected);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+
+      ItemProcessedResult result = processor.process(1);
+
+      assertEquals(4L, result.successCount());
+      assertEquals(6L, result.duplicateCount());
+      assertEquals(34, saved.size());
+      assertEquals(34L, saved.stream().distinct().count());
+    }
+  }
+
+  @Nested
+  @DisplayName("워터마크 증분 수집")
+  class WatermarkTests {
+
+    /** 메모리 워터마크 저장소 */
+    class MemoryWatermarkStore implements WatermarkStore {
+      final AtomicReference<Long> value;
+
+      MemoryWatermarkStore(Long initial) {
+        value = new AtomicReference<>(initial);
+      }
+
+      @Override
+      public Long load() {
+        return value.get();
+      }
+
+      @Override
+      public void save(long watermark) {
+        value.set(watermark);
+      }
+    }
+
+    /** 최신순 소스: 페이지 p의 아이템 ID는 1000 - (p - 1) * 10 부터 10개 */
+    AbstractPageProcessor<IntPageCriteria> newestFirstProcessor(WatermarkStore store, List<Integer> processedPages) {
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 100;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          processedPages.add(criteria.page());
+          long maxId = 1000L - (criteria.page() - 1) * 10L;
+          return new PageInfo(100, 1000, 10, maxId);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+
+        @Override
+        protected WatermarkStore getWatermarkStore() {
+          return store;
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+      return processor;
+    }
+
+    @Test
+    @DisplayName("이전 워터마크 이하의 페이지를 만나면 이후 페이지를 발급하지 않음")
+    void stopsAtPreviousWatermark() {
+      List<Integer> processedPages = Collections.synchronizedList(new ArrayList<>());
+      MemoryWatermarkStore store = new MemoryWatermarkStore(965L);
+
+      ItemProcessedResult result = newestFirstProcessor(store, processedPages).process(3);
+
+      // 페이지 4의 최대 ID 970 > 965, 페이지 5의 최대 ID 960 <= 965 → 페이지 6은 건너뜀
+      assertEquals(List.of(1, 2, 3, 4, 5), processedPages);
+      assertEquals(6L, result.totalProcessed());
+      assertEquals(5L, result.successCount(), "건너뛴 페이지는 성공으로 집계하지 않음");
+      assertEquals(1000L, store.load());
+    }
+
+    @Test
+    @DisplayName("저장된 워터마크가 없으면 전체 페이지를 처리하고 최대값을 저장")
+    void firstRunProcessesAllPages() {
+      List<Integer> processedPages = Collections.synchronizedList(new ArrayList<>());
+      MemoryWatermarkStore store = new MemoryWatermarkStore(null);
+
+      newestFirstProcessor(store, processedPages).process(10);
+
+      assertEquals(100, processedPages.size());
+      assertEquals(1000L, store.load());
+    }
+
+    @Test
+    @DisplayName("예약한 페이지 범위를 다시 읽어도 같은 검색 조건을 반환하고 페이지 번호는 한 번만 등록함")
+    void pageRangeReusesCriteria() {
+      AtomicBoolean stop = new AtomicBoolean(false);
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 10;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          stop.set(true);
+          return new PageInfo(10, 100, 10, 1000L - criteria.page());
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+
+        @Override
+        protected WatermarkStore getWatermarkStore() {
+          return new MemoryWatermarkStore(null);
+        }
+
+        @Override
+        public boolean isShutdownRequested() {
+          return stop.get();
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+      processor.process(1);
+
+      List<IntPageCriteria> batch = processor.fetchNextBatch(3);
+      IntPageCriteria first = batch.get(0);
+
+      assertSame(first, batch.get(0));
+      assertEquals(2, first.page());
+      assertEquals(2, processor.pageOf(first));
+      processor.processItem(batch.get(0));
+      assertEquals(-1, processor.pageOf(first), "처리한 페이지의 등록이 남으면 안 됨");
+    }
+
+    @Test
+    @DisplayName("중복 제거나 아이템 캐시로 processItem 없이 끝난 페이지도 등록이 남지 않음")
+    void skippedPagesAreUnregistered() {
+      List<IntPageCriteria> issued = Collections.synchronizedList(new ArrayList<>());
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 30;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          return new PageInfo(30, 300, 10, null);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+
+        @Override
+        protected WatermarkStore getWatermarkStore() {
+          return new MemoryWatermarkStore(null);
+        }
+
+        @Override
+        protected ToLongFunction<IntPageCriteria> getItemIdentityExtractor() {
+          return criteria -> {
+            issued.add(criteria);
+            // 21~30페이지는 1~10페이지와 중복
+            return criteria.page() <= 20 ? criteria.page() : criteria.page() - 20;
+          };
+        }
+
+        @Override
+        protected Object getItemKey(IntPageCriteria criteria) {
+          // 11~20페이지는 1~10페이지의 캐시된 결과를 사용
+          return criteria.page() > 10 ? criteria.page() - 10 : criteria.page();
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+
+      ItemProcessedResult result = processor.process(5);
+
+      assertEquals(10L, result.duplicateCount());
+      assertEquals(30, issued.size());
+      for (IntPageCriteria criteria : issued) {
+        assertEquals(-1, processor.pageOf(criteria), criteria.page() + "페이지 등록이 남음");
+      }
+    }
+
+    @Test
+    @DisplayName("실패한 페이지가 있으면 워터마크를 저장하지 않음")
+    void failedRunDoesNotAdvanceWatermark() {
+      MemoryWatermarkStore store = new MemoryWatermarkStore(900L);
+
+      AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+        @Override
+        protected int fetchTotalPage(IntPageCriteria criteria) {
+          return 20;
+        }
+
+        @Override
+        protected PageInfo processPage(IntPageCriteria criteria) {
+          if (criteria.page() == 2) {
+            throw new RuntimeException("페이지 2 실패");
+          }
+          return new PageInfo(20, 200, 10, 1000L - (criteria.page() - 1) * 10L);
+        }
+
+        @Override
+        protected void saveBatch() {
+        }
+
+        @Override
+        protected WatermarkStore getWatermarkStore() {
+          return store;
+        }
+      };
+      processor.setBaseCriteria(new IntPageCriteria(1));
+
+      ItemProcessedResult result = processor.process(5);
+
+      assertEquals(1L, result.failureCount());
+      assertEquals(900L, store.load());
+    }
+
+    @Test
+    @DisplayName("파일 워터마크 저장소는 값을 저장하고 다시 읽음")
+    void fileWatermarkStoreRoundTrip(@TempDir Path dir) {
+      WatermarkStore store = WatermarkStore.file(dir.resolve("state/articles.watermark"));
+
+      assertNull(store.load());
+      store.save(1_700_000_000_000L);
+      assertEquals(1_700_000_000_000L, store.load());
+      store.save(1_700_000_000_500L);
+      assertEquals(1_700_000_000_500L, WatermarkStore.file(dir.resolve("state/articles.watermark")).load());
+    }
+  }
 }
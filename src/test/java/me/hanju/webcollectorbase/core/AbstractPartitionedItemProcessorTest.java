@@ -0,0 +1,261 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.index.ContentHashIndex;
+import me.hanju.webcollectorbase.core.index.ContentHashTracking;
+
+/**
+ * AbstractPartitionedItemProcessor 레인 분할 저장 테스트.
+ */
+class AbstractPartitionedItemProcessorTest {
+
+  /** 게시글 ID와 갱신 순번 */
+  record Update(long articleId, int version) {
+  }
+
+  /**
+   * 10개 게시글에 대한 갱신을 순번대로 생성하는 프로세서.
+   */
+  abstract static class UpdateProcessor extends AbstractPartitionedItemProcessor<Update, Update> {
+    private final List<Update> source = new ArrayList<>();
+    private int cursor = 0;
+
+    UpdateProcessor(int versions) {
+      for (int version = 1; version <= versions; version++) {
+        for (long articleId = 1; articleId <= 10; articleId++) {
+          source.add(new Update(articleId, version));
+        }
+      }
+    }
+
+    @Override
+    protected List<Update> fetchNextBatch(int batchSize) {
+      int end = Math.min(cursor + batchSize, source.size());
+      List<Update> batch = new ArrayList<>(source.subList(cursor, end));
+      cursor = end;
+      return batch;
+    }
+
+    @Override
+    protected Update processItemToResult(Update item) {
+      return item;
+    }
+
+    @Override
+    protected Object getPartitionKey(Update result) {
+      return result.articleId();
+    }
+
+    @Override
+    public Executor getExecutor() {
+      return Executors.newFixedThreadPool(4);
+    }
+  }
+
+  @Test
+  @DisplayName("같은 키의 결과는 배치 순서대로 저장됨")
+  @Timeout(30)
+  void sameKeySavedInBatchOrder() {
+    Map<Long, List<Integer>> savedVersions = new ConcurrentHashMap<>();
+
+    UpdateProcessor processor = new UpdateProcessor(20) {
+      @Override
+      protected void saveLane(int lane, List<Update> results) {
+        try {
+          Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        for (Update update : results) {
+          savedVersions.computeIfAbsent(update.articleId(), id -> Collections.synchronizedList(new ArrayList<>()))
+              .add(update.version());
+        }
+      }
+    };
+
+    // 배치 크기 10 = 배치마다 모든 게시글의 다음 버전
+    ItemProcessedResult result = processor.process(10);
+
+    assertEquals(200L, result.successCount());
+    assertEquals(10, savedVersions.size());
+    savedVersions.forEach((articleId, versions) -> {
+      List<Integer> expected = new ArrayList<>();
+      for (int version = 1; version <= 20; version++) {
+        expected.add(version);
+      }
+      assertEquals(expected, versions, "게시글 " + articleId + "의 저장 순서가 어긋남");
+    });
+  }
+
+  @Test
+  @DisplayName("서로 다른 레인은 병렬로 저장됨")
+  @Timeout(30)
+  void lanesRunInParallel() {
+    AtomicInteger concurrentLanes = new AtomicInteger(0);
+    AtomicInteger maxConcurrentLanes = new AtomicInteger(0);
+    Map<Integer, String> laneThreads = new ConcurrentHashMap<>();
+
+    UpdateProcessor processor = new UpdateProcessor(3) {
+      @Override
+      protected void saveLane(int lane, List<Update> results) {
+        laneThreads.merge(lane, Thread.currentThread().getName(), (a, b) -> a.equals(b) ? a : "mixed");
+        int current = concurrentLanes.incrementAndGet();
+        maxConcurrentLanes.updateAndGet(max -> Math.max(max, current));
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          concurrentLanes.decrementAndGet();
+        }
+      }
+    };
+
+    processor.process(10);
+
+    assertTrue(maxConcurrentLanes.get() > 1, "레인이 병렬로 실행되어야 함: " + maxConcurrentLanes.get());
+    assertTrue(maxConcurrentLanes.get() <= processor.getFlushLanes());
+    laneThreads.values().forEach(name -> assertTrue(!name.equals("mixed"), "레인은 하나의 스레드에서 실행되어야 함"));
+  }
+
+  @Test
+  @DisplayName("레인 저장 실패는 onBatchFail로 보고되고 처리는 계속됨")
+  @Timeout(30)
+  void laneFailureReportedAndProcessingContinues() {
+    Map<Integer, Exception> batchFailures = new HashMap<>();
+    AtomicInteger savedCount = new AtomicInteger(0);
+
+    UpdateProcessor processor = new UpdateProcessor(5) {
+      @Override
+      protected void saveLane(int lane, List<Update> results) {
+        if (lane == 0 && results.stream().anyMatch(update -> update.version() == 2)) {
+          throw new IllegalStateException("lane 0 down");
+        }
+        savedCount.addAndGet(results.size());
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return Runnable::run;
+      }
+    };
+
+    ItemProcessedResult result = processor.process(10, new IItemProcessorLogger() {
+      @Override
+      public void onStart(Long totalCount) {
+      }
+
+      @Override
+      public void onItemSuccess(Long index) {
+      }
+
+      @Override
+      public void onItemFail(Long index, Exception e) {
+      }
+
+      @Override
+      public void onBatchFetched(Integer batch, Integer itemCount) {
+      }
+
+      @Override
+      public void onBatchSuccess(Integer batch, Long processedCount) {
+      }
+
+      @Override
+      public void onBatchFail(Integer batch, Exception e) {
+        batchFailures.put(batch, e);
+      }
+
+      @Override
+      public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+      }
+
+      @Override
+      public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+      }
+    });
+
+    assertEquals(50L, result.successCount());
+    assertEquals(1, batchFailures.size());
+    assertTrue(batchFailures.get(2) instanceof BatchExecutionConfig.BatchExecutionException);
+    assertTrue(savedCount.get() > 40, "다른 레인과 이후 배치는 계속 저장되어야 함");
+  }
+
+  @Test
+  @DisplayName("콘텐츠 해시가 이전 실행과 같은 결과는 저장하지 않음")
+  @Timeout(30)
+  void unchangedResultsSkippedAcrossRuns(@TempDir Path dir) {
+    List<Update> saved = Collections.synchronizedList(new ArrayList<>());
+
+    try (ContentHashIndex index = ContentHashIndex.open(dir.resolve("updates.idx"), 1_000)) {
+      class HashingProcessor extends UpdateProcessor {
+        private final int changedVersion;
+
+        HashingProcessor(int changedVersion) {
+          super(1);
+          this.changedVersion = changedVersion;
+        }
+
+        @Override
+        protected Update processItemToResult(Update item) {
+          // 3번 게시글만 내용이 바뀜
+          return item.articleId() == 3 ? new Update(3, changedVersion) : item;
+        }
+
+        private final ContentHashTracking<Update> tracking = new ContentHashTracking<>(index, Update::version);
+
+        @Override
+        protected ContentHashTracking<Update> getContentHashTracking() {
+          return tracking;
+        }
+
+        @Override
+        protected void saveLane(int lane, List<Update> results) {
+          saved.addAll(results);
+        }
+      }
+
+      HashingProcessor firstRun = new HashingProcessor(1);
+      firstRun.process(5);
+      assertEquals(10, saved.size());
+      assertEquals(0L, firstRun.getUnchangedCount());
+
+      saved.clear();
+      HashingProcessor secondRun = new HashingProcessor(2);
+      ItemProcessedResult result = secondRun.process(5);
+
+      assertEquals(10L, result.successCount());
+      assertEquals(9L, secondRun.getUnchangedCount());
+      assertEquals(List.of(new Update(3, 2)), saved);
+    }
+  }
+
+  @Test
+  @DisplayName("콘텐츠 해시 함수 없이 인덱스만 지정할 수 없음")
+  void contentHashTrackingRequiresHashFunction(@TempDir Path dir) {
+    try (ContentHashIndex index = ContentHashIndex.open(dir.resolve("updates.idx"), 100)) {
+      assertThrows(IllegalArgumentException.class, () -> new ContentHashTracking<Update>(index, null));
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+
+class AbstractSpliteratorItemProcessorTest {
+
+  /** 아이템을 읽은 스레드를 기록하는 Spliterator */
+  private static final class RecordingSpliterator implements Spliterator<Integer> {
+    private final Spliterator<Integer> delegate;
+    private final Set<String> threads;
+
+    RecordingSpliterator(Spliterator<Integer> delegate, Set<String> threads) {
+      this.delegate = delegate;
+      this.threads = threads;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Integer> action) {
+      threads.add(Thread.currentThread().getName());
+      return delegate.tryAdvance(action);
+    }
+
+    @Override
+    public Spliterator<Integer> trySplit() {
+      Spliterator<Integer> prefix = delegate.trySplit();
+      return prefix == null ? null : new RecordingSpliterator(prefix, threads);
+    }
+
+    @Override
+    public long estimateSize() {
+      return delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return delegate.characteristics();
+    }
+  }
+
+  @Test
+  @DisplayName("크기를 아는 소스는 파티션으로 나누어 여러 스레드에서 읽고 모든 아이템을 한 번씩 처리함")
+  @Timeout(10)
+  void sizedSourceSplitAcrossPartitions() {
+    List<Integer> source = IntStream.rangeClosed(1, 1_000).boxed().toList();
+    Set<String> readerThreads = ConcurrentHashMap.newKeySet();
+    Set<Integer> processed = ConcurrentHashMap.newKeySet();
+    AtomicReference<Long> reportedTotal = new AtomicReference<>();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    AbstractSpliteratorItemProcessor<Integer> processor = new AbstractSpliteratorItemProcessor<>() {
+      @Override
+      protected Spliterator<Integer> openSource() {
+        return new RecordingSpliterator(new ArrayList<>(source).spliterator(), readerThreads);
+      }
+
+      @Override
+      protected int getSourceParallelism() {
+        return 4;
+      }
+
+      @Override
+      protected void processItem(Integer item) {
+        processed.add(item);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+
+    ItemProcessedResult result;
+    try {
+      result = processor.process(100, new IItemProcessorLogger() {
+        @Override
+        public void onStart(Long totalCount) {
+          reportedTotal.set(totalCount);
+        }
+
+        @Override
+        public void onItemSuccess(Long index) {
+        }
+
+        @Override
+        public void onItemFail(Long index, Exception e) {
+        }
+
+        @Override
+        public void onBatchFetched(Integer batch, Integer itemCount) {
+        }
+
+        @Override
+        public void onBatchSuccess(Integer batch, Long processedCount) {
+        }
+
+        @Override
+        public void onBatchFail(Integer batch, Exception e) {
+        }
+
+        @Override
+        public void onComplete(Long totalProcessed, Long successCount, Long failureCount) {
+        }
+
+        @Override
+        public void onError(Long totalProcessed, Long successCount, Long failureCount, Exception e) {
+        }
+      });
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1_000L, result.totalProcessed());
+    assertEquals(1_000L, result.successCount());
+    assertEquals(1_000, processed.size());
+    assertEquals(1_000L, reportedTotal.get());
+    assertTrue(readerThreads.size() > 1, "파티션을 여러 스레드에서 읽어야 함: " + readerThreads);
+  }
+
+  @Test
+  @DisplayName("크기를 모르는 소스는 배치 크기만큼 차례로 읽고, 끝나면 소스를 닫음")
+  void unsizedSourceBatchedSequentially() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+    AtomicBoolean closed = new AtomicBoolean(false);
+
+    AbstractSpliteratorItemProcessor<Integer> processor = new AbstractSpliteratorItemProcessor<>() {
+      @Override
+      protected Spliterator<Integer> openSource() {
+        return Spliterators.spliteratorUnknownSize(IntStream.rangeClosed(1, 25).iterator(), Spliterator.ORDERED);
+      }
+
+      @Override
+      protected void closeSource() {
+        closed.set(true);
+      }
+
+      @Override
+      protected void processItem(Integer item) {
+        processed.add(item);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+
+      @Override
+      protected void onBatchProcessed(int batch) {
+        batchSizes.add(processed.size());
+      }
+    };
+
+    ItemProcessedResult result = processor.process(10);
+
+    assertEquals(25L, result.successCount());
+    assertEquals(IntStream.rangeClosed(1, 25).boxed().toList(), processed, "순서가 유지되어야 함");
+    assertEquals(List.of(10, 20, 25), batchSizes);
+    assertNull(processor.getTotalCount());
+    assertTrue(closed.get());
+  }
+}
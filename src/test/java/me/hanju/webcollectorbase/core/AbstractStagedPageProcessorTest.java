@@ -0,0 +1,121 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+class AbstractStagedPageProcessorTest {
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** 조회는 대기, 파싱은 CPU를 쓰는 페이지 프로세서 */
+  private static class StagedProcessor extends AbstractStagedPageProcessor<IntPageCriteria, String> {
+    final Set<String> fetchThreads = ConcurrentHashMap.newKeySet();
+    final Set<String> parseThreads = ConcurrentHashMap.newKeySet();
+    final Set<Integer> parsedPages = ConcurrentHashMap.newKeySet();
+    final AtomicInteger parsing = new AtomicInteger(0);
+    final AtomicInteger peakParsing = new AtomicInteger(0);
+    private final long parseMillis;
+
+    StagedProcessor(long parseMillis) {
+      this.parseMillis = parseMillis;
+    }
+
+    @Override
+    protected String fetchPage(IntPageCriteria criteria) {
+      fetchThreads.add(Thread.currentThread().getName());
+      sleep(20);
+      return "page-" + criteria.page();
+    }
+
+    @Override
+    protected int parseTotalPage(String document) {
+      return 12;
+    }
+
+    @Override
+    protected PageInfo parsePage(IntPageCriteria criteria, String document) {
+      parseThreads.add(Thread.currentThread().getName());
+      peakParsing.accumulateAndGet(parsing.incrementAndGet(), Math::max);
+      long end = System.nanoTime() + parseMillis * 1_000_000;
+      while (System.nanoTime() < end) {
+        Thread.onSpinWait();
+      }
+      parsing.decrementAndGet();
+      parsedPages.add(Integer.parseInt(document.substring("page-".length())));
+      return new PageInfo(null, null, 1);
+    }
+
+    @Override
+    protected void saveBatch() {
+    }
+  }
+
+  @Test
+  @DisplayName("조회는 I/O 풀에서, 파싱은 파싱 풀에서 실행됨")
+  @Timeout(20)
+  void stagesRunOnSeparateExecutors() {
+    StagedProcessor processor = new StagedProcessor(5);
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    ItemProcessedResult result = processor.process(6);
+
+    assertEquals(12L, result.successCount());
+    assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), processor.parsedPages);
+    assertTrue(processor.parseThreads.stream().allMatch(name -> name.startsWith("page-parse-")),
+        "파싱은 파싱 풀에서 실행되어야 함: " + processor.parseThreads);
+    // 전체 페이지 수 조회는 호출 스레드에서, 페이지 조회는 I/O 풀에서 실행됨
+    assertTrue(processor.fetchThreads.stream().filter(name -> name.startsWith("page-fetch-")).count() > 1,
+        "페이지 조회는 I/O 풀에서 동시에 실행되어야 함: " + processor.fetchThreads);
+  }
+
+  @Test
+  @DisplayName("파싱 한도가 차면 조회를 마친 스레드가 기다리고, 파싱 동시 실행 수는 한도를 넘지 않음")
+  @Timeout(20)
+  void boundedHandoffLimitsPendingParses() {
+    ExecutorService parsePool = Executors.newFixedThreadPool(4);
+    StagedProcessor processor = new StagedProcessor(30) {
+      @Override
+      protected Executor getParseExecutor() {
+        return parsePool;
+      }
+
+      @Override
+      protected int getMaxPendingParses() {
+        return 2;
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    ItemProcessedResult result;
+    try {
+      result = processor.process(12);
+    } finally {
+      parsePool.shutdownNow();
+    }
+
+    assertEquals(12L, result.successCount());
+    assertTrue(processor.peakParsing.get() <= 2, "파싱 동시 실행 수가 파싱 한도를 넘으면 안 됨: " + processor.peakParsing.get());
+    assertEquals(List.of(), processor.parseThreads.stream().filter(name -> name.startsWith("page-fetch-")).toList());
+  }
+}
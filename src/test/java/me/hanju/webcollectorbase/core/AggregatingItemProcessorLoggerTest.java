@@ -0,0 +1,107 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class AggregatingItemProcessorLoggerTest {
+
+  private final List<String> summaries = Collections.synchronizedList(new ArrayList<>());
+  private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+  private AggregatingItemProcessorLogger newLogger() {
+    return AggregatingItemProcessorLogger.of(summaries::add, (message, e) -> errors.add(message));
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("배치마다 성공/실패 건수와 지연 시간을 한 줄로 요약하고 실패 표본 수를 제한함")
+  void summarizesBatchesAndSamplesFailures() {
+    final AggregatingItemProcessorLogger logger = newLogger().withFailureSamples(2).withInterval(Duration.ofHours(1));
+
+    logger.onStart(10L);
+    logger.onBatchFetched(1, 5);
+    for (long i = 0; i < 5; i++) {
+      logger.onItemSuccess(i, TimeUnit.MILLISECONDS.toNanos(10));
+    }
+    logger.onBatchFetched(2, 5);
+    logger.onItemSuccess(5L, TimeUnit.MILLISECONDS.toNanos(10));
+    for (long i = 6; i < 10; i++) {
+      logger.onItemFail(i, new IllegalStateException("boom"), TimeUnit.MILLISECONDS.toNanos(20));
+    }
+    logger.onComplete(10L, 6L, 4L);
+
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("배치 1: 성공 5건, 실패 0건, p50 ")), String.valueOf(summaries));
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("배치 2: 성공 1건, 실패 4건")), String.valueOf(summaries));
+    assertTrue(summaries.contains("표본 외 실패: IllegalStateException 2건"), String.valueOf(summaries));
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("진행: 누적 10건/10건 (100.0%)")), String.valueOf(summaries));
+    assertEquals("처리 완료: 전체 10건, 성공 6건, 실패 4건", summaries.get(summaries.size() - 1));
+    assertEquals(List.of("아이템 6 처리 실패 (구간 표본 1/2)", "아이템 7 처리 실패 (구간 표본 2/2)"), errors);
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("버퍼가 가득 차도 작업 스레드는 기다리지 않고 건수는 정확히 집계됨")
+  void countsStayExactWhenBufferOverflows() throws InterruptedException {
+    final AggregatingItemProcessorLogger logger = newLogger().withBufferSize(16).withFailureSamples(0)
+        .withInterval(Duration.ofHours(1));
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      logger.onStart(null);
+      logger.onBatchFetched(1, 4000);
+      for (int t = 0; t < 4; t++) {
+        executor.execute(() -> {
+          for (long i = 0; i < 1000; i++) {
+            if (i % 10 == 0) {
+              logger.onItemFail(i, new RuntimeException(), 1_000L);
+            } else {
+              logger.onItemSuccess(i, 1_000L);
+            }
+          }
+        });
+      }
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+      logger.close();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("배치 1: 성공 3600건, 실패 400건")), String.valueOf(summaries));
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("진행: 누적 4000건, 성공 3600건, 실패 400건")),
+        String.valueOf(summaries));
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("같은 로거로 다시 시작하면 이전 실행의 요약을 마친 뒤 새로 집계함")
+  void restartsAfterPreviousRunIsSummarized() {
+    final AggregatingItemProcessorLogger logger = newLogger().withInterval(Duration.ofHours(1));
+
+    for (int run = 1; run <= 3; run++) {
+      logger.onStart((long) run);
+      logger.onBatchFetched(1, run);
+      for (long i = 0; i < run; i++) {
+        logger.onItemSuccess(i, 1_000L);
+      }
+    }
+    logger.close();
+
+    assertEquals(List.of("배치 1: 성공 1건", "배치 1: 성공 2건", "배치 1: 성공 3건"), summaries.stream()
+        .filter(line -> line.startsWith("배치 "))
+        .map(line -> line.substring(0, line.indexOf(',')))
+        .toList());
+    assertTrue(summaries.stream().anyMatch(line -> line.startsWith("진행: 누적 3건/3건 (100.0%)")), String.valueOf(summaries));
+  }
+}
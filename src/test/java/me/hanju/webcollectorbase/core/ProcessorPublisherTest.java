@@ -0,0 +1,221 @@
+package me.hanju.webcollectorbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.TerminationReason;
+
+class ProcessorPublisherTest {
+
+  /** 1부터 itemCount까지 읽어 문자열로 변환하는 프로세서 */
+  private static class CountingProcessor extends AbstractItemProcessor<Integer> {
+    private final int itemCount;
+    private final AtomicInteger fetches = new AtomicInteger(0);
+    private final List<String> buffer = Collections.synchronizedList(new ArrayList<>());
+    private int next = 1;
+
+    CountingProcessor(int itemCount) {
+      this.itemCount = itemCount;
+    }
+
+    @Override
+    protected List<Integer> fetchNextBatch(int batchSize) {
+      fetches.incrementAndGet();
+      List<Integer> batch = new ArrayList<>();
+      for (int i = 0; i < batchSize && next <= itemCount; i++) {
+        batch.add(next++);
+      }
+      return batch;
+    }
+
+    @Override
+    protected void processItem(Integer item) {
+      buffer.add("item-" + item);
+    }
+
+    @Override
+    protected void saveBatch() {
+      throw new AssertionError("Publisher로 실행하면 saveBatch 대신 drain이 호출되어야 함");
+    }
+
+    List<String> drain() {
+      synchronized (buffer) {
+        List<String> drained = new ArrayList<>(buffer);
+        buffer.clear();
+        return drained;
+      }
+    }
+  }
+
+  /** 요청량을 테스트에서 직접 조절하는 구독자 */
+  private static class ManualSubscriber implements Flow.Subscriber<String> {
+    final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch terminated = new CountDownLatch(1);
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    volatile Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String item) {
+      received.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error.set(throwable);
+      terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      terminated.countDown();
+    }
+
+    void awaitReceived(int count) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (received.size() < count && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("구독자의 요청량만큼만 배치를 읽고, 모두 요청하면 순서대로 전달 후 완료함")
+  @Timeout(10)
+  void demandDrivesFetching() throws Exception {
+    CountingProcessor processor = new CountingProcessor(100);
+    ProcessorPublisher<String> publisher = ProcessorPublisher.of(processor, 5, processor::drain);
+    ManualSubscriber subscriber = new ManualSubscriber();
+
+    publisher.subscribe(subscriber);
+    Thread.sleep(100);
+    assertEquals(0, processor.fetches.get(), "요청 전에는 읽지 않아야 함");
+
+    subscriber.subscription.request(7);
+    subscriber.awaitReceived(7);
+    Thread.sleep(100);
+    assertEquals(7, subscriber.received.size());
+    assertEquals(2, processor.fetches.get(), "7건 요청에는 5건짜리 배치 2개만 읽어야 함");
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+
+    assertNull(subscriber.error.get());
+    assertEquals(100, subscriber.received.size());
+    assertEquals("item-1", subscriber.received.get(0));
+    assertEquals("item-100", subscriber.received.get(99));
+    ItemProcessedResult result = publisher.result().get(5, TimeUnit.SECONDS);
+    assertEquals(100L, result.successCount());
+    assertEquals(TerminationReason.COMPLETED, result.terminationReason());
+  }
+
+  @Test
+  @DisplayName("구독을 취소하면 더 읽지 않고 처리를 종료함")
+  @Timeout(10)
+  void cancelStopsProcessing() throws Exception {
+    CountingProcessor processor = new CountingProcessor(1_000);
+    ProcessorPublisher<String> publisher = ProcessorPublisher.of(processor, 10, processor::drain);
+    ManualSubscriber subscriber = new ManualSubscriber();
+
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(15);
+    subscriber.awaitReceived(15);
+    subscriber.subscription.cancel();
+
+    ItemProcessedResult result = publisher.result().get(5, TimeUnit.SECONDS);
+    assertEquals(TerminationReason.SHUTDOWN_REQUESTED, result.terminationReason());
+    assertEquals(2, processor.fetches.get());
+    assertEquals(20L, result.totalProcessed());
+    assertEquals(1, subscriber.terminated.getCount(), "취소 후에는 종료 신호를 보내지 않아야 함");
+  }
+
+  @Test
+  @DisplayName("처리 중 예외로 끝나면 onError로 전달함")
+  @Timeout(10)
+  void processingErrorSignalled() throws Exception {
+    CountingProcessor processor = new CountingProcessor(100) {
+      @Override
+      protected List<Integer> fetchNextBatch(int batchSize) {
+        if (super.fetchNextBatch(batchSize).get(0) > 10) {
+          throw new IllegalStateException("cursor lost");
+        }
+        return List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+      }
+    };
+    ProcessorPublisher<String> publisher = ProcessorPublisher.of(processor, 10, processor::drain);
+    ManualSubscriber subscriber = new ManualSubscriber();
+
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+    assertTrue(subscriber.error.get() instanceof IllegalStateException);
+    assertEquals(10, subscriber.received.size(), "예외 전까지 처리된 결과는 전달되어야 함");
+    assertEquals(TerminationReason.ERROR, publisher.result().get().terminationReason());
+  }
+
+  @Test
+  @DisplayName("레인 버퍼를 직접 관리하는 프로세서는 drainResults로 감싸면 결과가 쌓이지 않고 모두 전달됨")
+  @Timeout(10)
+  void partitionedProcessorDrainsLanes() throws Exception {
+    AtomicInteger savedLanes = new AtomicInteger(0);
+    AbstractPartitionedItemProcessor<Integer, String> processor = new AbstractPartitionedItemProcessor<>() {
+      private int next = 1;
+
+      @Override
+      protected List<Integer> fetchNextBatch(int batchSize) {
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize && next <= 50; i++) {
+          batch.add(next++);
+        }
+        return batch;
+      }
+
+      @Override
+      protected String processItemToResult(Integer item) {
+        return "item-" + item;
+      }
+
+      @Override
+      protected Object getPartitionKey(String result) {
+        return result;
+      }
+
+      @Override
+      protected void saveLane(int lane, List<String> results) {
+        savedLanes.incrementAndGet();
+      }
+    };
+    ProcessorPublisher<String> publisher = ProcessorPublisher.of(processor, 10, processor::drainResults);
+    ManualSubscriber subscriber = new ManualSubscriber();
+
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+    assertNull(subscriber.error.get());
+    assertEquals(50, subscriber.received.size());
+    assertEquals(50L, subscriber.received.stream().distinct().count());
+    assertEquals(0, savedLanes.get(), "Publisher로 실행하면 레인 저장을 하지 않아야 함");
+    assertTrue(processor.drainResults().isEmpty(), "전달된 결과가 레인 버퍼에 남으면 안 됨");
+  }
+}
@@ -0,0 +1,114 @@
+package me.hanju.webcollectorbase.core.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class SingleFlightCacheTest {
+
+  @Test
+  @DisplayName("같은 키의 동시 요청은 로더를 한 번만 실행함")
+  @Timeout(10)
+  void concurrentRequestsShareOneExecution() throws Exception {
+    SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(100, Duration.ofMinutes(1));
+    AtomicInteger loads = new AtomicInteger(0);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(CompletableFuture.supplyAsync(() -> cache.get("article-1", () -> {
+        loads.incrementAndGet();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return 42;
+      }), executor));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    for (CompletableFuture<Integer> future : futures) {
+      assertEquals(42, future.join());
+    }
+    executor.shutdown();
+
+    assertEquals(1, loads.get());
+    CacheStats stats = cache.stats();
+    assertEquals(8L, stats.requestCount());
+    assertEquals(1L, stats.missCount());
+    assertEquals(7L, stats.hitCount() + stats.coalescedCount());
+  }
+
+  @Test
+  @DisplayName("실패는 동시 요청끼리만 공유되고 캐시되지 않음")
+  void failureIsSharedButNotCached() {
+    SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(100, Duration.ofMinutes(1));
+    IllegalStateException failure = new IllegalStateException("upstream down");
+
+    IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> cache.get("k", () -> {
+      throw failure;
+    }));
+    assertSame(failure, thrown);
+
+    assertEquals(7, cache.get("k", () -> 7));
+    assertEquals(2L, cache.stats().missCount());
+  }
+
+  @Test
+  @DisplayName("TTL이 지나면 다시 로드함")
+  void expiresAfterTtl() throws Exception {
+    SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(100, Duration.ofMillis(50));
+    AtomicInteger loads = new AtomicInteger(0);
+
+    cache.get("k", loads::incrementAndGet);
+    cache.get("k", loads::incrementAndGet);
+    assertEquals(1, loads.get());
+
+    Thread.sleep(80);
+    assertNull(cache.getIfPresent("k"));
+    cache.get("k", loads::incrementAndGet);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("크기 제한을 넘으면 자주 조회된 항목을 남기고 제거함")
+  void evictsInfrequentEntriesFirst() {
+    SingleFlightCache<Integer, Integer> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+
+    for (int i = 0; i < 10; i++) {
+      final int value = i;
+      cache.get(i, () -> value);
+    }
+    // 0번 키를 자주 조회
+    for (int i = 0; i < 5; i++) {
+      cache.get(0, () -> -1);
+    }
+    for (int i = 10; i < 30; i++) {
+      final int value = i;
+      cache.get(i, () -> value);
+    }
+
+    assertTrue(cache.stats().size() <= 10, "크기 제한 초과: " + cache.stats().size());
+    assertNotNull(cache.getIfPresent(0), "자주 조회된 항목은 남아 있어야 함");
+    assertTrue(cache.stats().evictionCount() >= 20);
+  }
+}
@@ -0,0 +1,100 @@
+package me.hanju.webcollectorbase.core.circuit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class CircuitBreakerTest {
+
+  private static final CircuitBreakerPolicy POLICY = CircuitBreakerPolicy.ofFailureRate(0.5)
+      .withWindow(10, 4)
+      .withOpenDuration(Duration.ofMillis(50));
+
+  private static void call(CircuitBreaker breaker, boolean success) {
+    long permit = breaker.tryAcquire();
+    breaker.onResult(permit, 0L, success);
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 이후 실패율이 기준을 넘으면 열리고 호출을 거부함")
+  void opensOnFailureRate() {
+    CircuitBreaker breaker = new CircuitBreaker(POLICY.withOpenDuration(Duration.ofMinutes(1)));
+
+    call(breaker, false);
+    call(breaker, false);
+    call(breaker, true);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "최소 호출 수 전에는 판정하지 않음");
+
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertEquals(1L, breaker.getOpenCount());
+    assertEquals(-1L, breaker.tryAcquire());
+    assertEquals(1L, breaker.getRejectedCount());
+  }
+
+  @Test
+  @DisplayName("느린 호출 비율이 기준을 넘으면 열림")
+  void opensOnSlowCallRate() {
+    CircuitBreaker breaker = new CircuitBreaker(POLICY.withSlowCalls(Duration.ofMillis(100), 0.5));
+    long slow = Duration.ofMillis(150).toNanos();
+
+    for (int i = 0; i < 4; i++) {
+      breaker.onResult(breaker.tryAcquire(), i < 2 ? slow : 0L, true);
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertEquals(0.0, breaker.failureRate());
+  }
+
+  @Test
+  @DisplayName("대기 후 시험 호출이 모두 성공하면 닫히고, 실패하면 다시 열림")
+  @Timeout(5)
+  void halfOpenProbesDecideRecovery() {
+    CircuitBreaker breaker = new CircuitBreaker(POLICY);
+    for (int i = 0; i < 4; i++) {
+      call(breaker, false);
+    }
+    assertTrue(breaker.awaitCallable(Duration.ofSeconds(1)));
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    // 시험 호출 중 하나가 실패하면 다시 열림
+    call(breaker, true);
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertEquals(2L, breaker.getOpenCount());
+
+    assertTrue(breaker.awaitCallable(Duration.ofSeconds(1)));
+    long[] permits = new long[POLICY.halfOpenProbes()];
+    for (int i = 0; i < permits.length; i++) {
+      permits[i] = breaker.tryAcquire();
+    }
+    assertEquals(-1L, breaker.tryAcquire(), "시험 호출 수를 넘는 호출은 거부됨");
+    for (long permit : permits) {
+      breaker.onResult(permit, 0L, true);
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals(0.0, breaker.failureRate());
+  }
+
+  @Test
+  @DisplayName("상태가 바뀌기 전에 허가받은 호출의 결과는 무시됨")
+  void staleResultIgnored() {
+    CircuitBreaker breaker = new CircuitBreaker(POLICY.withOpenDuration(Duration.ofMinutes(1)));
+    long stale = breaker.tryAcquire();
+    for (int i = 0; i < 4; i++) {
+      call(breaker, false);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+    breaker.onResult(stale, 0L, true);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.awaitCallable(Duration.ofMillis(10)));
+  }
+}
@@ -0,0 +1,81 @@
+package me.hanju.webcollectorbase.core.dedup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class DuplicateFilterTest {
+
+  @Test
+  @DisplayName("해시 집합 필터는 크기가 커져도 중복을 정확히 판정함")
+  void hashSetIsExact() {
+    DuplicateFilter filter = DuplicateFilter.hashSet(16);
+
+    for (long id = -50_000; id < 50_000; id++) {
+      assertTrue(filter.add(id * 31));
+    }
+    for (long id = -50_000; id < 50_000; id++) {
+      assertFalse(filter.add(id * 31));
+    }
+    assertTrue(filter.add(1));
+    assertEquals(100_001L, filter.size());
+  }
+
+  @Test
+  @DisplayName("해시 집합 필터는 동시에 추가해도 각 식별자를 한 번만 새것으로 판정함")
+  @Timeout(30)
+  void hashSetIsThreadSafe() {
+    DuplicateFilter filter = DuplicateFilter.hashSet(16);
+    AtomicLong firstSeen = new AtomicLong(0);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      futures.add(CompletableFuture.runAsync(() -> {
+        for (long id = 0; id < 20_000; id++) {
+          if (filter.add(id)) {
+            firstSeen.incrementAndGet();
+          }
+        }
+      }, executor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    executor.shutdown();
+
+    assertEquals(20_000L, firstSeen.get());
+    assertEquals(20_000L, filter.size());
+  }
+
+  @Test
+  @DisplayName("Bloom 필터는 중복을 놓치지 않고 오탐률이 설정값 근처로 유지됨")
+  void bloomFalsePositiveRateBounded() {
+    DuplicateFilter filter = DuplicateFilter.bloom(100_000, 0.01);
+
+    for (long id = 0; id < 100_000; id++) {
+      filter.add(id);
+    }
+    for (long id = 0; id < 100_000; id++) {
+      assertFalse(filter.add(id), "이미 본 식별자를 새것으로 판정함: " + id);
+    }
+
+    int falsePositives = 0;
+    for (long id = 1_000_000; id < 1_010_000; id++) {
+      if (!filter.add(id)) {
+        falsePositives++;
+      }
+    }
+    // 확인용 추가로 필터가 조금씩 차므로 여유를 두고 확인
+    assertTrue(falsePositives < 10_000 * 0.03, "오탐이 너무 많음: " + falsePositives);
+  }
+}
@@ -0,0 +1,174 @@
+package me.hanju.webcollectorbase.core.hedge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+class HedgerTest {
+
+  private static final HedgePolicy POLICY = new HedgePolicy(0.9, Duration.ofMillis(5), 0.5, 100, 20);
+
+  private static void warmUp(Hedger hedger, int calls) {
+    for (int i = 0; i < calls; i++) {
+      hedger.call(() -> {
+        Thread.sleep(1);
+        return "fast";
+      });
+    }
+  }
+
+  @Test
+  @DisplayName("기준 지연 시간을 넘긴 요청은 헤지 결과로 끝나고 원래 요청은 인터럽트됨")
+  @Timeout(10)
+  void slowRequestIsHedgedAndLoserCancelled() throws Exception {
+    try (Hedger hedger = new Hedger(POLICY)) {
+      warmUp(hedger, 30);
+      HedgeStats before = hedger.stats();
+
+      AtomicInteger attempts = new AtomicInteger(0);
+      AtomicReference<Thread> primaryThread = new AtomicReference<>();
+      CountDownLatch loserInterrupted = new CountDownLatch(1);
+      long start = System.nanoTime();
+
+      String result = hedger.call(() -> {
+        if (attempts.incrementAndGet() == 1) {
+          primaryThread.set(Thread.currentThread());
+          try {
+            Thread.sleep(5_000);
+          } catch (InterruptedException e) {
+            loserInterrupted.countDown();
+            throw e;
+          }
+          return "straggler";
+        }
+        return "hedge";
+      });
+
+      assertEquals("hedge", result);
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2), "헤지 결과로 빨리 끝나야 함");
+      assertTrue(loserInterrupted.await(2, TimeUnit.SECONDS), "늦은 요청은 취소되어야 함");
+      assertNotSame(Thread.currentThread(), primaryThread.get(), "원래 요청은 전용 스레드에서 실행되어야 함");
+      assertFalse(Thread.currentThread().isInterrupted(), "취소용 인터럽트가 호출 스레드에 남으면 안 됨");
+
+      HedgeStats stats = hedger.stats();
+      // 부하가 큰 환경에서는 워밍업 요청도 헤징될 수 있으므로 증가분만 확인
+      assertEquals(1L, stats.hedgeCount() - before.hedgeCount());
+      assertEquals(1L, stats.hedgeWinCount() - before.hedgeWinCount());
+      assertTrue(stats.thresholdMillis() >= 5);
+    }
+  }
+
+  @Test
+  @DisplayName("헤지 요청 수는 추가 부하 한도를 넘지 않음")
+  @Timeout(20)
+  void hedgesAreCappedByBudget() {
+    try (Hedger hedger = new Hedger(POLICY.withMaxHedgeRatio(0.1))) {
+      warmUp(hedger, 30);
+
+      // 모든 요청이 기준보다 느림
+      for (int i = 0; i < 30; i++) {
+        hedger.call(() -> {
+          Thread.sleep(30);
+          return "slow";
+        });
+      }
+
+      HedgeStats stats = hedger.stats();
+      assertEquals(60L, stats.requestCount());
+      assertTrue(stats.hedgeCount() > 0);
+      assertTrue(stats.hedgeCount() <= 6, "헤지 수가 한도(10%)를 넘음: " + stats.hedgeCount());
+      assertTrue(stats.budgetDenied() > 0);
+      assertTrue(stats.hedgeRate() <= 0.1);
+    }
+  }
+
+  @Test
+  @DisplayName("두 요청이 모두 실패하면 예외를 그대로 전달함")
+  @Timeout(10)
+  void failurePropagatesWhenAllAttemptsFail() {
+    try (Hedger hedger = new Hedger(POLICY)) {
+      IllegalStateException failure = new IllegalStateException("upstream down");
+
+      IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> hedger.call(() -> {
+        throw failure;
+      }));
+
+      assertSame(failure, thrown);
+      assertEquals(0L, hedger.stats().hedgeCount());
+    }
+  }
+
+  @Test
+  @DisplayName("인터럽트에 반응하지 않는 원래 요청이 져도 헤지 결과로 바로 반환함")
+  @Timeout(10)
+  void returnsWithoutWaitingForUninterruptibleLoser() {
+    try (Hedger hedger = new Hedger(POLICY)) {
+      warmUp(hedger, 30);
+
+      AtomicInteger attempts = new AtomicInteger(0);
+      CountDownLatch release = new CountDownLatch(1);
+      long start = System.nanoTime();
+
+      String result = hedger.call(() -> {
+        if (attempts.incrementAndGet() == 1) {
+          // 블로킹 소켓처럼 인터럽트를 무시
+          while (true) {
+            try {
+              release.await();
+              return "straggler";
+            } catch (InterruptedException ignored) {
+              // 계속 대기
+            }
+          }
+        }
+        return "hedge";
+      });
+
+      assertEquals("hedge", result);
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2), "지는 요청을 기다리면 안 됨");
+      release.countDown();
+    }
+  }
+
+  @Test
+  @DisplayName("기다리는 중 다른 쪽에서 보낸 인터럽트는 지우지 않음")
+  @Timeout(10)
+  void keepsInterruptsItDidNotSend() throws Exception {
+    try (Hedger hedger = new Hedger(POLICY)) {
+      warmUp(hedger, 30);
+
+      Thread caller = Thread.currentThread();
+      Thread interrupter = new Thread(() -> {
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          return;
+        }
+        caller.interrupt();
+      });
+      interrupter.start();
+
+      assertThrows(BatchExecutionException.class, () -> hedger.call(() -> {
+        Thread.sleep(5_000);
+        return "slow";
+      }));
+      assertTrue(Thread.interrupted(), "아이템 제한 시간 등이 보낸 인터럽트는 유지되어야 함");
+      interrupter.join();
+    }
+  }
+}
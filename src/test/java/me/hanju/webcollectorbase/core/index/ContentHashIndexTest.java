@@ -0,0 +1,96 @@
+package me.hanju.webcollectorbase.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentHashIndexTest {
+
+  @Test
+  @DisplayName("기록한 해시는 파일을 다시 열어도 유지됨")
+  void persistsAcrossReopen(@TempDir Path dir) {
+    Path file = dir.resolve("hashes.idx");
+
+    try (ContentHashIndex index = ContentHashIndex.open(file, 1_000)) {
+      for (long key = 0; key < 500; key++) {
+        assertTrue(index.putIfChanged(key, ContentHashes.hash64("body-" + key)));
+      }
+      assertEquals(500L, index.size());
+    }
+
+    try (ContentHashIndex index = ContentHashIndex.open(file, 10)) {
+      assertEquals(500L, index.size());
+      for (long key = 0; key < 500; key++) {
+        assertTrue(index.isUnchanged(key, ContentHashes.hash64("body-" + key)));
+      }
+      assertFalse(index.isUnchanged(7, ContentHashes.hash64("body-7 edited")));
+      assertFalse(index.isUnchanged(9_999, 1L));
+    }
+  }
+
+  @Test
+  @DisplayName("putIfChanged는 처음 보거나 바뀐 경우만 true")
+  void putIfChangedDetectsChanges(@TempDir Path dir) {
+    try (ContentHashIndex index = ContentHashIndex.open(dir.resolve("hashes.idx"), 100)) {
+      assertTrue(index.putIfChanged(42, 0L));
+      assertFalse(index.putIfChanged(42, 0L));
+      assertTrue(index.putIfChanged(42, 123L));
+      assertFalse(index.putIfChanged(42, 123L));
+      assertEquals(123L, index.get(42));
+      assertEquals(0L, index.get(43));
+    }
+  }
+
+  @Test
+  @DisplayName("여러 스레드에서 동시에 기록해도 키마다 한 번만 새것으로 판정됨")
+  @Timeout(30)
+  void concurrentWritersSeeEachKeyOnce(@TempDir Path dir) {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    AtomicLong changed = new AtomicLong(0);
+
+    try (ContentHashIndex index = ContentHashIndex.open(dir.resolve("hashes.idx"), 50_000)) {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(CompletableFuture.runAsync(() -> {
+          for (long key = 1; key <= 20_000; key++) {
+            if (index.putIfChanged(key, key * 31)) {
+              changed.incrementAndGet();
+            }
+          }
+        }, executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+      assertEquals(20_000L, changed.get());
+      assertEquals(20_000L, index.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("최대 항목 수를 넘으면 예외 발생")
+  void throwsWhenFull(@TempDir Path dir) {
+    try (ContentHashIndex index = ContentHashIndex.open(dir.resolve("hashes.idx"), 16)) {
+      assertThrows(IllegalStateException.class, () -> {
+        for (long key = 1; key <= 1_000; key++) {
+          index.put(key, key);
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package me.hanju.webcollectorbase.core.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.hanju.webcollectorbase.core.AbstractPageProcessor;
+import me.hanju.webcollectorbase.core.IntPageCriteria;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+class JfrEventsTest {
+
+  private static final String PREFIX = "me.hanju.webcollectorbase.";
+
+  private static AbstractPageProcessor<IntPageCriteria> pageProcessor(final int totalPage) {
+    AbstractPageProcessor<IntPageCriteria> processor = new AbstractPageProcessor<>() {
+      @Override
+      protected int fetchTotalPage(IntPageCriteria criteria) {
+        return totalPage;
+      }
+
+      @Override
+      protected PageInfo processPage(IntPageCriteria criteria) {
+        if (criteria.page() == 3) {
+          throw new IllegalStateException("page 3");
+        }
+        return new PageInfo(totalPage, null, 1);
+      }
+
+      @Override
+      protected void saveBatch() {
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+    return processor;
+  }
+
+  @Test
+  @DisplayName("기록 중이면 배치 번호와 페이지 번호가 담긴 조회/아이템/대기/flush 이벤트를 남김")
+  @Timeout(30)
+  void emitsCorrelatedEvents(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("run.jfr");
+    try (Recording recording = new Recording()) {
+      for (String name : List.of("BatchFetch", "BatchAwait", "ItemProcess", "Flush", "FlushPermitWait",
+          "TotalPageFetch")) {
+        recording.enable(PREFIX + name).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+      pageProcessor(5).process(2);
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    List<RecordedEvent> items = byName(events, "ItemProcess");
+
+    assertEquals(1, byName(events, "TotalPageFetch").size());
+    assertEquals(5, byName(events, "TotalPageFetch").get(0).getInt("totalPage"));
+    assertEquals(4, byName(events, "BatchFetch").size(), "3개 배치 + 마지막 빈 배치");
+    assertEquals(3, byName(events, "BatchAwait").size());
+    assertEquals(3, byName(events, "FlushPermitWait").size());
+    assertEquals(Set.of(1, 2, 3), byName(events, "Flush").stream()
+        .map(event -> event.getInt("batch")).collect(Collectors.toSet()));
+    assertEquals(Set.of(1, 2, 3, 4, 5), items.stream()
+        .map(event -> event.getInt("page")).collect(Collectors.toSet()));
+    RecordedEvent failed = items.stream().filter(event -> event.getInt("page") == 3).findFirst().orElseThrow();
+    assertEquals(2, failed.getInt("batch"));
+    assertTrue(!failed.getBoolean("success"));
+  }
+
+  @Test
+  @DisplayName("기록하지 않을 때는 이벤트가 비활성이고 처리 결과는 같음")
+  @Timeout(10)
+  void noRecordingLeavesProcessingUnchanged() {
+    assertTrue(!ItemProcessEvent.recording());
+
+    assertEquals(4L, pageProcessor(5).process(2).successCount());
+  }
+
+  private static List<RecordedEvent> byName(final List<RecordedEvent> events, final String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(PREFIX + name)).toList();
+  }
+}
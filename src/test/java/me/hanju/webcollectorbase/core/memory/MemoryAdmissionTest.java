@@ -0,0 +1,145 @@
+package me.hanju.webcollectorbase.core.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class MemoryAdmissionTest {
+
+  private static final long MAX = 1_000L;
+  private static final MemoryPressurePolicy POLICY = MemoryPressurePolicy.ofHeapWatermarks(0.6, 0.8);
+
+  @Test
+  @Timeout(5)
+  @DisplayName("highWatermark를 넘으면 정지하고 lowWatermark 아래로 내려가야 재개하며, 그 사이에서는 flush가 모두 끝나야 발급함")
+  void pausesAboveHighAndSlowsDownBetweenWatermarks() {
+    AtomicLong used = new AtomicLong(100);
+    MemoryAdmission admission = new MemoryAdmission(POLICY, used::get, MAX);
+
+    assertTrue(admission.awaitAdmission(Duration.ZERO));
+    assertEquals(MemoryAdmission.State.NORMAL, admission.getState());
+
+    used.set(850);
+    assertFalse(admission.awaitAdmission(Duration.ofMillis(20)));
+    assertEquals(MemoryAdmission.State.PAUSED, admission.getState());
+
+    used.set(700);
+    assertFalse(admission.awaitAdmission(Duration.ofMillis(20)), "lowWatermark 위에서는 정지 상태 유지");
+
+    used.set(500);
+    assertTrue(admission.awaitAdmission(Duration.ZERO));
+
+    used.set(700);
+    admission.reserve(0L);
+    assertFalse(admission.awaitAdmission(Duration.ofMillis(20)));
+    assertEquals(MemoryAdmission.State.SLOW, admission.getState());
+    admission.release(0L);
+    assertTrue(admission.awaitAdmission(Duration.ZERO));
+    assertEquals(1L, admission.getPauseCount());
+  }
+
+  @Test
+  @Timeout(5)
+  @DisplayName("무게 한도를 넘으면 release가 깨울 때까지 기다리고, maxPause를 넘기면 강제로 발급함")
+  void pendingWeightBlocksUntilReleaseAndMaxPauseForcesProgress() throws InterruptedException {
+    AtomicLong used = new AtomicLong(100);
+    MemoryAdmission admission = new MemoryAdmission(
+        POLICY.withMaxPendingWeight(10).withMaxPause(Duration.ofMillis(200)), used::get, MAX);
+
+    admission.reserve(10L);
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      admission.release(10L);
+    });
+    releaser.start();
+    assertTrue(admission.awaitAdmission(Duration.ofSeconds(1)));
+    releaser.join();
+    assertEquals(0L, admission.getForcedCount());
+
+    used.set(900);
+    long start = System.nanoTime();
+    while (!admission.awaitAdmission(Duration.ofMillis(50))) {
+      // 종료 요청 확인 주기
+    }
+    assertTrue(System.nanoTime() - start >= Duration.ofMillis(200).toNanos());
+    assertEquals(1L, admission.getForcedCount());
+    assertTrue(admission.getWaitTime().toMillis() >= 200);
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("정지 중 GC 직후 사용량이 갱신되지 않아도 flush가 놓은 메모리가 수거되면 현재 힙 사용량으로 재개함")
+  void resumesFromCurrentHeapUsageAfterFlushReleasesMemory() {
+    final long max = MemoryAdmission.heapMax();
+    System.gc();
+    final long baseline = MemoryAdmission.heapUsed().getAsLong();
+    final long ballast = Math.min(max / 4, 256L << 20);
+    final double low = (baseline + ballast / 2.0) / max;
+    final double high = (baseline + ballast * 3 / 4.0) / max;
+    assumeTrue(high < 1.0, "힙 여유가 부족함");
+    // 정지한 뒤 GC가 없어 갱신되지 않은 GC 직후 사용량
+    MemoryAdmission admission = new MemoryAdmission(
+        MemoryPressurePolicy.ofHeapWatermarks(low, high).withMaxPause(Duration.ofMinutes(1)),
+        () -> max, MemoryAdmission.heapUsed(), max);
+
+    List<byte[]> batch = new ArrayList<>();
+    for (long allocated = 0; allocated < ballast; allocated += 1 << 20) {
+      batch.add(new byte[1 << 20]);
+    }
+    admission.reserve(batch.size());
+    assertFalse(admission.awaitAdmission(Duration.ofMillis(50)));
+    assertEquals(MemoryAdmission.State.PAUSED, admission.getState());
+    assertFalse(admission.awaitAdmission(Duration.ofMillis(50)), "flush 전에는 현재 사용량도 lowWatermark 이상");
+
+    final int weight = batch.size();
+    batch.clear();
+    System.gc();
+    admission.release(weight);
+
+    assertTrue(admission.awaitAdmission(Duration.ofSeconds(5)));
+    assertEquals(MemoryAdmission.State.NORMAL, admission.getState());
+    assertEquals(0L, admission.getForcedCount());
+  }
+
+  @Test
+  @Timeout(5)
+  @DisplayName("여러 인스턴스가 풀 한도를 함께 쓰면 마지막 인스턴스가 close할 때만 한도를 되돌림")
+  void thresholdsAreResetByLastInstanceOnly() {
+    MemoryAdmission first = new MemoryAdmission(POLICY, () -> 0L, MAX);
+    MemoryAdmission second = new MemoryAdmission(POLICY, () -> 0L, MAX);
+    first.start();
+    second.start();
+    try {
+      for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+            && pool.getCollectionUsageThreshold() > 0) {
+          first.close();
+          assertTrue(pool.getCollectionUsageThreshold() > 0, "다른 인스턴스가 사용 중인 한도는 유지");
+          second.close();
+          assertEquals(0L, pool.getCollectionUsageThreshold());
+          return;
+        }
+      }
+    } finally {
+      first.close();
+      second.close();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package me.hanju.webcollectorbase.core.progress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class LatencyHistogramTest {
+
+  @Test
+  @DisplayName("기록이 없으면 빈 요약을 반환")
+  void emptySnapshot() {
+    assertEquals(LatencySnapshot.EMPTY, new LatencyHistogram().snapshot());
+  }
+
+  @Test
+  @DisplayName("분위 값은 실제 분포와의 상대 오차가 구간 폭 안에 있음")
+  void percentilesWithinBucketError() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    // 1ms ~ 1000ms 균등 분포
+    for (int millis = 1; millis <= 1000; millis++) {
+      histogram.record(Duration.ofMillis(millis).toNanos());
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+
+    assertEquals(1000L, snapshot.count());
+    assertWithin(500, snapshot.p50());
+    assertWithin(900, snapshot.p90());
+    assertWithin(990, snapshot.p99());
+    assertEquals(Duration.ofMillis(1000), snapshot.max());
+    assertWithin(500, snapshot.mean());
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 기록해도 나누어 기록한 구간을 모두 합산함")
+  @Timeout(30)
+  void concurrentRecordsAreNotLost() throws InterruptedException {
+    LatencyHistogram histogram = new LatencyHistogram();
+    int threads = 8;
+    int perThread = 100_000;
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> writers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Thread writer = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        for (int i = 0; i < perThread; i++) {
+          histogram.record(1_000_000L);
+        }
+      });
+      writer.start();
+      writers.add(writer);
+    }
+    start.countDown();
+    for (Thread writer : writers) {
+      writer.join();
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals((long) threads * perThread, snapshot.count());
+    assertWithin(1, snapshot.p99());
+    assertEquals(Duration.ofMillis(1), snapshot.max());
+  }
+
+  @Test
+  @DisplayName("구간 번호와 대표 값이 전 범위에서 단조 증가함")
+  void bucketsAreMonotonic() {
+    long previous = -1;
+    for (int i = 0; i < LatencyHistogram.index(Long.MAX_VALUE); i++) {
+      long midpoint = LatencyHistogram.midpoint(i);
+      assertTrue(midpoint > previous, "구간 " + i);
+      assertEquals(i, LatencyHistogram.index(midpoint), "대표 값은 자기 구간에 속해야 함: " + i);
+      previous = midpoint;
+    }
+  }
+
+  private static void assertWithin(final long expectedMillis, final Duration actual) {
+    double error = Math.abs(actual.toNanos() - expectedMillis * 1_000_000.0) / (expectedMillis * 1_000_000.0);
+    assertTrue(error <= 0.07, "expected ~" + expectedMillis + "ms but was " + actual);
+  }
+}
@@ -0,0 +1,327 @@
+package me.hanju.webcollectorbase.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import me.hanju.webcollectorbase.core.IntPageCriteria;
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * AbstractHttpPageProcessor를 로컬 HTTP 서버로 검증하는 테스트.
+ */
+class AbstractHttpPageProcessorTest {
+
+  private static final int TOTAL_PAGE = 6;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private final Map<Integer, String> acceptEncodings = new ConcurrentHashMap<>();
+  private final Map<Integer, Integer> versionedRequests = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/articles", this::handleArticles);
+    server.createContext("/versioned", this::handleVersioned);
+    serverExecutor = Executors.newFixedThreadPool(4);
+    server.setExecutor(serverExecutor);
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  /**
+   * page 파라미터에 해당하는 "article-{page}-{n}" 목록을 페이지마다 다른 인코딩으로 응답합니다.
+   * 5페이지는 500 오류를 반환합니다.
+   */
+  private void handleArticles(HttpExchange exchange) throws IOException {
+    int page = Integer.parseInt(exchange.getRequestURI().getQuery().substring("page=".length()));
+    acceptEncodings.put(page, String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")));
+
+    if (page == 5) {
+      exchange.sendResponseHeaders(500, -1);
+      exchange.close();
+      return;
+    }
+
+    StringBuilder body = new StringBuilder("totalPage=" + TOTAL_PAGE + "\n");
+    for (int n = 1; n <= 3; n++) {
+      body.append("article-").append(page).append('-').append(n).append('\n');
+    }
+    byte[] raw = body.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] encoded;
+    switch (page % 3) {
+      case 0 -> {
+        encoded = raw;
+      }
+      case 1 -> {
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+          out.write(raw);
+        }
+        encoded = bytes.toByteArray();
+      }
+      default -> {
+        exchange.getResponseHeaders().set("Content-Encoding", "deflate");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+          out.write(raw);
+        }
+        encoded = bytes.toByteArray();
+      }
+    }
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+    exchange.sendResponseHeaders(200, encoded.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(encoded);
+    }
+  }
+
+  /**
+   * page마다 ETag가 붙은 응답을 보내고, If-None-Match가 일치하면 304를 반환합니다.
+   * 2페이지는 두 번째 요청부터 내용이 바뀝니다.
+   */
+  private void handleVersioned(HttpExchange exchange) throws IOException {
+    int page = Integer.parseInt(exchange.getRequestURI().getQuery().substring("page=".length()));
+    int version = page == 2 ? versionedRequests.merge(page, 1, Integer::sum) : 1;
+    String etag = "\"p" + page + "-v" + Math.min(version, 2) + "\"";
+    if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    byte[] body = ("totalPage=3\narticle-" + page + "-v" + Math.min(version, 2) + "\n").getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("ETag", etag);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  /**
+   * 응답의 article 줄을 버퍼에 모으는 프로세서.
+   */
+  class ArticleProcessor extends AbstractHttpPageProcessor<IntPageCriteria> {
+    final List<String> buffer = Collections.synchronizedList(new ArrayList<>());
+    final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+    private final String path;
+
+    ArticleProcessor() {
+      this("/articles");
+    }
+
+    ArticleProcessor(String path) {
+      this.path = path;
+    }
+
+    @Override
+    protected HttpRequest.Builder createRequest(IntPageCriteria criteria) {
+      URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path + "?page=" + criteria.page());
+      return HttpRequest.newBuilder(uri);
+    }
+
+    @Override
+    protected int parseTotalPage(HttpPageResponse response) {
+      String firstLine = response.bodyAsString().lines().findFirst().orElseThrow();
+      return Integer.parseInt(firstLine.substring("totalPage=".length()));
+    }
+
+    @Override
+    protected PageInfo parsePage(IntPageCriteria criteria, HttpPageResponse response) {
+      List<String> articles = response.bodyAsString().lines()
+          .filter(line -> line.startsWith("article-"))
+          .toList();
+      buffer.addAll(articles);
+      return new PageInfo(null, null, articles.size());
+    }
+
+    @Override
+    protected void saveBatch() {
+      synchronized (buffer) {
+        saved.addAll(buffer);
+        buffer.clear();
+      }
+    }
+
+    @Override
+    public Executor getExecutor() {
+      return Executors.newFixedThreadPool(3);
+    }
+  }
+
+  @Test
+  @DisplayName("압축된 응답을 해제하여 파싱하고, 오류 응답은 실패로 집계함")
+  @Timeout(30)
+  void collectsCompressedPagesEndToEnd() {
+    ArticleProcessor processor = new ArticleProcessor();
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    ItemProcessedResult result = processor.process(3);
+
+    assertEquals(6L, result.totalProcessed());
+    assertEquals(5L, result.successCount());
+    assertEquals(1L, result.failureCount());
+    assertEquals(15, processor.saved.size());
+    for (int page : new int[] {1, 2, 3, 4, 6}) {
+      for (int n = 1; n <= 3; n++) {
+        String article = "article-" + page + "-" + n;
+        assertTrue(processor.saved.contains(article), article + "이(가) 저장되지 않음");
+      }
+    }
+    acceptEncodings.values().forEach(value -> assertTrue(value.contains("gzip"), "gzip 요청 헤더 누락: " + value));
+  }
+
+  @Test
+  @DisplayName("2xx가 아닌 응답은 상태 코드를 담은 HttpStatusException으로 실패함")
+  @Timeout(30)
+  void nonSuccessStatusThrows() {
+    ArticleProcessor processor = new ArticleProcessor();
+
+    HttpStatusException thrown = assertThrows(HttpStatusException.class,
+        () -> processor.send(new IntPageCriteria(5)));
+
+    assertEquals(500, thrown.getStatusCode());
+  }
+
+  @Test
+  @DisplayName("응답 캐시가 있으면 조건부 요청을 보내고 304 페이지는 파싱하지 않음")
+  @Timeout(30)
+  void revalidatesWithResponseCache(@TempDir Path dir) {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 1_000_000);
+    class CachingProcessor extends ArticleProcessor {
+      CachingProcessor() {
+        super("/versioned");
+      }
+
+      @Override
+      protected DiskResponseCache getResponseCache() {
+        return cache;
+      }
+    }
+
+    CachingProcessor firstRun = new CachingProcessor();
+    firstRun.setBaseCriteria(new IntPageCriteria(1));
+    firstRun.process(3);
+    assertEquals(List.of("article-1-v1", "article-2-v1", "article-3-v1"), firstRun.saved.stream().sorted().toList());
+    assertEquals(0L, firstRun.getNotModifiedCount());
+
+    CachingProcessor secondRun = new CachingProcessor();
+    secondRun.setBaseCriteria(new IntPageCriteria(1));
+    ItemProcessedResult result = secondRun.process(3);
+
+    // 전체 페이지 수 조회는 캐시된 본문으로 파싱, 바뀐 2페이지만 다시 저장
+    assertEquals(3L, result.successCount());
+    assertEquals(List.of("article-2-v2"), secondRun.saved);
+    assertEquals(3L, secondRun.getNotModifiedCount());
+  }
+
+  @Test
+  @DisplayName("배치 저장에 실패한 페이지는 응답 캐시에 기록하지 않아 다음 실행에서 다시 수집함")
+  @Timeout(30)
+  void failedSaveIsNotCached(@TempDir Path dir) {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 1_000_000);
+    AtomicBoolean failSave = new AtomicBoolean(true);
+    class FlakyProcessor extends ArticleProcessor {
+      FlakyProcessor() {
+        super("/versioned");
+      }
+
+      @Override
+      protected DiskResponseCache getResponseCache() {
+        return cache;
+      }
+
+      @Override
+      protected void saveBatch() {
+        if (failSave.get()) {
+          buffer.clear();
+          throw new IllegalStateException("db down");
+        }
+        super.saveBatch();
+      }
+    }
+
+    FlakyProcessor firstRun = new FlakyProcessor();
+    firstRun.setBaseCriteria(new IntPageCriteria(1));
+    firstRun.process(3);
+    assertEquals(0, cache.size());
+
+    failSave.set(false);
+    FlakyProcessor secondRun = new FlakyProcessor();
+    secondRun.setBaseCriteria(new IntPageCriteria(1));
+    secondRun.process(3);
+
+    assertEquals(3, secondRun.saved.size());
+    assertEquals(0L, secondRun.getNotModifiedCount());
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  @DisplayName("GET이 아닌 요청은 응답 캐시에 저장하거나 조건부로 보내지 않음")
+  @Timeout(30)
+  void cachesOnlyGetRequests(@TempDir Path dir) {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 1_000_000);
+    class PostProcessor extends ArticleProcessor {
+      PostProcessor() {
+        super("/versioned");
+      }
+
+      @Override
+      protected HttpRequest.Builder createRequest(IntPageCriteria criteria) {
+        return super.createRequest(criteria).POST(HttpRequest.BodyPublishers.ofString("page=" + criteria.page()));
+      }
+
+      @Override
+      protected DiskResponseCache getResponseCache() {
+        return cache;
+      }
+    }
+
+    for (int run = 0; run < 2; run++) {
+      PostProcessor processor = new PostProcessor();
+      processor.setBaseCriteria(new IntPageCriteria(1));
+      processor.process(3);
+      assertEquals(3, processor.saved.size());
+      assertEquals(0L, processor.getNotModifiedCount());
+    }
+    assertEquals(0, cache.size());
+  }
+}
@@ -0,0 +1,191 @@
+package me.hanju.webcollectorbase.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import me.hanju.webcollectorbase.core.IntPageCriteria;
+import me.hanju.webcollectorbase.core.dto.ItemProcessedResult;
+import me.hanju.webcollectorbase.core.dto.PageInfo;
+
+/**
+ * AbstractStreamingHttpPageProcessor가 응답을 끝까지 받기 전에 아이템을 내보내는지 검증하는 테스트.
+ */
+class AbstractStreamingHttpPageProcessorTest {
+
+  private static final int LINES_PER_PAGE = 2_000;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private final CountDownLatch firstItemEmitted = new CountDownLatch(1);
+  private final AtomicBoolean emittedBeforeResponseEnd = new AtomicBoolean(false);
+  private final AtomicInteger firstPageRequests = new AtomicInteger(0);
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/articles", this::handleArticles);
+    serverExecutor = Executors.newFixedThreadPool(4);
+    server.setExecutor(serverExecutor);
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  /**
+   * gzip 청크 응답의 앞 절반을 보낸 뒤, 1페이지 처리 요청(전체 페이지 수 조회 다음 요청)은
+   * 클라이언트가 첫 아이템을 내보낼 때까지 나머지를 보내지 않습니다.
+   */
+  private void handleArticles(HttpExchange exchange) throws IOException {
+    int page = Integer.parseInt(exchange.getRequestURI().getQuery().substring("page=".length()));
+    boolean holdSecondHalf = page == 1 && firstPageRequests.incrementAndGet() == 2;
+    exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+    exchange.sendResponseHeaders(200, 0);
+
+    try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody(), true)) {
+      out.write("totalPage=3\n".getBytes(StandardCharsets.UTF_8));
+      for (int n = 1; n <= LINES_PER_PAGE; n++) {
+        if (n == LINES_PER_PAGE / 2) {
+          out.flush();
+          if (holdSecondHalf) {
+            try {
+              emittedBeforeResponseEnd.set(firstItemEmitted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        }
+        out.write(("article-" + page + "-" + n + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  class ArticleStreamProcessor extends AbstractStreamingHttpPageProcessor<IntPageCriteria, String> {
+    final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    protected HttpRequest.Builder createRequest(IntPageCriteria criteria) {
+      URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/articles?page=" + criteria.page());
+      return HttpRequest.newBuilder(uri);
+    }
+
+    @Override
+    protected int parseTotalPage(HttpPageStream response) throws IOException {
+      String firstLine = response.reader().readLine();
+      return Integer.parseInt(firstLine.substring("totalPage=".length()));
+    }
+
+    @Override
+    protected PageInfo parsePage(IntPageCriteria criteria, HttpPageStream response, Consumer<String> emitter)
+        throws IOException {
+      BufferedReader reader = response.reader();
+      int count = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith("article-")) {
+          emitter.accept(line);
+          firstItemEmitted.countDown();
+          count++;
+        }
+      }
+      return new PageInfo(null, null, count);
+    }
+
+    @Override
+    protected void saveItems(List<String> items) {
+      saved.addAll(items);
+    }
+  }
+
+  @Test
+  @DisplayName("응답을 끝까지 받기 전에 아이템을 내보내고, 모든 아이템을 저장함")
+  @Timeout(30)
+  void emitsItemsWhileResponseIsStreaming() {
+    ArticleStreamProcessor processor = new ArticleStreamProcessor();
+    processor.setBaseCriteria(new IntPageCriteria(1));
+
+    ItemProcessedResult result = processor.process(2);
+
+    assertEquals(3L, result.successCount());
+    assertTrue(emittedBeforeResponseEnd.get(), "응답 본문을 모두 받기 전에 첫 아이템이 나와야 함");
+    assertEquals(3 * LINES_PER_PAGE, processor.saved.size());
+    assertEquals("article-1-1", processor.saved.get(0));
+  }
+  @Test
+  @DisplayName("비동기 flush는 자기 배치의 아이템만 저장함")
+  @Timeout(30)
+  void asyncFlushSavesOnlyItsOwnBatch() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Set<String>> pagesPerSave = Collections.synchronizedList(new ArrayList<>());
+    ArticleStreamProcessor processor = new ArticleStreamProcessor() {
+      @Override
+      protected void saveItems(List<String> items) {
+        // 느린 flush 동안 다음 배치의 페이지가 버퍼에 쌓이도록 대기
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        pagesPerSave.add(items.stream().map(item -> item.substring(0, item.lastIndexOf('-')))
+            .collect(Collectors.toSet()));
+        super.saveItems(items);
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+
+      @Override
+      public int getMaxPendingFlushes() {
+        return 3;
+      }
+    };
+    processor.setBaseCriteria(new IntPageCriteria(1));
+    firstItemEmitted.countDown();
+
+    try {
+      processor.process(1);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(3 * LINES_PER_PAGE, processor.saved.size());
+    assertEquals(Set.of(Set.of("article-1"), Set.of("article-2"), Set.of("article-3")), Set.copyOf(pagesPerSave));
+    assertEquals(3, pagesPerSave.size());
+  }
+}
@@ -0,0 +1,105 @@
+package me.hanju.webcollectorbase.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskResponseCacheTest {
+
+  private static URI uri(int page) {
+    return URI.create("https://api.example.com/articles?page=" + page);
+  }
+
+  private static CachedResponse response(int page, int size) {
+    return new CachedResponse("\"v" + page + "\"", null, "application/json", new byte[size]);
+  }
+
+  @Test
+  @DisplayName("저장한 응답을 다시 열어도 읽을 수 있음")
+  void persistsAcrossReopen(@TempDir Path dir) {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 1_000_000);
+    byte[] body = "{\"items\":[1,2,3]}".getBytes();
+    cache.put(uri(1), new CachedResponse("\"abc\"", "Tue, 01 Sep 2026 00:00:00 GMT", "application/json", body));
+
+    CachedResponse loaded = DiskResponseCache.open(dir, 1_000_000).get(uri(1));
+
+    assertNotNull(loaded);
+    assertEquals("\"abc\"", loaded.etag());
+    assertEquals("Tue, 01 Sep 2026 00:00:00 GMT", loaded.lastModified());
+    assertEquals("application/json", loaded.contentType());
+    assertArrayEquals(body, loaded.body());
+    assertNull(cache.get(uri(2)));
+  }
+
+  @Test
+  @DisplayName("크기 제한을 넘으면 가장 오래 사용하지 않은 응답부터 제거함")
+  void evictsLeastRecentlyUsed(@TempDir Path dir) {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 3_500);
+    cache.put(uri(1), response(1, 1_000));
+    cache.put(uri(2), response(2, 1_000));
+    cache.put(uri(3), response(3, 1_000));
+
+    // 1번을 사용하여 가장 최근으로 만든 뒤 4번 저장
+    assertNotNull(cache.get(uri(1)));
+    cache.put(uri(4), response(4, 1_000));
+
+    assertNull(cache.get(uri(2)), "가장 오래 사용하지 않은 응답이 제거되어야 함");
+    assertNotNull(cache.get(uri(1)));
+    assertNotNull(cache.get(uri(4)));
+    assertEquals(3, cache.size());
+    assertTrue(cache.totalBytes() <= 3_500);
+  }
+
+  @Test
+  @DisplayName("잘린 응답 파일은 캐시 미스로 처리하고 제거함")
+  void truncatedEntryIsMiss(@TempDir Path dir) throws IOException {
+    DiskResponseCache cache = DiskResponseCache.open(dir, 1_000_000);
+    cache.put(uri(1), response(1, 1_000));
+    Path file = single(dir);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(file) - 10);
+    }
+
+    assertNull(cache.get(uri(1)));
+    assertEquals(0, cache.size());
+    assertEquals(0L, cache.totalBytes());
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  @DisplayName("저장 도중 남은 임시 파일은 다시 열 때 삭제함")
+  void removesOrphanedTempFiles(@TempDir Path dir) throws IOException {
+    DiskResponseCache.open(dir, 1_000_000).put(uri(1), response(1, 100));
+    Path orphan = Files.createFile(dir.resolve("abc.cache1234.tmp"));
+
+    DiskResponseCache reopened = DiskResponseCache.open(dir, 1_000_000);
+
+    assertFalse(Files.exists(orphan));
+    assertEquals(1, reopened.size());
+    assertNotNull(reopened.get(uri(1)));
+  }
+
+  private static Path single(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      List<Path> list = files.toList();
+      assertEquals(1, list.size());
+      return list.get(0);
+    }
+  }
+}
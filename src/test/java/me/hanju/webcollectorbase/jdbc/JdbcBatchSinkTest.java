@@ -0,0 +1,177 @@
+package me.hanju.webcollectorbase.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.webcollectorbase.core.BatchExecutionConfig.BatchExecutionException;
+
+class JdbcBatchSinkTest {
+
+  record Article(long id, String title) {
+  }
+
+  private JdbcDataSource dataSource;
+  private Connection keepAlive;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:sink" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+    keepAlive = dataSource.getConnection();
+    try (Statement statement = keepAlive.createStatement()) {
+      statement.execute("CREATE TABLE article (id BIGINT PRIMARY KEY, title VARCHAR(100))");
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    keepAlive.close();
+  }
+
+  private static List<Article> articles(int from, int to, String prefix) {
+    return IntStream.rangeClosed(from, to).mapToObj(id -> new Article(id, prefix + id)).toList();
+  }
+
+  private long count(String where) throws SQLException {
+    try (Statement statement = keepAlive.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM article WHERE " + where)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  @Test
+  @DisplayName("다중 행 문장으로 나누어 모든 행을 저장함 (문장 크기의 배수가 아닌 나머지 포함)")
+  void insertsAllRowsInMultiRowStatements() throws SQLException {
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>insert(dataSource, "article",
+        List.of("id", "title"), a -> new Object[] {a.id(), a.title()})
+        .withRowsPerStatement(50)
+        .withStatementsPerBatch(4)) {
+
+      assertEquals(1_234, sink.write(articles(1, 1_234, "t")));
+      assertEquals(1_234L, sink.getWrittenRows());
+    }
+    assertEquals(1_234L, count("1 = 1"));
+    assertEquals(1L, count("id = 1234 AND title = 't1234'"));
+  }
+
+  @Test
+  @DisplayName("upsert 방언은 같은 키의 행을 갱신함")
+  void upsertUpdatesExistingRows() throws SQLException {
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>upsert(dataSource, UpsertDialect.H2, "article",
+        List.of("id", "title"), List.of("id"), a -> new Object[] {a.id(), a.title()})
+        .withRowsPerStatement(30)) {
+      sink.write(articles(1, 100, "old"));
+      sink.write(articles(51, 150, "new"));
+    }
+    assertEquals(150L, count("1 = 1"));
+    assertEquals(50L, count("title LIKE 'old%'"));
+    assertEquals(100L, count("title LIKE 'new%'"));
+  }
+
+  @Test
+  @DisplayName("upsert는 한 번에 쓰는 행 중 같은 키의 행을 마지막 행으로 합침")
+  void upsertCollapsesDuplicateKeys() throws SQLException {
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>upsert(dataSource, UpsertDialect.H2, "article",
+        List.of("id", "title"), List.of("id"), a -> new Object[] {a.id(), a.title()})
+        .withRowsPerStatement(10)) {
+      List<Article> rows = new ArrayList<>(articles(1, 20, "first"));
+      rows.addAll(articles(5, 8, "second"));
+
+      assertEquals(20, sink.write(rows));
+      assertEquals(20L, sink.getWrittenRows());
+    }
+    assertEquals(20L, count("1 = 1"));
+    assertEquals(4L, count("title LIKE 'second%'"));
+    assertEquals(1L, count("id = 5 AND title = 'second5'"));
+  }
+
+  @Test
+  @DisplayName("행 변환이나 바인딩 중 RuntimeException도 롤백 후 BatchExecutionException으로 알림")
+  void runtimeFailureWrapped() throws SQLException {
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>insert(dataSource, "article",
+        List.of("id", "title"), a -> a.id() == 13 ? new Object[] {a.id()} : new Object[] {a.id(), a.title()})
+        .withRowsPerStatement(10)
+        .withMaxConnections(1)) {
+
+      BatchExecutionException thrown = assertThrows(BatchExecutionException.class,
+          () -> sink.write(articles(1, 25, "t")));
+      assertTrue(thrown.getCause() instanceof IllegalArgumentException);
+      assertEquals(0L, count("1 = 1"));
+
+      assertEquals(10, sink.write(articles(1, 10, "t")), "실패 후에도 연결을 얻을 수 있어야 함");
+    }
+  }
+
+  @Test
+  @DisplayName("실패한 저장은 롤백되고 예외로 알림")
+  void failedWriteRolledBack() throws SQLException {
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>insert(dataSource, "article",
+        List.of("id", "title"), a -> new Object[] {a.id(), a.title()}).withRowsPerStatement(10)) {
+      List<Article> rows = new ArrayList<>(articles(1, 25, "t"));
+      rows.add(new Article(3, "duplicate"));
+
+      assertThrows(BatchExecutionException.class, () -> sink.write(rows));
+      assertEquals(0L, count("1 = 1"), "일부만 저장되면 안 됨");
+
+      assertEquals(25, sink.write(articles(1, 25, "t")), "실패 후에도 계속 쓸 수 있어야 함");
+    }
+  }
+
+  @Test
+  @DisplayName("동시에 실행되는 flush는 최대 연결 수만큼의 연결을 재사용함")
+  @Timeout(20)
+  void concurrentWritesReuseConnections() throws Exception {
+    ExecutorService flushes = Executors.newFixedThreadPool(3);
+    try (JdbcBatchSink<Article> sink = JdbcBatchSink.<Article>insert(dataSource, "article",
+        List.of("id", "title"), a -> new Object[] {a.id(), a.title()}).withMaxConnections(3)) {
+      List<Future<Integer>> writes = new ArrayList<>();
+      for (int batch = 0; batch < 30; batch++) {
+        int from = batch * 100 + 1;
+        writes.add(flushes.submit(() -> sink.write(articles(from, from + 99, "t"))));
+      }
+      for (Future<Integer> write : writes) {
+        assertEquals(100, write.get());
+      }
+      assertTrue(sink.getOpenedConnections() <= 3, "연결을 재사용해야 함: " + sink.getOpenedConnections());
+    } finally {
+      flushes.shutdownNow();
+    }
+    assertEquals(3_000L, count("1 = 1"));
+  }
+
+  @Test
+  @DisplayName("방언별 문장을 생성함")
+  void dialectStatements() {
+    List<String> columns = List.of("id", "title");
+    List<String> keys = List.of("id");
+
+    assertEquals("INSERT INTO article (id, title) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE title = VALUES(title)",
+        UpsertDialect.MYSQL.statement("article", columns, keys, 2));
+    assertEquals("INSERT INTO article (id, title) VALUES (?, ?) ON CONFLICT (id) DO UPDATE SET title = EXCLUDED.title",
+        UpsertDialect.POSTGRESQL.statement("article", columns, keys, 1));
+    assertEquals("MERGE INTO article (id, title) KEY (id) VALUES (?, ?)",
+        UpsertDialect.H2.statement("article", columns, keys, 1));
+    assertThrows(IllegalArgumentException.class, () -> JdbcBatchSink.insert(dataSource, "article; DROP TABLE x",
+        columns, a -> new Object[0]));
+  }
+}